@@ -0,0 +1,108 @@
+package io.hhplus.ECommerce.ECommerce_project.common.cache.codec;
+
+import io.hhplus.ECommerce.ECommerce_project.common.config.cache.RedisCacheConfig;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductPageResult;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductSummary;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductPageResultCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 목록 캐시 값 직렬화 비교 (기존 Jackson + 타입 정보 vs 컴팩트 바이너리)
+ * - 실행: ./gradlew jmh
+ * - 값 크기는 Setup에서 로그로 기록 (Redis 메모리/네트워크 바이트 비교용)
+ * - 측정 결과는 아직 없음 (JMH 실행 환경에서 측정 후 PR/문서에 첨부)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CacheSerializerBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheSerializerBenchmark.class);
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    @Param({"0", "1024"})
+    private int compressionThresholdBytes;
+
+    private RedisSerializer<Object> jacksonSerializer;
+    private RedisSerializer<Object> compactSerializer;
+    private ProductPageResult value;
+    private byte[] jacksonBytes;
+    private byte[] compactBytes;
+
+    @Setup
+    public void setUp() {
+        jacksonSerializer = new GenericJackson2JsonRedisSerializer(RedisCacheConfig.cacheObjectMapper());
+        compactSerializer = new CompactCacheSerializer<>(
+                new CacheCodecRegistry(List.of(new ProductPageResultCodec()), compressionThresholdBytes),
+                jacksonSerializer);
+
+        value = createPage(pageSize);
+        jacksonBytes = jacksonSerializer.serialize(value);
+        compactBytes = compactSerializer.serialize(value);
+
+        log.info("캐시 값 크기: pageSize={}, threshold={}, jackson={} bytes, compact={} bytes",
+                pageSize, compressionThresholdBytes, jacksonBytes.length, compactBytes.length);
+    }
+
+    @Benchmark
+    public byte[] jacksonSerialize() {
+        return jacksonSerializer.serialize(value);
+    }
+
+    @Benchmark
+    public byte[] compactSerialize() {
+        return compactSerializer.serialize(value);
+    }
+
+    @Benchmark
+    public Object jacksonDeserialize() {
+        return jacksonSerializer.deserialize(jacksonBytes);
+    }
+
+    @Benchmark
+    public Object compactDeserialize() {
+        return compactSerializer.deserialize(compactBytes);
+    }
+
+    private static ProductPageResult createPage(int size) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ProductSummary> products = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            products.add(new ProductSummary(
+                    1_000_000_000_000L + i,
+                    10L,
+                    "상품 " + i,
+                    "상품 " + i + " 상세 설명입니다. 소재와 사이즈, 배송 안내를 포함합니다.",
+                    new BigDecimal("19900.00").add(BigDecimal.valueOf(i * 100L)),
+                    100 + i,
+                    true,
+                    i * 37,
+                    i * 11,
+                    1,
+                    10,
+                    now.minusDays(i),
+                    now
+            ));
+        }
+        return new ProductPageResult(products, 0, size, 1_000, 1_000 / size, true, false);
+    }
+}
@@ -18,7 +18,7 @@ public class CreateCategoryUseCase {
     private final CategoryValidatorService appValidatorService;
     private final CategoryDomainService domainService;
 
-    @CacheEvict(value = "categoryList", allEntries = true, cacheManager = "localCacheManager")
+    @CacheEvict(value = "categorySummaryList", allEntries = true, cacheManager = "twoLevelCacheManager")
     @Transactional
     public Category execute(CreateCategoryCommand command) {
 
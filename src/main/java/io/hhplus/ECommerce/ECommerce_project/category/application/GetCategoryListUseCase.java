@@ -1,13 +1,15 @@
 package io.hhplus.ECommerce.ECommerce_project.category.application;
 
+import io.hhplus.ECommerce.ECommerce_project.category.application.dto.CategorySummary;
 import io.hhplus.ECommerce.ECommerce_project.category.application.service.CategoryFinderService;
-import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -15,10 +17,16 @@ public class GetCategoryListUseCase {
 
     private final CategoryFinderService finderService;
 
-    @Cacheable(value = "categoryList", cacheManager = "localCacheManager")
+    /**
+     * 활성 카테고리 목록 (캐시에는 엔티티 대신 불변 DTO 저장)
+     * - 캐시 이름은 엔티티 목록을 저장하던 categoryList와 분리 (배포 전 L2 값을 DTO로 읽지 않도록)
+     */
+    @Cacheable(value = "categorySummaryList", cacheManager = "twoLevelCacheManager", sync = true)
     @Transactional(readOnly = true)
-    public List<Category> execute() {
+    public List<CategorySummary> execute() {
         // 조회는 FinderService에 위임
-        return finderService.getAllActiveCategories();
+        return Collections.unmodifiableList(finderService.getAllActiveCategories().stream()
+                .map(CategorySummary::from)
+                .collect(Collectors.toList()));
     }
 }
@@ -0,0 +1,27 @@
+package io.hhplus.ECommerce.ECommerce_project.category.application.dto;
+
+import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
+
+import java.time.LocalDateTime;
+
+/**
+ * 카테고리 목록 항목 (불변)
+ * - 카테고리 목록 캐시에 Category 엔티티 대신 저장 (L1 캐시가 변경 가능한 엔티티를 요청 간에 공유하지 않도록)
+ */
+public record CategorySummary(
+        Long id,
+        String name,
+        int displayOrder,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    public static CategorySummary from(Category category) {
+        return new CategorySummary(
+                category.getId(),
+                category.getCategoryName(),
+                category.getDisplayOrder(),
+                category.getCreatedAt(),
+                category.getUpdatedAt()
+        );
+    }
+}
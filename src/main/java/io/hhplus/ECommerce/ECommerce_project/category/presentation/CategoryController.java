@@ -37,7 +37,9 @@ public class CategoryController {
     @GetMapping
     public ResponseEntity<List<CategoryResponse>> getCategoryList() {
         var categoryList = getCategoryListUseCase.execute();
-        return ResponseEntity.ok(CategoryResponse.from(categoryList));
+        return ResponseEntity.ok(categoryList.stream()
+                .map(CategoryResponse::from)
+                .toList());
     }
 
     /**
@@ -1,5 +1,6 @@
 package io.hhplus.ECommerce.ECommerce_project.category.presentation.response;
 
+import io.hhplus.ECommerce.ECommerce_project.category.application.dto.CategorySummary;
 import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
 
 import java.time.LocalDateTime;
@@ -22,6 +23,16 @@ public record CategoryResponse(
         );
     }
 
+    public static CategoryResponse from(CategorySummary category) {
+        return new CategoryResponse(
+                category.id(),
+                category.name(),
+                category.displayOrder(),
+                category.createdAt(),
+                category.updatedAt()
+        );
+    }
+
     public static List<CategoryResponse> from(List<Category> categoryList) {
         return categoryList.stream()
                 .map(CategoryResponse::from)
@@ -0,0 +1,21 @@
+package io.hhplus.ECommerce.ECommerce_project.common.cache;
+
+import java.util.Set;
+
+/**
+ * 캐시 항목 태그 결정 (캐시 이름별로 구현해 스프링 빈으로 등록)
+ * - TwoLevelCache가 값을 저장하기 전에 태그별 Redis Set에 키를 등록
+ * - 태그 단위 무효화(TwoLevelCache.evictTagged)로 페이지/크기와 상관없이 관련 항목 일괄 삭제
+ */
+public interface CacheTagResolver {
+
+    /**
+     * 적용할 캐시 이름
+     */
+    String cacheName();
+
+    /**
+     * 캐시 항목의 태그 (예: category:1, product:10)
+     */
+    Set<String> tags(Object key, Object value);
+}
@@ -0,0 +1,47 @@
+package io.hhplus.ECommerce.ECommerce_project.common.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 캐시 항목 적재 정보 (XFetch 조기 갱신 판단용)
+ * - computeMillis: 원본 조회에 걸린 시간 (오래 걸리는 항목일수록 일찍 갱신)
+ * - expiresAtMillis: L2 만료 시각
+ *
+ * 조기 갱신 조건: now - computeMillis * beta * ln(rand) >= expiresAtMillis
+ * - 만료가 가까울수록, 조회 비용이 클수록 갱신 확률 증가 → 만료 전에 요청 하나만 재계산
+ *
+ * 저장 형식: {computeMillis}:{expiresAtMillis}
+ */
+record LoadInfo(long computeMillis, long expiresAtMillis) {
+
+    // 적재 정보를 모르는 항목 (직접 put, 메타 조회 실패) → 조기 갱신 대상 아님
+    static final LoadInfo UNKNOWN = new LoadInfo(0, 0);
+
+    private static final String DELIMITER = ":";
+
+    boolean shouldRefreshEarly(double beta) {
+        if (computeMillis <= 0 || expiresAtMillis <= 0) {
+            return false;
+        }
+
+        double gap = -computeMillis * beta * Math.log(ThreadLocalRandom.current().nextDouble());
+        return System.currentTimeMillis() + gap >= expiresAtMillis;
+    }
+
+    String encode() {
+        return computeMillis + DELIMITER + expiresAtMillis;
+    }
+
+    static LoadInfo decode(String value) {
+        if (value == null) {
+            return UNKNOWN;
+        }
+
+        String[] parts = value.split(DELIMITER, 2);
+        try {
+            return new LoadInfo(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            return UNKNOWN;
+        }
+    }
+}
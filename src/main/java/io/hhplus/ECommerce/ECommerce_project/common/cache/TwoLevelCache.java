@@ -0,0 +1,406 @@
+package io.hhplus.ECommerce.ECommerce_project.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 2단계 캐시 (L1: 로컬 Caffeine, L2: Redis)
+ * - 조회: L1 → L2 → 원본 (L2 히트 시 L1에 적재)
+ * - 저장/삭제: L2 반영 후 L1 반영, 다른 노드에는 L1 무효화 메시지 전파 (기존 값을 덮어쓴 저장과 삭제만)
+ * - L1에는 같은 인스턴스가 모든 요청에 반환되므로 캐시 값은 불변 DTO여야 함 (엔티티 저장 금지)
+ * - L1 키는 L2(RedisCache)와 같은 문자열 표현으로 통일 → 무효화 메시지로 키 전달 가능
+ *
+ * 캐시 스탬피드 방지 (@Cacheable(sync = true) → get(key, valueLoader) 경로):
+ * - 노드 내: 키별 적재 Future 공유 → 같은 키의 원본 조회는 노드당 1회
+ * - 노드 간: Redis 리스(SET NX PX)를 잡은 노드만 원본 조회, 나머지는 L2에 값이 올라올 때까지 대기
+ * - 조기 갱신(XFetch): 만료 직전 확률적으로 요청 하나가 미리 재계산, 나머지는 기존 값 즉시 반환
+ *   (조기 갱신 실패 시 예외 대신 기존 값 반환, 예외는 값이 없는 미스에서만 전파)
+ * - 적재 중 같은 키가 삭제되면(evict/clear/태그 무효화/다른 노드 무효화 메시지) 적재 결과를 캐시에 남기지 않음
+ *   (삭제 이전에 조회한 원본 값일 수 있음)
+ *
+ * 태그 (CacheTagResolver가 등록된 캐시만):
+ * - 저장 전에 태그별 Redis Set에 키 등록 → evictTagged로 태그가 붙은 항목만 일괄 삭제
+ * - 원본 조회 ~ L2 저장 사이에 태그 무효화가 일어나면(태그 무효화 세대 변경) 방금 저장한 항목 삭제
+ *   (이전 원본 값이 태그 Set에서 빠진 채 TTL까지 남지 않도록)
+ */
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    private static final long LEASE_POLL_INTERVAL_MILLIS = 20;
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, LocalEntry> localCache;
+    private final Cache remoteCache;
+    private final TwoLevelCacheManager cacheManager;
+    private final CacheTagResolver tagResolver;    // 태그를 쓰지 않는 캐시는 null
+
+    // 키 → 진행 중인 원본 적재
+    private final Map<String, InFlightLoad> inFlightLoads = new ConcurrentHashMap<>();
+
+    TwoLevelCache(
+            String name,
+            com.github.benmanes.caffeine.cache.Cache<String, LocalEntry> localCache,
+            Cache remoteCache,
+            TwoLevelCacheManager cacheManager,
+            CacheTagResolver tagResolver
+    ) {
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.cacheManager = cacheManager;
+        this.tagResolver = tagResolver;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        LocalEntry entry = getEntry(key);
+        return entry != null ? new SimpleValueWrapper(entry.value()) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        return wrapper != null ? (T) wrapper.get() : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        LocalEntry entry = getEntry(key);
+        if (entry == null) {
+            return (T) load(key, valueLoader, null);
+        }
+
+        // 만료 전 조기 갱신 (당첨된 요청만 재계산, 이미 갱신 중이면 기존 값)
+        if (entry.loadInfo().shouldRefreshEarly(cacheManager.earlyRefreshBeta())) {
+            return (T) load(key, valueLoader, entry);
+        }
+        return (T) entry.value();
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        // 진행 중인 적재가 있으면 이 값보다 이전 데이터일 수 있음
+        invalidateInFlight(toLocalKey(key));
+        long tagGeneration = tagGeneration();
+        if (!addTags(key, value)) {
+            return;
+        }
+
+        // 최초 적재(L2에 없던 키)면 다른 노드 L1에도 이전 값이 없으므로 무효화 전파 생략
+        // (L2 만료 후 남은 L1 사본은 L1 TTL 안에서만 유효)
+        ValueWrapper existing = remoteCache.putIfAbsent(key, value);
+        boolean overwritten = existing != null;
+        if (overwritten) {
+            remoteCache.put(key, value);
+        }
+        if (value != null) {
+            localCache.put(toLocalKey(key), new LocalEntry(value, LoadInfo.UNKNOWN));
+        }
+        if (overwritten) {
+            cacheManager.publishEvict(name, toLocalKey(key));
+        }
+        if (tagsInvalidated(tagGeneration)) {
+            evict(key);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        invalidateInFlight(toLocalKey(key));
+        remoteCache.evict(key);
+        localCache.invalidate(toLocalKey(key));
+        cacheManager.publishEvict(name, toLocalKey(key));
+    }
+
+    @Override
+    public void clear() {
+        invalidateAllInFlight();
+        remoteCache.clear();
+        localCache.invalidateAll();
+        cacheManager.publishClear(name);
+    }
+
+    /**
+     * 태그가 붙은 항목 일괄 삭제 (L2 + 모든 노드의 L1)
+     */
+    public void evictTagged(Collection<String> tags) {
+        String remoteKeyPrefix = remoteCache instanceof RedisCache redisCache
+                ? redisCache.getCacheConfiguration().getKeyPrefixFor(name)
+                : name + "::";
+
+        Set<String> evictedKeys = cacheManager.evictTagged(name, remoteKeyPrefix, tags);
+        evictedKeys.forEach(this::invalidateInFlight);
+        localCache.invalidateAll(evictedKeys);
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 수신 시 L1만 삭제 (진행 중인 적재 결과도 버림)
+     */
+    void evictLocal(String localKey) {
+        invalidateInFlight(localKey);
+        localCache.invalidate(localKey);
+    }
+
+    void clearLocal() {
+        invalidateAllInFlight();
+        localCache.invalidateAll();
+    }
+
+    /**
+     * L1 → L2 조회 (L2 히트 시 적재 정보와 함께 L1 적재)
+     */
+    private LocalEntry getEntry(Object key) {
+        String localKey = toLocalKey(key);
+
+        // 1. L1 (네트워크 왕복/역직렬화 없음)
+        LocalEntry entry = localCache.getIfPresent(localKey);
+        if (entry != null) {
+            return entry;
+        }
+
+        // 2. L2 → 히트 시 L1 적재
+        ValueWrapper wrapper = remoteCache.get(key);
+        if (wrapper == null) {
+            return null;
+        }
+
+        entry = new LocalEntry(wrapper.get(), cacheManager.readLoadInfo(name, localKey));
+        if (entry.value() != null) {
+            localCache.put(localKey, entry);
+        }
+        return entry;
+    }
+
+    /**
+     * 키별 단일 적재 (Single-Flight)
+     *
+     * @param current 조기 갱신 시 현재 항목 (다른 스레드/노드가 이미 적재 중이면 대기 없이 반환), 미스면 null
+     */
+    private Object load(Object key, Callable<?> valueLoader, LocalEntry current) {
+        String localKey = toLocalKey(key);
+
+        InFlightLoad load = new InFlightLoad();
+        InFlightLoad inFlight = inFlightLoads.putIfAbsent(localKey, load);
+        if (inFlight != null) {
+            return current != null ? current.value() : await(inFlight.future, key, valueLoader);
+        }
+
+        try {
+            Object value = loadWithLease(key, localKey, valueLoader, current, load);
+            load.future.complete(value);
+            return value;
+        } catch (Exception e) {
+            if (current == null) {
+                load.future.completeExceptionally(e);
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+
+            // 조기 갱신 실패 → 아직 만료 전인 기존 값 반환 (대기 중인 요청도 기존 값)
+            log.warn("캐시 조기 갱신 실패, 기존 값 반환: cache={}, key={}", name, localKey, e);
+            load.future.complete(current.value());
+            return current.value();
+        } finally {
+            inFlightLoads.remove(localKey, load);
+        }
+    }
+
+    /**
+     * 노드 간 단일 적재 (Redis 리스)
+     * - 리스를 못 잡으면 다른 노드의 적재 결과를 L2에서 기다림
+     * - 대기 시간 내 결과가 없으면 직접 적재 (리스 보유 노드 장애 대비)
+     */
+    private Object loadWithLease(
+            Object key,
+            String localKey,
+            Callable<?> valueLoader,
+            LocalEntry current,
+            InFlightLoad load
+    ) throws Exception {
+        boolean leased = cacheManager.tryAcquireLease(name, localKey);
+        if (!leased) {
+            if (current != null) {
+                return current.value();
+            }
+
+            LocalEntry loaded = awaitRemoteLoad(key);
+            if (loaded != null) {
+                return loaded.value();
+            }
+        }
+
+        try {
+            return loadAndStore(key, localKey, valueLoader, current != null, load);
+        } finally {
+            if (leased) {
+                cacheManager.releaseLease(name, localKey);
+            }
+        }
+    }
+
+    /**
+     * 원본 조회 후 L2 → L1 적재
+     * - 조기 갱신이면 다른 노드의 L1에 이전 값이 있으므로 무효화 전파 (최초 적재는 전파 불필요)
+     */
+    private Object loadAndStore(
+            Object key,
+            String localKey,
+            Callable<?> valueLoader,
+            boolean refresh,
+            InFlightLoad load
+    ) throws Exception {
+        // 원본 조회 전 세대 → 조회한 값이 무효화 이전 데이터인지 저장 후 판단
+        long tagGeneration = tagGeneration();
+        long startedAt = System.currentTimeMillis();
+        Object value = valueLoader.call();
+        long computeMillis = Math.max(1, System.currentTimeMillis() - startedAt);
+
+        // 태그 등록 실패 시 저장하지 않음 (태그 무효화에서 빠진 항목이 TTL까지 남지 않도록)
+        if (!addTags(key, value)) {
+            return value;
+        }
+
+        remoteCache.put(key, value);
+
+        Duration ttl = remoteTtl(key, value);
+        LoadInfo loadInfo = ttl.isZero() || ttl.isNegative()
+                ? LoadInfo.UNKNOWN
+                : new LoadInfo(computeMillis, System.currentTimeMillis() + ttl.toMillis());
+        cacheManager.writeLoadInfo(name, localKey, loadInfo, ttl);
+
+        if (value != null) {
+            localCache.put(localKey, new LocalEntry(value, loadInfo));
+        }
+        if (refresh) {
+            cacheManager.publishEvict(name, localKey);
+        }
+        // 적재 중 삭제/태그 무효화가 있었으면 방금 저장한 값은 이전 데이터일 수 있으므로 삭제
+        if (load.invalidated || tagsInvalidated(tagGeneration)) {
+            evict(key);
+        }
+        return value;
+    }
+
+    /**
+     * 다른 노드가 L2에 적재할 때까지 대기 (최대 lease-wait-ms)
+     */
+    private LocalEntry awaitRemoteLoad(Object key) {
+        long deadline = System.nanoTime() + cacheManager.leaseWait().toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(LEASE_POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+
+            LocalEntry entry = getEntry(key);
+            if (entry != null) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private Object await(CompletableFuture<Object> inFlight, Object key, Callable<?> valueLoader) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+
+    /**
+     * 저장 전 태그 등록 (등록 전에 저장하면 그 사이 무효화가 항목을 찾지 못함)
+     * - 등록 후 저장 전에 끼어든 무효화는 tagsInvalidated로 확인해 삭제
+     */
+    private boolean addTags(Object key, Object value) {
+        if (tagResolver == null || value == null) {
+            return true;
+        }
+        return cacheManager.addTags(name, toLocalKey(key), tagResolver.tags(key, value), remoteTtl(key, value));
+    }
+
+    private long tagGeneration() {
+        return tagResolver != null ? cacheManager.tagGeneration(name) : 0L;
+    }
+
+    /**
+     * 저장 중 태그 무효화가 있었는지 (있으면 호출자가 방금 저장한 항목 삭제)
+     * - 무효화가 원본 조회 후 실행됐다면 저장한 값은 이전 데이터일 수 있고,
+     *   무효화가 태그 Set에서 키를 이미 제거했으므로 다음 무효화로도 지워지지 않음
+     * - 어떤 태그의 무효화인지 구분하지 않음 (태그 무효화는 상품 변경 시에만 일어나 드묾)
+     */
+    private boolean tagsInvalidated(long tagGeneration) {
+        if (tagResolver == null) {
+            return false;
+        }
+        return tagGeneration < 0 || cacheManager.tagGeneration(name) != tagGeneration;
+    }
+
+    /**
+     * 진행 중인 적재를 무효화 → 적재가 끝나면 저장한 값을 삭제
+     * - 맵에서도 제거해 이후 요청은 무효화 이후 데이터로 새로 적재
+     */
+    private void invalidateInFlight(String localKey) {
+        InFlightLoad load = inFlightLoads.remove(localKey);
+        if (load != null) {
+            load.invalidated = true;
+        }
+    }
+
+    private void invalidateAllInFlight() {
+        inFlightLoads.keySet().forEach(this::invalidateInFlight);
+    }
+
+    /**
+     * L2 TTL (RedisCache 설정 기준, 만료 없음이면 0)
+     */
+    private Duration remoteTtl(Object key, Object value) {
+        if (remoteCache instanceof RedisCache redisCache) {
+            return redisCache.getCacheConfiguration().getTtlFunction().getTimeToLive(key, value);
+        }
+        return Duration.ZERO;
+    }
+
+    private String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    /**
+     * L1 항목 (값 + 조기 갱신 판단용 적재 정보)
+     */
+    record LocalEntry(Object value, LoadInfo loadInfo) {
+    }
+
+    /**
+     * 진행 중인 원본 적재 (같은 키 요청이 공유하는 결과 + 적재 중 무효화 여부)
+     */
+    private static final class InFlightLoad {
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        private volatile boolean invalidated;
+    }
+}
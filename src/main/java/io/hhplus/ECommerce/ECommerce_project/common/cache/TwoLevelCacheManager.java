@@ -0,0 +1,346 @@
+package io.hhplus.ECommerce.ECommerce_project.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.hhplus.ECommerce.ECommerce_project.common.redis.RedisScriptRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 2단계 캐시 매니저 (L1: 로컬 Caffeine, L2: Redis)
+ * - 캐시 이름별로 TwoLevelCache 생성 (L2는 기존 redisCacheManager의 캐시 사용)
+ * - L2 갱신/삭제 시 Redis Pub/Sub으로 L1 무효화 전파 → 모든 노드의 L1이 L2와 일관성 유지
+ * - 자신이 보낸 메시지는 노드 ID로 걸러냄 (방금 적재한 L1을 지우지 않도록)
+ * - 메시지 유실에 대비해 L1은 L2보다 짧은 TTL로 자동 만료 (최대 오차 범위)
+ * - 캐시 스탬피드 방지용 적재 리스/적재 정보(XFetch)도 관리
+ *
+ * 메시지 형식: {노드 ID}|{캐시 이름}|{키} (키 자리가 비어있으면 캐시 전체 삭제)
+ * 적재 리스 키: cache:lease:{캐시 이름}:{키}
+ * 적재 정보 키: cache:load-info:{캐시 이름}:{키} (L2와 같은 TTL)
+ * 태그 키: cache:tag:{캐시 이름}:{태그} (Set, 멤버는 캐시 키)
+ * 태그 무효화 세대 키: cache:tag-gen:{캐시 이름} (태그 무효화마다 INCR)
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    private static final String INVALIDATE_CHANNEL = "cache:two-level:invalidate";
+    private static final String DELIMITER = "|";
+    private static final String LEASE_KEY_PREFIX = "cache:lease:";
+    private static final String LOAD_INFO_KEY_PREFIX = "cache:load-info:";
+    private static final String TAG_KEY_PREFIX = "cache:tag:";
+    private static final String TAG_GENERATION_KEY_PREFIX = "cache:tag-gen:";
+
+    /**
+     * Lua Script: 적재 리스 해제 (내가 잡은 리스만 삭제)
+     * - 적재가 lease-ttl-ms보다 오래 걸려 리스가 만료되고 다른 노드가 다시 잡았으면 삭제하지 않음
+     *
+     * KEYS[1]: 리스 키
+     * ARGV[1]: 노드 ID
+     */
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT = RedisScript.of(
+            """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """,
+            Long.class
+    );
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final CacheManager remoteCacheManager;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScriptRegistry redisScriptRegistry;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Duration localTtl;
+    private final long localMaximumSize;
+    private final Duration leaseTtl;
+    private final Duration leaseWait;
+    private final double earlyRefreshBeta;
+    private final Map<String, CacheTagResolver> tagResolvers;
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(
+            CacheManager remoteCacheManager,
+            RedisTemplate<String, String> redisTemplate,
+            RedisScriptRegistry redisScriptRegistry,
+            RedisMessageListenerContainer listenerContainer,
+            Duration localTtl,
+            long localMaximumSize,
+            Duration leaseTtl,
+            Duration leaseWait,
+            double earlyRefreshBeta,
+            List<CacheTagResolver> tagResolvers
+    ) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.redisScriptRegistry = redisScriptRegistry;
+        this.listenerContainer = listenerContainer;
+        this.localTtl = localTtl;
+        this.localMaximumSize = localMaximumSize;
+        this.leaseTtl = leaseTtl;
+        this.leaseWait = leaseWait;
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        this.tagResolvers = tagResolvers.stream()
+                .collect(Collectors.toMap(CacheTagResolver::cacheName, Function.identity()));
+    }
+
+    @PostConstruct
+    void subscribe() {
+        redisScriptRegistry.register("cache:lease-release", RELEASE_LEASE_SCRIPT);
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> {
+            Cache remoteCache = remoteCacheManager.getCache(cacheName);
+            if (remoteCache == null) {
+                throw new IllegalStateException("L2 캐시를 생성할 수 없습니다: " + cacheName);
+            }
+            return new TwoLevelCache(cacheName, Caffeine.newBuilder()
+                    .expireAfterWrite(localTtl)
+                    .maximumSize(localMaximumSize)
+                    .recordStats()
+                    .build(), remoteCache, this, tagResolvers.get(cacheName));
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return List.copyOf(caches.keySet());
+    }
+
+    /**
+     * 다른 노드의 L1 키 무효화 전파
+     * - 전파 실패해도 캐시 갱신 자체는 실패시키지 않음 (L1 TTL 후 자동 만료)
+     */
+    void publishEvict(String cacheName, String key) {
+        publish(nodeId + DELIMITER + cacheName + DELIMITER + key);
+    }
+
+    void publishClear(String cacheName) {
+        publish(nodeId + DELIMITER + cacheName + DELIMITER);
+    }
+
+    /**
+     * 노드 간 적재 리스 획득 (SET NX PX)
+     * - Redis 장애 시 리스 없이 적재 (노드 내 단일 적재는 유지)
+     */
+    boolean tryAcquireLease(String cacheName, String key) {
+        try {
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(LEASE_KEY_PREFIX + cacheName + ":" + key, nodeId, leaseTtl);
+            return Boolean.TRUE.equals(acquired);
+        } catch (Exception e) {
+            log.warn("캐시 적재 리스 획득 실패, 리스 없이 적재: cache={}, key={}", cacheName, key, e);
+            return true;
+        }
+    }
+
+    void releaseLease(String cacheName, String key) {
+        try {
+            redisScriptRegistry.execute(RELEASE_LEASE_SCRIPT, List.of(LEASE_KEY_PREFIX + cacheName + ":" + key), nodeId);
+        } catch (Exception e) {
+            log.warn("캐시 적재 리스 해제 실패 (lease TTL 후 자동 만료): cache={}, key={}", cacheName, key, e);
+        }
+    }
+
+    /**
+     * 적재 정보 조회 (없거나 조회 실패 시 조기 갱신 대상에서 제외)
+     */
+    LoadInfo readLoadInfo(String cacheName, String key) {
+        try {
+            return LoadInfo.decode(redisTemplate.opsForValue().get(LOAD_INFO_KEY_PREFIX + cacheName + ":" + key));
+        } catch (Exception e) {
+            log.warn("캐시 적재 정보 조회 실패: cache={}, key={}", cacheName, key, e);
+            return LoadInfo.UNKNOWN;
+        }
+    }
+
+    void writeLoadInfo(String cacheName, String key, LoadInfo loadInfo, Duration ttl) {
+        if (loadInfo == LoadInfo.UNKNOWN) {
+            return;
+        }
+
+        try {
+            redisTemplate.opsForValue().set(LOAD_INFO_KEY_PREFIX + cacheName + ":" + key, loadInfo.encode(), ttl);
+        } catch (Exception e) {
+            log.warn("캐시 적재 정보 저장 실패: cache={}, key={}", cacheName, key, e);
+        }
+    }
+
+    /**
+     * 캐시 키를 태그별 Set에 등록 (SADD + PEXPIRE 파이프라인 1회)
+     * - 태그 Set TTL은 L2 TTL로 매번 연장 → 마지막 항목 만료 후 함께 정리
+     *
+     * @return 등록 성공 여부 (실패 시 값을 저장하지 않아야 태그 무효화 누락이 없음)
+     */
+    boolean addTags(String cacheName, String key, Set<String> tags, Duration ttl) {
+        if (tags.isEmpty()) {
+            return true;
+        }
+
+        try {
+            byte[] member = toBytes(key);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String tag : tags) {
+                    byte[] tagKey = toBytes(tagKey(cacheName, tag));
+                    connection.setCommands().sAdd(tagKey, member);
+                    if (!ttl.isZero() && !ttl.isNegative()) {
+                        connection.keyCommands().pExpire(tagKey, ttl.toMillis());
+                    }
+                }
+                return null;
+            });
+            return true;
+        } catch (Exception e) {
+            log.warn("캐시 태그 등록 실패, 캐시 저장 생략: cache={}, key={}", cacheName, key, e);
+            return false;
+        }
+    }
+
+    /**
+     * 태그 무효화 세대 조회 (원본 조회/저장 전후 비교용)
+     *
+     * @return 현재 세대 (조회 실패 시 -1 → 저장 후 비교에서 항상 변경으로 판단)
+     */
+    long tagGeneration(String cacheName) {
+        try {
+            String value = redisTemplate.opsForValue().get(TAG_GENERATION_KEY_PREFIX + cacheName);
+            return value != null ? Long.parseLong(value) : 0L;
+        } catch (Exception e) {
+            log.warn("캐시 태그 무효화 세대 조회 실패: cache={}", cacheName, e);
+            return -1L;
+        }
+    }
+
+    /**
+     * 태그가 붙은 캐시 항목 일괄 삭제
+     * 1. 태그 무효화 세대 증가 + 태그별 키 목록 조회 (INCR + SMEMBERS 파이프라인 1회)
+     * 2. L2 항목 삭제 + 태그 Set에서 조회한 키 제거 + 다른 노드 L1 무효화 전파 (파이프라인 1회)
+     * - 태그 Set 자체를 지우지 않고 조회한 키만 SREM → 조회 이후 새로 등록된 키는 유지
+     * - 태그 등록 후 L2 저장 전에 끼어든 무효화는 키를 SREM만 하고 놓침
+     *   → 저장한 쪽이 세대 변경을 보고 방금 저장한 항목을 직접 삭제 (TwoLevelCache)
+     *
+     * @param remoteKeyPrefix L2 키 접두사 (예: productList::)
+     * @return 삭제한 캐시 키 (이 노드의 L1 삭제용)
+     */
+    Set<String> evictTagged(String cacheName, String remoteKeyPrefix, Collection<String> tags) {
+        List<String> tagKeys = tags.stream()
+                .map(tag -> tagKey(cacheName, tag))
+                .toList();
+
+        // 1. 세대 증가 (키 목록 조회보다 먼저) + 태그별 키 목록
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().incr(toBytes(TAG_GENERATION_KEY_PREFIX + cacheName));
+            tagKeys.forEach(tagKey -> connection.setCommands().sMembers(toBytes(tagKey)));
+            return null;
+        });
+
+        Map<String, List<String>> membersByTag = new LinkedHashMap<>();
+        Set<String> keys = new HashSet<>();
+        for (int i = 0; i < tagKeys.size(); i++) {
+            List<String> members = new ArrayList<>();
+            if (results.get(i + 1) instanceof Collection<?> values) {
+                values.forEach(value -> members.add(String.valueOf(value)));
+            }
+            if (!members.isEmpty()) {
+                membersByTag.put(tagKeys.get(i), members);
+                keys.addAll(members);
+            }
+        }
+
+        if (keys.isEmpty()) {
+            return keys;
+        }
+
+        // 2. 삭제 + 전파
+        byte[] channel = toBytes(INVALIDATE_CHANNEL);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.keyCommands().del(keys.stream()
+                    .map(key -> toBytes(remoteKeyPrefix + key))
+                    .toArray(byte[][]::new));
+            membersByTag.forEach((tagKey, members) -> connection.setCommands().sRem(toBytes(tagKey),
+                    members.stream().map(TwoLevelCacheManager::toBytes).toArray(byte[][]::new)));
+            keys.forEach(key -> connection.publish(channel, toBytes(nodeId + DELIMITER + cacheName + DELIMITER + key)));
+            return null;
+        });
+        return keys;
+    }
+
+    Duration leaseWait() {
+        return leaseWait;
+    }
+
+    double earlyRefreshBeta() {
+        return earlyRefreshBeta;
+    }
+
+    private static String tagKey(String cacheName, String tag) {
+        return TAG_KEY_PREFIX + cacheName + ":" + tag;
+    }
+
+    private static byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, message);
+        } catch (Exception e) {
+            log.warn("L1 캐시 무효화 전파 실패: {}", message, e);
+        }
+    }
+
+    /**
+     * 다른 노드의 L1 무효화 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\|", 3);
+        if (parts.length != 3) {
+            log.warn("잘못된 L1 캐시 무효화 메시지: {}", body);
+            return;
+        }
+
+        if (nodeId.equals(parts[0])) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            // 이 노드에서 아직 사용하지 않은 캐시 → L1에 지울 항목 없음
+            return;
+        }
+
+        if (parts[2].isEmpty()) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[2]);
+        }
+    }
+}
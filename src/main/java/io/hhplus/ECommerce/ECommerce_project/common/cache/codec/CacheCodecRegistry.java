@@ -0,0 +1,58 @@
+package io.hhplus.ECommerce.ECommerce_project.common.cache.codec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 캐시 값 코덱 레지스트리
+ * - 스프링 빈으로 등록된 CacheValueCodec을 타입/codecId로 조회
+ * - 등록되지 않은 타입은 CompactCacheSerializer가 기존 Jackson 직렬화로 처리
+ */
+@Component
+public class CacheCodecRegistry {
+
+    private final Map<Class<?>, CacheValueCodec<?>> codecsByType = new HashMap<>();
+    private final Map<Integer, CacheValueCodec<?>> codecsById = new HashMap<>();
+    private final int compressionThresholdBytes;
+
+    public CacheCodecRegistry(
+            List<CacheValueCodec<?>> codecs,
+            @Value("${cache.codec.compression-threshold-bytes:1024}") int compressionThresholdBytes
+    ) {
+        for (CacheValueCodec<?> codec : codecs) {
+            if (codec.codecId() < 1 || codec.codecId() > 255 || codec.schemaVersion() < 1 || codec.schemaVersion() > 255) {
+                throw new IllegalStateException("캐시 코덱 ID/스키마 버전은 1~255: " + codec.getClass().getName());
+            }
+
+            CacheValueCodec<?> duplicated = codecsById.putIfAbsent(codec.codecId(), codec);
+            if (duplicated != null) {
+                throw new IllegalStateException("캐시 코덱 ID 중복: " + codec.codecId()
+                        + " (" + duplicated.getClass().getName() + ", " + codec.getClass().getName() + ")");
+            }
+            codecsByType.put(codec.type(), codec);
+        }
+        this.compressionThresholdBytes = compressionThresholdBytes;
+    }
+
+    /**
+     * 값 타입의 코덱 (정확히 같은 클래스만, 없으면 null)
+     */
+    CacheValueCodec<?> findByType(Class<?> type) {
+        return codecsByType.get(type);
+    }
+
+    CacheValueCodec<?> findById(int codecId) {
+        return codecsById.get(codecId);
+    }
+
+    /**
+     * 이 크기 이상인 값만 LZ4 압축 (0 이하면 압축 안 함)
+     */
+    int compressionThresholdBytes() {
+        return compressionThresholdBytes;
+    }
+}
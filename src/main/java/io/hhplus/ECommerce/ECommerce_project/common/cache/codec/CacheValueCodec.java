@@ -0,0 +1,34 @@
+package io.hhplus.ECommerce.ECommerce_project.common.cache.codec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * 캐시 값 바이너리 코덱 (타입별로 구현해 스프링 빈으로 등록)
+ * - 클래스 이름 대신 codecId 1바이트로 타입 식별 → 노드 간 고정값이어야 하며 재사용 금지
+ * - 필드 구성이 바뀌면 schemaVersion을 올리고 read에서 이전 버전도 처리 (롤링 배포 중 혼재)
+ *
+ * @param <T> 캐시 값 타입
+ */
+public interface CacheValueCodec<T> {
+
+    /**
+     * 타입 식별자 (1~255)
+     */
+    int codecId();
+
+    /**
+     * 현재 쓰기 스키마 버전 (1~255)
+     */
+    int schemaVersion();
+
+    Class<T> type();
+
+    void write(T value, DataOutput out) throws IOException;
+
+    /**
+     * @param schemaVersion 값을 기록할 때의 스키마 버전 (schemaVersion() 이하)
+     */
+    T read(DataInput in, int schemaVersion) throws IOException;
+}
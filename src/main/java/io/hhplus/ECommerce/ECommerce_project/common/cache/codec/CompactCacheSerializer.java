@@ -0,0 +1,134 @@
+package io.hhplus.ECommerce.ECommerce_project.common.cache.codec;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 컴팩트 바이너리 캐시 직렬화
+ * - 코덱이 등록된 타입: 4바이트 헤더 + 필드 값만 기록 (클래스 이름/필드 이름 없음)
+ * - 그 외 타입: fallback(기존 Jackson 직렬화) 그대로 사용
+ * - 읽을 때 첫 바이트가 MAGIC이 아니면 fallback으로 처리 → 배포 전에 저장된 JSON 값도 그대로 읽힘
+ * - 모르는 코덱 ID / 더 높은 스키마 버전(새 버전 노드가 기록)은 null 반환 → 캐시 미스로 재적재
+ *
+ * 형식: [MAGIC][codecId][schemaVersion][flags] + (압축 시 원본 길이 varint) + 본문
+ *
+ * @param <T> 캐시 값 타입
+ */
+public class CompactCacheSerializer<T> implements RedisSerializer<T> {
+
+    private static final byte MAGIC = (byte) 0xC7;    // JSON 값의 첫 바이트로 나올 수 없는 값
+    private static final int HEADER_SIZE = 4;
+    private static final int FLAG_LZ4 = 0x01;
+
+    private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+    private static final LZ4SafeDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().safeDecompressor();
+
+    private final CacheCodecRegistry registry;
+    private final RedisSerializer<T> fallback;
+
+    public CompactCacheSerializer(CacheCodecRegistry registry, RedisSerializer<T> fallback) {
+        this.registry = registry;
+        this.fallback = fallback;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public byte[] serialize(T value) throws SerializationException {
+        CacheValueCodec<Object> codec = value != null
+                ? (CacheValueCodec<Object>) registry.findByType(value.getClass())
+                : null;
+        if (codec == null) {
+            return fallback.serialize(value);
+        }
+
+        try {
+            ByteArrayOutputStream body = new ByteArrayOutputStream(256);
+            codec.write(value, new DataOutputStream(body));
+            byte[] payload = body.toByteArray();
+
+            ByteArrayOutputStream result = new ByteArrayOutputStream(HEADER_SIZE + payload.length);
+            DataOutputStream out = new DataOutputStream(result);
+            out.writeByte(MAGIC);
+            out.writeByte(codec.codecId());
+            out.writeByte(codec.schemaVersion());
+
+            byte[] compressed = compress(payload);
+            if (compressed != null) {
+                out.writeByte(FLAG_LZ4);
+                CompactIO.writeVarInt(out, payload.length);
+                out.write(compressed);
+            } else {
+                out.writeByte(0);
+                out.write(payload);
+            }
+            return result.toByteArray();
+
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 직렬화 실패: " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return fallback.deserialize(bytes);
+        }
+        if (bytes.length < HEADER_SIZE) {
+            throw new SerializationException("캐시 값 헤더 손상");
+        }
+
+        CacheValueCodec<?> codec = registry.findById(bytes[1] & 0xFF);
+        int schemaVersion = bytes[2] & 0xFF;
+        if (codec == null || schemaVersion > codec.schemaVersion()) {
+            return null;
+        }
+
+        try {
+            byte[] payload = (bytes[3] & FLAG_LZ4) != 0
+                    ? decompress(bytes)
+                    : Arrays.copyOfRange(bytes, HEADER_SIZE, bytes.length);
+            return (T) codec.read(new DataInputStream(new ByteArrayInputStream(payload)), schemaVersion);
+
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("캐시 값 역직렬화 실패: " + codec.type().getName(), e);
+        }
+    }
+
+    /**
+     * 임계값 이상이고 압축 효과가 있을 때만 압축 (아니면 null)
+     */
+    private byte[] compress(byte[] payload) {
+        int threshold = registry.compressionThresholdBytes();
+        if (threshold <= 0 || payload.length < threshold) {
+            return null;
+        }
+
+        byte[] compressed = COMPRESSOR.compress(payload);
+        return compressed.length < payload.length ? compressed : null;
+    }
+
+    private byte[] decompress(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(
+                new ByteArrayInputStream(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE));
+        int originalLength = CompactIO.readVarInt(in);
+        int offset = bytes.length - in.available();
+
+        byte[] payload = new byte[originalLength];
+        DECOMPRESSOR.decompress(bytes, offset, bytes.length - offset, payload, 0);
+        return payload;
+    }
+}
@@ -8,6 +8,8 @@ import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.hibernate5.jakarta.Hibernate5JakartaModule;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.hhplus.ECommerce.ECommerce_project.common.cache.codec.CacheCodecRegistry;
+import io.hhplus.ECommerce.ECommerce_project.common.cache.codec.CompactCacheSerializer;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -25,6 +27,7 @@ import java.time.Duration;
  * - 분산 환경에서 여러 인스턴스 간 캐시 공유
  * - 영속성이 필요하거나 대용량 데이터 캐싱에 적합
  * - 다중 인스턴스 환경에서 효과적
+ * - 값 직렬화: 코덱이 등록된 타입은 컴팩트 바이너리(CompactCacheSerializer), 나머지는 Jackson
  */
 @Configuration
 public class RedisCacheConfig {
@@ -35,7 +38,29 @@ public class RedisCacheConfig {
      * - 예: @Cacheable(value = "productList", cacheManager = "redisCacheManager")
      */
     @Bean
-    public CacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager redisCacheManager(RedisConnectionFactory connectionFactory, CacheCodecRegistry cacheCodecRegistry) {
+        RedisCacheConfiguration config =
+                RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(Duration.ofMinutes(2))  // 2분 TTL
+                .serializeKeysWith(RedisSerializationContext.SerializationPair
+                        .fromSerializer(new StringRedisSerializer()))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair
+                        .fromSerializer(new CompactCacheSerializer<>(
+                                cacheCodecRegistry,
+                                new GenericJackson2JsonRedisSerializer(cacheObjectMapper()))));
+
+        return RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(config)
+                // 상품 목록은 변경 시 태그 단위로 무효화되므로 TTL을 길게
+                .withCacheConfiguration("productList", config.entryTtl(Duration.ofMinutes(10)))
+                .build();
+    }
+
+    /**
+     * 코덱이 없는 캐시 값용 Jackson 설정 (클래스 이름 포함)
+     * - 직렬화 방식 비교 벤치마크(CacheSerializerBenchmark)에서도 같은 설정 사용
+     */
+    public static ObjectMapper cacheObjectMapper() {
         // ObjectMapper 설정: Java 8 날짜/시간 타입 + Hibernate Lazy Loading 지원
         ObjectMapper objectMapper = new ObjectMapper();
 
@@ -57,16 +82,6 @@ public class RedisCacheConfig {
                 .build();
         objectMapper.activateDefaultTyping(ptv, ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
 
-        RedisCacheConfiguration config =
-                RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(2))  // 2분 TTL
-                .serializeKeysWith(RedisSerializationContext.SerializationPair
-                        .fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair
-                        .fromSerializer(new GenericJackson2JsonRedisSerializer(objectMapper)));
-
-        return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(config)
-                .build();
+        return objectMapper;
     }
 }
\ No newline at end of file
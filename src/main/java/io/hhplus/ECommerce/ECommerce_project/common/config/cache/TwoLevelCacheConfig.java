@@ -0,0 +1,56 @@
+package io.hhplus.ECommerce.ECommerce_project.common.config.cache;
+
+import io.hhplus.ECommerce.ECommerce_project.common.cache.CacheTagResolver;
+import io.hhplus.ECommerce.ECommerce_project.common.cache.TwoLevelCacheManager;
+import io.hhplus.ECommerce.ECommerce_project.common.redis.RedisScriptRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 2단계 캐시 설정 (L1: Caffeine, L2: Redis)
+ * - 자주 읽히고 여러 노드가 함께 갱신하는 데이터에 적합 (상품 목록, 카테고리 목록)
+ * - 히트 대부분을 로컬 메모리에서 처리하면서, 갱신은 Pub/Sub으로 모든 노드에 전파
+ */
+@Configuration
+public class TwoLevelCacheConfig {
+
+    /**
+     * 2단계 캐시 매니저
+     * - 예: @Cacheable(value = "productList", cacheManager = "twoLevelCacheManager", sync = true)
+     * - sync = true일 때만 단일 적재/조기 갱신 적용 (get(key, valueLoader) 경로)
+     */
+    @Bean
+    public CacheManager twoLevelCacheManager(
+            @Qualifier("redisCacheManager") CacheManager redisCacheManager,
+            RedisTemplate<String, String> redisTemplate,
+            RedisScriptRegistry redisScriptRegistry,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            List<CacheTagResolver> cacheTagResolvers,
+            @Value("${cache.two-level.local-ttl-ms:60000}") long localTtlMillis,
+            @Value("${cache.two-level.local-maximum-size:1000}") long localMaximumSize,
+            @Value("${cache.two-level.lease-ttl-ms:3000}") long leaseTtlMillis,
+            @Value("${cache.two-level.lease-wait-ms:1000}") long leaseWaitMillis,
+            @Value("${cache.two-level.early-refresh-beta:1.0}") double earlyRefreshBeta
+    ) {
+        return new TwoLevelCacheManager(
+                redisCacheManager,
+                redisTemplate,
+                redisScriptRegistry,
+                redisMessageListenerContainer,
+                Duration.ofMillis(localTtlMillis),
+                localMaximumSize,
+                Duration.ofMillis(leaseTtlMillis),
+                Duration.ofMillis(leaseWaitMillis),
+                earlyRefreshBeta,
+                cacheTagResolvers
+        );
+    }
+}
@@ -31,7 +31,10 @@ public enum ErrorCode {
     PRODUCT_ID_INVALID("PRODUCT ID는 1 이상이어야 합니다.", HttpStatus.BAD_REQUEST),
     PRODUCT_PRICE_INVALID("가격은 0 이상이어야 합니다.", HttpStatus.BAD_REQUEST),
     PRODUCT_STOCK_INVALID("재고는 0 이상이어야 합니다.", HttpStatus.BAD_REQUEST),
-    PRODUCT_RANKED_PRODUCT_TYPE_INVALID("인기상품 조회 타입은 daily 혹은 weekly 중 하나여야 합니다.", HttpStatus.BAD_REQUEST),
+    PRODUCT_RANKED_PRODUCT_TYPE_INVALID("인기상품 조회 타입은 daily, weekly, rolling24h, rolling7d 중 하나여야 합니다.", HttpStatus.BAD_REQUEST),
+    PRODUCT_RANKING_CATEGORY_TYPE_NOT_SUPPORTED("카테고리별 인기상품 조회 타입은 daily, weekly 중 하나여야 합니다.", HttpStatus.BAD_REQUEST),
+    PRODUCT_RANKING_HISTORY_PERIOD_INVALID("조회 시작일은 종료일보다 늦을 수 없습니다.", HttpStatus.BAD_REQUEST),
+    PRODUCT_CURSOR_INVALID("유효하지 않은 상품 목록 커서입니다.", HttpStatus.BAD_REQUEST),
     PRODUCT_OUT_OF_STOCK("재고가 부족합니다.", HttpStatus.CONFLICT),
     PRODUCT_ALREADY_ACTIVE("이미 활성화된 상품입니다.", HttpStatus.CONFLICT),
     PRODUCT_ALREADY_INACTIVE("이미 비활성화된 상품입니다.", HttpStatus.CONFLICT),
@@ -53,6 +56,7 @@ public enum ErrorCode {
     PRODUCT_MIN_ORDER_QUANTITY_NOT_MET("최소 주문 수량을 만족하지 않습니다.", HttpStatus.CONFLICT),
     PRODUCT_MAX_ORDER_QUANTITY_EXCEEDED("최대 주문 수량을 초과했습니다.", HttpStatus.CONFLICT),
     PRODUCT_RESTORE_FAILED("상품 재고 복구에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+    PRODUCT_STOCK_HOLD_EXPIRED("재고 확보 시간이 만료되었습니다. 다시 주문해주세요.", HttpStatus.CONFLICT),
 
     // ===== Point =====
     POINT_NOT_FOUND("포인트를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
@@ -98,6 +102,9 @@ public enum ErrorCode {
     ORDER_INVALID_STATUS_FOR_PAYMENT("결제 가능한 상태가 아닙니다.", HttpStatus.CONFLICT),
     ORDER_INVALID_STATUS_FOR_CANCEL("취소 가능한 상태가 아닙니다.", HttpStatus.CONFLICT),
     ORDER_INVALID_STATUS_FOR_COMPLETE("완료 가능한 상태가 아닙니다.", HttpStatus.CONFLICT),
+    ORDER_WAITING_ROOM_CLOSED("대기열이 열린 상품이 아닙니다.", HttpStatus.CONFLICT),
+    ORDER_WAITING_ROOM_TOKEN_NOT_FOUND("대기열 토큰을 찾을 수 없습니다. 다시 대기열에 진입해주세요.", HttpStatus.NOT_FOUND),
+    ORDER_WAITING_ROOM_NOT_ADMITTED("대기열 입장 순서가 아니거나 입장 가능 시간이 지났습니다.", HttpStatus.CONFLICT),
     ORDER_ITEM_NOT_FOUND("주문 아이템을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     ORDER_ITEM_ORDER_ID_REQUIRED("주문 ID는 필수입니다.", HttpStatus.BAD_REQUEST),
     ORDER_ITEM_PRODUCT_ID_REQUIRED("상품 ID는 필수입니다.", HttpStatus.BAD_REQUEST),
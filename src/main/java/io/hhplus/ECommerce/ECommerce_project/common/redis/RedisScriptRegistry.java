@@ -0,0 +1,135 @@
+package io.hhplus.ECommerce.ECommerce_project.common.redis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis Lua Script 레지스트리
+ * - 재고/쿠폰/랭킹 등 모든 Lua Script를 한 곳에서 관리
+ * - 애플리케이션 기동 시 SCRIPT LOAD로 미리 적재 → 첫 호출부터 EVALSHA 적중
+ * - 스크립트 객체와 SHA1은 등록 시 1회만 생성 (호출마다 RedisScript.of 재생성 X)
+ *
+ * NOSCRIPT 처리:
+ * - RedisTemplate의 ScriptExecutor가 EVALSHA 실패(NOSCRIPT) 시 EVAL로 폴백
+ * - EVAL이 스크립트를 다시 캐싱하므로 Redis 재시작 후에도 호출자는 신경 쓸 필요 없음
+ *
+ * 메트릭 (스크립트 이름 태그):
+ * - redis.script.latency: 실행 시간
+ * - redis.script.errors: 실행 실패 횟수
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisScriptRegistry {
+
+    private static final String LATENCY_METRIC = "redis.script.latency";
+    private static final String ERROR_METRIC = "redis.script.errors";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // SHA1 → 등록된 스크립트
+    private final Map<String, RegisteredScript> scripts = new ConcurrentHashMap<>();
+
+    /**
+     * 스크립트 등록
+     * - 각 서비스의 @PostConstruct에서 호출
+     *
+     * @param name 메트릭/로그용 스크립트 이름 (예: stock:decrease)
+     * @param script 등록할 스크립트 (static final 상수로 보관하여 SHA1 재계산 방지)
+     * @return 등록한 스크립트 그대로 반환
+     */
+    public <T> RedisScript<T> register(String name, RedisScript<T> script) {
+        Timer latency = Timer.builder(LATENCY_METRIC)
+                .tag("script", name)
+                .register(meterRegistry);
+        Counter errors = Counter.builder(ERROR_METRIC)
+                .tag("script", name)
+                .register(meterRegistry);
+
+        scripts.put(script.getSha1(), new RegisteredScript(name, script, latency, errors));
+        log.debug("Lua Script 등록: name={}, sha={}", name, script.getSha1());
+        return script;
+    }
+
+    /**
+     * 등록된 모든 스크립트를 Redis에 미리 적재 (SCRIPT LOAD)
+     * - 실패해도 기동은 계속 (첫 호출 시 EVAL 폴백으로 적재됨)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preloadScripts() {
+        int loadedCount = 0;
+
+        for (RegisteredScript registered : scripts.values()) {
+            try {
+                String sha = redisTemplate.execute((RedisCallback<String>) connection ->
+                        connection.scriptingCommands().scriptLoad(
+                                registered.script().getScriptAsString().getBytes(StandardCharsets.UTF_8)
+                        ));
+
+                if (!registered.script().getSha1().equals(sha)) {
+                    log.warn("Lua Script SHA 불일치: name={}, expected={}, actual={}",
+                            registered.name(), registered.script().getSha1(), sha);
+                }
+                loadedCount++;
+
+            } catch (Exception e) {
+                log.warn("Lua Script 사전 적재 실패 (첫 호출 시 EVAL 폴백): name={}", registered.name(), e);
+            }
+        }
+
+        log.info("Lua Script 사전 적재 완료: {}/{}", loadedCount, scripts.size());
+    }
+
+    /**
+     * 스크립트 실행 (EVALSHA, NOSCRIPT 시 EVAL 폴백)
+     *
+     * @param script register()로 등록한 스크립트
+     * @param keys KEYS
+     * @param args ARGV
+     * @return 스크립트 실행 결과
+     */
+    public <T> T execute(RedisScript<T> script, List<String> keys, Object... args) {
+        RegisteredScript registered = scripts.get(script.getSha1());
+
+        if (registered == null) {
+            // 등록되지 않은 스크립트도 실행은 허용 (메트릭만 없음)
+            log.warn("등록되지 않은 Lua Script 실행: sha={}", script.getSha1());
+            return redisTemplate.execute(script, keys, args);
+        }
+
+        long start = System.nanoTime();
+        try {
+            return redisTemplate.execute(script, keys, args);
+
+        } catch (RuntimeException e) {
+            registered.errors().increment();
+            throw e;
+
+        } finally {
+            registered.latency().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private record RegisteredScript(
+            String name,
+            RedisScript<?> script,
+            Timer latency,
+            Counter errors
+    ) {}
+}
@@ -0,0 +1,155 @@
+package io.hhplus.ECommerce.ECommerce_project.common.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 컨슈머 그룹이 아직 ACK하지 않은 메시지 조회
+ * - Pending(전달됐지만 ACK 전) + 미전달(마지막 전달 ID 이후) 메시지
+ * - 스트림 처리 결과가 아직 반영되지 않은 대상을 알아야 하는 작업용 (예: 재고 정합성 검증)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventStreamBacklogReader {
+
+    // Pending 구간 조회 시 허용하는 최대 메시지 수 = limit * 배수 (사이에 ACK된 메시지 포함)
+    private static final int PENDING_RANGE_FACTOR = 4;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * ACK되지 않은 메시지의 이벤트 목록
+     *
+     * @param limit 최대 조회 수 (Pending, 미전달 각각)
+     * @return 이벤트 목록, 밀린 메시지가 limit을 넘으면 null (호출자가 판단 보류)
+     */
+    public <T> List<T> readUnacknowledged(String stream, String group, Class<T> eventType, int limit) {
+        StreamInfo.XInfoGroup groupInfo = redisTemplate.opsForStream().groups(stream).stream()
+                .filter(info -> group.equals(info.groupName()))
+                .findFirst()
+                .orElse(null);
+        if (groupInfo == null) {
+            // 그룹 생성 전 → 스트림 전체가 미전달
+            return readAfter(stream, "0-0", eventType, limit);
+        }
+        if (groupInfo.pendingCount() > limit) {
+            return null;
+        }
+
+        List<T> events = new ArrayList<>();
+        if (groupInfo.pendingCount() > 0) {
+            List<T> pending = readPending(stream, group, eventType, limit);
+            if (pending == null) {
+                return null;
+            }
+            events.addAll(pending);
+        }
+
+        List<T> undelivered = readAfter(stream, groupInfo.lastDeliveredId(), eventType, limit);
+        if (undelivered == null) {
+            return null;
+        }
+        events.addAll(undelivered);
+        return events;
+    }
+
+    /**
+     * Pending 메시지 (가장 오래된 ~ 가장 최근 Pending ID 구간을 XRANGE 1회로 읽고 Pending ID만 골라냄)
+     * - 구간 안에 이미 ACK된 메시지가 limit의 몇 배 이상 섞여 있으면 판단 보류
+     */
+    private <T> List<T> readPending(String stream, String group, Class<T> eventType, int limit) {
+        PendingMessages pendingMessages = redisTemplate.opsForStream()
+                .pending(stream, group, Range.unbounded(), limit);
+        if (pendingMessages.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> pendingIds = new HashSet<>();
+        for (PendingMessage message : pendingMessages) {
+            pendingIds.add(message.getIdAsString());
+        }
+
+        int maxRangeSize = limit * PENDING_RANGE_FACTOR;
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().range(
+                stream,
+                Range.closed(pendingMessages.get(0).getIdAsString(),
+                        pendingMessages.get(pendingMessages.size() - 1).getIdAsString()),
+                Limit.limit().count(maxRangeSize + 1)
+        );
+        if (records == null) {
+            return List.of();
+        }
+        if (records.size() > maxRangeSize) {
+            return null;
+        }
+
+        List<T> events = new ArrayList<>(pendingIds.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            if (pendingIds.contains(record.getId().getValue())) {
+                addEvent(events, record, eventType);
+            }
+        }
+        return events;
+    }
+
+    /**
+     * 스트림의 마지막 메시지 ID (스트림이 없으면 0-0)
+     * - 이후 readAfter()로 이 시점 뒤에 추가된 메시지만 다시 읽을 때 기준점
+     */
+    public String lastId(String stream) {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(stream))) {
+            return "0-0";
+        }
+        return redisTemplate.opsForStream().info(stream).lastGeneratedId();
+    }
+
+    /**
+     * 지정 ID 이후(미포함) 메시지
+     *
+     * @param limit 최대 조회 수
+     * @return 이벤트 목록, 메시지가 limit을 넘으면 null (호출자가 판단 보류)
+     */
+    public <T> List<T> readAfter(String stream, String afterId, Class<T> eventType, int limit) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().range(
+                stream,
+                Range.of(Range.Bound.exclusive(afterId), Range.Bound.unbounded()),
+                Limit.limit().count(limit + 1)
+        );
+        if (records == null) {
+            return List.of();
+        }
+        if (records.size() > limit) {
+            return null;
+        }
+
+        List<T> events = new ArrayList<>(records.size());
+        records.forEach(record -> addEvent(events, record, eventType));
+        return events;
+    }
+
+    private <T> void addEvent(List<T> events, MapRecord<String, Object, Object> record, Class<T> eventType) {
+        try {
+            Object payload = record.getValue().get(EventStreams.FIELD_PAYLOAD);
+            events.add(objectMapper.readValue(String.valueOf(payload), eventType));
+        } catch (Exception e) {
+            // 역직렬화 불가 메시지는 컨슈머가 Dead Letter로 옮기므로 반영 대기 대상 아님
+            log.debug("미반영 메시지 역직렬화 실패: stream={}, id={}", record.getStream(), record.getId());
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package io.hhplus.ECommerce.ECommerce_project.common.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Redis Streams 이벤트 컨슈머
+ * - 등록된 EventStreamHandler마다 컨슈머 그룹으로 XREADGROUP 배치 소비
+ * - 이벤트 1건당 스레드 1개(@Async)가 아닌, 주기 × 배치 크기로 처리량 제어
+ * - 처리 성공(핸들러 정상 반환) 시 XACK, 실패 시 Pending으로 남겨 재처리
+ * - 기동 시/주기적으로 오래된 Pending 메시지를 XCLAIM하여 재처리 (다른 노드가 죽은 경우 포함)
+ * - 최대 전달 횟수를 넘긴 메시지는 Dead Letter 스트림으로 이동
+ */
+@Slf4j
+@Component
+public class EventStreamConsumer {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final List<EventStreamHandler<?>> handlers;
+
+    private final int batchSize;
+    private final Duration claimMinIdle;
+    private final long maxDeliveries;
+    private final long maxStreamLength;
+
+    // 노드별 컨슈머 이름 (pid@host)
+    private final String consumerName = ManagementFactory.getRuntimeMXBean().getName();
+    private final AtomicBoolean ready = new AtomicBoolean(false);
+
+    public EventStreamConsumer(
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            List<EventStreamHandler<?>> handlers,
+            @Value("${event-stream.batch-size:100}") int batchSize,
+            @Value("${event-stream.claim-min-idle-ms:30000}") long claimMinIdleMs,
+            @Value("${event-stream.max-deliveries:5}") long maxDeliveries,
+            @Value("${event-stream.max-length:100000}") long maxStreamLength
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.handlers = handlers;
+        this.batchSize = batchSize;
+        this.claimMinIdle = Duration.ofMillis(claimMinIdleMs);
+        this.maxDeliveries = maxDeliveries;
+        this.maxStreamLength = maxStreamLength;
+    }
+
+    /**
+     * 기동 시 컨슈머 그룹 생성 + 이전 실행에서 남은 Pending 메시지 회수
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        for (EventStreamHandler<?> handler : handlers) {
+            createGroupIfAbsent(handler.stream(), handler.group());
+        }
+        ready.set(true);
+
+        reclaimPending();
+        log.info("이벤트 스트림 컨슈머 시작: consumer={}, handlers={}", consumerName, handlers.size());
+    }
+
+    /**
+     * 새 메시지 배치 소비
+     * - 이전 소비 완료 후 poll-interval-ms 대기 (기본 100ms)
+     */
+    @Scheduled(fixedDelayString = "${event-stream.poll-interval-ms:100}")
+    public void poll() {
+        if (!ready.get()) {
+            return;
+        }
+
+        for (EventStreamHandler<?> handler : handlers) {
+            try {
+                List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                        Consumer.from(handler.group(), consumerName),
+                        StreamReadOptions.empty().count(batchSize),
+                        StreamOffset.create(handler.stream(), ReadOffset.lastConsumed())
+                );
+
+                if (records != null && !records.isEmpty()) {
+                    dispatch(handler, records);
+                }
+
+            } catch (Exception e) {
+                log.error("스트림 소비 실패: stream={}, group={}", handler.stream(), handler.group(), e);
+            }
+        }
+    }
+
+    /**
+     * 오래된 Pending 메시지 회수
+     * - claim-min-idle-ms 이상 ACK되지 않은 메시지를 현재 컨슈머로 XCLAIM 후 재처리
+     * - 전달 횟수가 max-deliveries 이상이면 Dead Letter 스트림으로 이동
+     * - 스트림 길이가 max-length를 넘으면 모든 그룹이 ACK한 메시지만 정리 (Pending/미전달 메시지는 유지)
+     */
+    @Scheduled(fixedDelayString = "${event-stream.reclaim-interval-ms:30000}")
+    public void reclaimPending() {
+        if (!ready.get()) {
+            return;
+        }
+
+        for (EventStreamHandler<?> handler : handlers) {
+            try {
+                reclaimPending(handler);
+                trimAcknowledged(handler.stream());
+            } catch (Exception e) {
+                log.error("Pending 메시지 회수 실패: stream={}, group={}", handler.stream(), handler.group(), e);
+            }
+        }
+    }
+
+    private void reclaimPending(EventStreamHandler<?> handler) {
+        PendingMessages pendingMessages = redisTemplate.opsForStream()
+                .pending(handler.stream(), handler.group(), Range.unbounded(), batchSize);
+
+        List<RecordId> claimIds = new ArrayList<>();
+        List<RecordId> deadLetterIds = new ArrayList<>();
+
+        for (PendingMessage message : pendingMessages) {
+            if (message.getElapsedTimeSinceLastDelivery().compareTo(claimMinIdle) < 0) {
+                continue;
+            }
+
+            if (message.getTotalDeliveryCount() >= maxDeliveries) {
+                deadLetterIds.add(message.getId());
+            } else {
+                claimIds.add(message.getId());
+            }
+        }
+
+        if (!deadLetterIds.isEmpty()) {
+            List<MapRecord<String, Object, Object>> deadRecords = redisTemplate.opsForStream().claim(
+                    handler.stream(), handler.group(), consumerName, claimMinIdle,
+                    deadLetterIds.toArray(RecordId[]::new)
+            );
+            deadRecords.forEach(record -> moveToDeadLetter(handler, record));
+        }
+
+        if (!claimIds.isEmpty()) {
+            List<MapRecord<String, Object, Object>> claimed = redisTemplate.opsForStream().claim(
+                    handler.stream(), handler.group(), consumerName, claimMinIdle,
+                    claimIds.toArray(RecordId[]::new)
+            );
+
+            if (!claimed.isEmpty()) {
+                log.info("Pending 메시지 회수: stream={}, count={}", handler.stream(), claimed.size());
+                dispatch(handler, claimed);
+            }
+        }
+    }
+
+    /**
+     * 배치 처리 → 실패 시 1건씩 재처리하여 성공한 메시지만 ACK
+     * - 핸들러가 예외 없이 반환한 뒤에만 ACK (DB 반영은 핸들러 안에서 커밋까지 완료)
+     */
+    private <T> void dispatch(EventStreamHandler<T> handler, List<MapRecord<String, Object, Object>> records) {
+        List<StreamMessage<T>> messages = new ArrayList<>(records.size());
+
+        for (MapRecord<String, Object, Object> record : records) {
+            T event = deserialize(handler, record);
+            if (event == null) {
+                // 역직렬화 불가 메시지는 재시도해도 실패하므로 바로 Dead Letter
+                moveToDeadLetter(handler, record);
+                continue;
+            }
+            messages.add(new StreamMessage<>(record.getId().getValue(), event));
+        }
+
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        try {
+            handler.handle(messages);
+            acknowledge(handler, messages);
+
+        } catch (Exception batchFailure) {
+            log.warn("스트림 배치 처리 실패, 개별 재처리: stream={}, size={}",
+                    handler.stream(), messages.size(), batchFailure);
+
+            List<StreamMessage<T>> succeeded = new ArrayList<>();
+            for (StreamMessage<T> message : messages) {
+                try {
+                    handler.handle(List.of(message));
+                    succeeded.add(message);
+                } catch (Exception e) {
+                    // ACK하지 않음 → Pending으로 남아 reclaimPending에서 재시도, max-deliveries 초과 시 Dead Letter
+                    log.error("스트림 이벤트 처리 실패: stream={}, id={}", handler.stream(), message.id(), e);
+                }
+            }
+            acknowledge(handler, succeeded);
+        }
+    }
+
+    /**
+     * ACK된 메시지만 정리 (XTRIM MINID)
+     * - MAXLEN 트리밍은 Pending/미전달 메시지까지 지울 수 있음 → 재처리 불가
+     * - 모든 그룹의 "가장 오래된 Pending ID"(없으면 마지막 전달 ID) 중 최솟값보다 앞선 메시지만 삭제
+     */
+    private void trimAcknowledged(String stream) {
+        Long length = redisTemplate.opsForStream().size(stream);
+        if (length == null || length <= maxStreamLength) {
+            return;
+        }
+
+        String minId = oldestUnacknowledgedId(stream);
+        if (minId == null) {
+            return;
+        }
+
+        Object trimmed = redisTemplate.execute((RedisCallback<Object>) connection -> connection.execute(
+                "XTRIM",
+                stream.getBytes(StandardCharsets.UTF_8),
+                "MINID".getBytes(StandardCharsets.UTF_8),
+                "~".getBytes(StandardCharsets.UTF_8),
+                minId.getBytes(StandardCharsets.UTF_8)
+        ));
+        log.debug("스트림 정리: stream={}, minId={}, trimmed={}", stream, minId, trimmed);
+    }
+
+    /**
+     * 아직 ACK되지 않았거나 전달되지 않은 메시지 중 가장 앞선 ID (그룹이 없으면 null)
+     */
+    private String oldestUnacknowledgedId(String stream) {
+        String minId = null;
+
+        for (StreamInfo.XInfoGroup group : redisTemplate.opsForStream().groups(stream).stream().toList()) {
+            String groupMinId = group.lastDeliveredId();
+            if (group.pendingCount() > 0) {
+                PendingMessagesSummary summary = redisTemplate.opsForStream().pending(stream, group.groupName());
+                if (summary != null && summary.minMessageId() != null) {
+                    groupMinId = summary.minMessageId();
+                }
+            }
+
+            if (minId == null || compareIds(groupMinId, minId) < 0) {
+                minId = groupMinId;
+            }
+        }
+        return minId;
+    }
+
+    private int compareIds(String left, String right) {
+        RecordId leftId = RecordId.of(left);
+        RecordId rightId = RecordId.of(right);
+        int compared = Long.compare(leftId.getTimestamp(), rightId.getTimestamp());
+        return compared != 0 ? compared : Long.compare(leftId.getSequence(), rightId.getSequence());
+    }
+
+    private <T> T deserialize(EventStreamHandler<T> handler, MapRecord<String, Object, Object> record) {
+        try {
+            Object payload = record.getValue().get(EventStreams.FIELD_PAYLOAD);
+            return objectMapper.readValue(String.valueOf(payload), handler.eventType());
+        } catch (Exception e) {
+            log.error("스트림 이벤트 역직렬화 실패: stream={}, id={}", handler.stream(), record.getId(), e);
+            return null;
+        }
+    }
+
+    private void acknowledge(EventStreamHandler<?> handler, List<? extends StreamMessage<?>> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        String[] ids = messages.stream().map(StreamMessage::id).toArray(String[]::new);
+        redisTemplate.opsForStream().acknowledge(handler.stream(), handler.group(), ids);
+    }
+
+    /**
+     * Dead Letter 스트림으로 이동 후 원본 ACK
+     */
+    private void moveToDeadLetter(EventStreamHandler<?> handler, MapRecord<String, Object, Object> record) {
+        Map<String, String> fields = new HashMap<>();
+        record.getValue().forEach((key, value) -> fields.put(String.valueOf(key), String.valueOf(value)));
+        fields.put("sourceStream", handler.stream());
+        fields.put("sourceGroup", handler.group());
+        fields.put("sourceId", record.getId().getValue());
+
+        redisTemplate.opsForStream().add(StreamRecords.string(fields).withStreamKey(EventStreams.DEAD_LETTER));
+        redisTemplate.opsForStream().acknowledge(handler.stream(), handler.group(), record.getId());
+
+        log.error("Dead Letter 스트림으로 이동: stream={}, id={}", handler.stream(), record.getId());
+    }
+
+    /**
+     * 컨슈머 그룹 생성 (스트림이 없으면 함께 생성, 이미 있으면 무시)
+     */
+    private void createGroupIfAbsent(String stream, String group) {
+        try {
+            redisTemplate.execute((RedisCallback<String>) connection ->
+                    connection.streamCommands().xGroupCreate(
+                            stream.getBytes(StandardCharsets.UTF_8),
+                            group,
+                            ReadOffset.from("0"),
+                            true   // MKSTREAM
+                    ));
+            log.info("컨슈머 그룹 생성: stream={}, group={}", stream, group);
+
+        } catch (Exception e) {
+            if (isBusyGroup(e)) {
+                log.debug("컨슈머 그룹 이미 존재: stream={}, group={}", stream, group);
+                return;
+            }
+            log.error("컨슈머 그룹 생성 실패: stream={}, group={}", stream, group, e);
+        }
+    }
+
+    private boolean isBusyGroup(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t.getMessage() != null && t.getMessage().contains("BUSYGROUP")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,36 @@
+package io.hhplus.ECommerce.ECommerce_project.common.stream;
+
+import java.util.List;
+
+/**
+ * Redis Streams 이벤트 핸들러
+ * - 구현체를 Bean으로 등록하면 EventStreamConsumer가 컨슈머 그룹으로 구독
+ * - 배치 단위로 전달되며, 예외 없이 반환되면 전체 XACK
+ * - 배치 처리가 실패하면 메시지를 1건씩 다시 처리하여 실패한 메시지만 Pending으로 남김
+ * - At-least-once 전달이므로 재처리될 수 있음 → 상대값 반영처럼 멱등하지 않은 처리는 메시지 ID로 중복 반영 방지
+ * - DB 등 외부 반영은 커밋까지 끝난 뒤 반환해야 함 (반환 = ACK, 실패는 예외로 알려야 재전달)
+ *
+ * @param <T> 이벤트 타입
+ */
+public interface EventStreamHandler<T> {
+
+    /**
+     * 구독할 스트림 키
+     */
+    String stream();
+
+    /**
+     * 컨슈머 그룹 이름
+     */
+    String group();
+
+    /**
+     * 역직렬화할 이벤트 타입
+     */
+    Class<T> eventType();
+
+    /**
+     * 메시지 배치 처리
+     */
+    void handle(List<StreamMessage<T>> messages);
+}
@@ -0,0 +1,55 @@
+package io.hhplus.ECommerce.ECommerce_project.common.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.BusinessException;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Redis Streams 이벤트 발행기
+ * - XADD로 이벤트를 스트림에 영속화 (노드 장애/재시작에도 유실 없음)
+ * - 메시지 형식: { type: 이벤트 클래스명, payload: JSON }
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventStreamPublisher {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 이벤트 발행
+     *
+     * @param stream 스트림 키 (EventStreams 상수)
+     * @param event 발행할 이벤트 (record)
+     * @return 생성된 메시지 ID
+     */
+    public RecordId publish(String stream, Object event) {
+        try {
+            String payload = objectMapper.writeValueAsString(event);
+
+            RecordId recordId = redisTemplate.opsForStream().add(
+                    StreamRecords.string(Map.of(
+                            EventStreams.FIELD_TYPE, event.getClass().getSimpleName(),
+                            EventStreams.FIELD_PAYLOAD, payload
+                    )).withStreamKey(stream)
+            );
+
+            log.debug("스트림 이벤트 발행: stream={}, id={}, event={}", stream, recordId, event);
+            return recordId;
+
+        } catch (JsonProcessingException e) {
+            log.error("스트림 이벤트 직렬화 실패: stream={}, event={}", stream, event, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package io.hhplus.ECommerce.ECommerce_project.common.stream;
+
+/**
+ * Redis Streams 키 / 컨슈머 그룹 상수
+ * - 이벤트 타입별로 스트림 1개
+ * - 처리 실패가 반복된 메시지는 DEAD_LETTER 스트림으로 이동
+ */
+public final class EventStreams {
+
+    private EventStreams() {}
+
+    // ===== 스트림 키 =====
+    public static final String STOCK_DECREASED = "stream:stock:decreased";
+    public static final String STOCK_INCREASED = "stream:stock:increased";
+    public static final String PAYMENT_COMPLETED = "stream:payment:completed";
+    public static final String DEAD_LETTER = "stream:dead-letter";
+
+    // ===== 컨슈머 그룹 =====
+    public static final String STOCK_SYNC_GROUP = "stock-sync";
+    public static final String RANKING_GROUP = "ranking";
+
+    // ===== 메시지 필드 =====
+    static final String FIELD_TYPE = "type";
+    static final String FIELD_PAYLOAD = "payload";
+}
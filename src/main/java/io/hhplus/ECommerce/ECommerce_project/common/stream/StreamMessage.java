@@ -0,0 +1,23 @@
+package io.hhplus.ECommerce.ECommerce_project.common.stream;
+
+/**
+ * 스트림 메시지 (메시지 ID + 역직렬화된 이벤트)
+ * - 메시지 ID는 재전달돼도 같으므로 핸들러가 중복 반영을 막는 멱등 키로 사용
+ *
+ * @param id 스트림 메시지 ID (예: 1700000000000-0, 앞부분은 XADD 시각 ms)
+ * @param event 이벤트
+ * @param <T> 이벤트 타입
+ */
+public record StreamMessage<T>(
+        String id,
+        T event
+) {
+
+    /**
+     * 메시지 ID의 XADD 시각 (ms)
+     */
+    public long timestampMillis() {
+        int delimiterIndex = id.indexOf('-');
+        return Long.parseLong(delimiterIndex > 0 ? id.substring(0, delimiterIndex) : id);
+    }
+}
@@ -1,5 +1,7 @@
 package io.hhplus.ECommerce.ECommerce_project.coupon.application.service;
 
+import io.hhplus.ECommerce.ECommerce_project.common.redis.RedisScriptRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -29,12 +31,65 @@ import java.util.List;
 public class RedisCouponService {
 
     private final RedisTemplate<String, String> redisTemplate;
-    private final RedisScript<Long> redisCouponIssueScript;
+    private final RedisScriptRegistry redisScriptRegistry;
 
     private static final String COUPON_ISSUE_PREFIX = "coupon:issue:";
     private static final long DEFAULT_TTL_DAYS = 30;
     private static final long DEFAULT_TTL_SECONDS = DEFAULT_TTL_DAYS * 24 * 60 * 60; // 30일
 
+    /**
+     * 선착순 쿠폰 발급 Lua Script
+     *
+     * KEYS[1]: coupon:issue:{couponId}
+     * ARGV[1]: userId (String)
+     * ARGV[2]: timestamp (long)
+     * ARGV[3]: maxQuantity (int)
+     * ARGV[4]: TTL in seconds (long)
+     *
+     * 반환값:
+     * - >= 0: 발급 성공, 순위 반환 (0부터 시작)
+     * - -1: 이미 발급받음 (중복)
+     * - -2: 수량 초과
+     */
+    private static final RedisScript<Long> COUPON_ISSUE_SCRIPT = RedisScript.of(
+            """
+            -- 1. 중복 체크: 이미 발급받았는지 확인
+            local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            if score then
+                return -1
+            end
+
+            -- 2. Sorted Set에 추가 (timestamp를 score로 사용)
+            redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+
+            -- 3. 본인의 순위 확인 (0부터 시작, 0 = 1등)
+            local rank = redis.call('ZRANK', KEYS[1], ARGV[1])
+
+            -- 4. 순위가 최대 수량 이내인지 검증
+            if rank < tonumber(ARGV[3]) then
+                -- TTL 설정 (처음 설정되지 않은 경우에만)
+                local ttl = redis.call('TTL', KEYS[1])
+                if ttl == -1 then
+                    redis.call('EXPIRE', KEYS[1], ARGV[4])
+                end
+                return rank
+            else
+                -- 순위 초과 시 삭제하고 실패 반환
+                redis.call('ZREM', KEYS[1], ARGV[1])
+                return -2
+            end
+            """,
+            Long.class
+    );
+
+    /**
+     * 쿠폰 스크립트 등록 (기동 시 SCRIPT LOAD 대상)
+     */
+    @PostConstruct
+    void registerScripts() {
+        redisScriptRegistry.register("coupon:issue", COUPON_ISSUE_SCRIPT);
+    }
+
     /**
      * 선착순 쿠폰 발급 시도
      *
@@ -53,8 +108,8 @@ public class RedisCouponService {
         long timestamp = System.currentTimeMillis();
 
         // Lua Script 실행
-        Long result = redisTemplate.execute(
-                redisCouponIssueScript,
+        Long result = redisScriptRegistry.execute(
+                COUPON_ISSUE_SCRIPT,
                 List.of(key),   // KEYS
                 userId.toString(),
                 String.valueOf(timestamp),
@@ -17,6 +17,7 @@ import io.hhplus.ECommerce.ECommerce_project.point.domain.entity.Point;
 import io.hhplus.ECommerce.ECommerce_project.point.domain.entity.PointUsageHistory;
 import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductFinderService;
 import io.hhplus.ECommerce.ECommerce_project.product.application.service.RedisStockService;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.StockService;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
 import io.hhplus.ECommerce.ECommerce_project.user.application.service.UserFinderService;
 import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
@@ -43,6 +44,7 @@ public class CancelOrderUseCase {
     private final PointFinderService pointFinderService;
     private final PointUsageHistoryFinderService pointUsageHistoryFinderService;
     private final RedisStockService redisStockService;
+    private final StockService stockService;
 
     @Transactional
     public void execute(CancelOrderCommand command) {
@@ -67,18 +69,24 @@ public class CancelOrderUseCase {
         List<OrderItem> orderItems = orderItemFinderService.getOrderItems(command.orderId());
 
         // 7. 상품 재고 복구 (동시성 제어 적용, 여러 사람이 동시에 주문 취소시 재고 복구에 동시성 이슈 발생 가능)
-        for (OrderItem orderItem : orderItems) {
-            Long productId = orderItem.getProduct().getId();
+        if (order.isPending() || order.isPaymentFailed()) {
+            // 7-0. 판매 확정 전 주문: 재고 홀드 해제 (DB 재고는 이벤트로 반영, 이미 만료/보상된 홀드면 복구할 재고 없음)
+            stockService.releaseOrderHold(order.getId());
+
+        } else {
+            for (OrderItem orderItem : orderItems) {
+                Long productId = orderItem.getProduct().getId();
 
-            // 7-1. 주문 아이템의 상품 조회(비관적 락)
-            Product product = productFinderService.getProductWithLock(orderItem.getProduct().getId());
+                // 7-1. 주문 아이템의 상품 조회(비관적 락)
+                Product product = productFinderService.getProductWithLock(orderItem.getProduct().getId());
 
-            // 7-2. 해당 상품 재고 증가(DB 복구)
-            product.increaseStock(orderItem.getQuantity());
+                // 7-2. 해당 상품 재고 증가(DB 복구)
+                product.increaseStock(orderItem.getQuantity());
 
-            // 7-3. Redis 재고 복구 (원자적 증가 연산 사용)
-            // setStock() 대신 increaseStock() 사용하여 Race Condition 방지
-            redisStockService.increaseStock(productId, orderItem.getQuantity());
+                // 7-3. Redis 재고 복구 (원자적 증가 연산 사용)
+                // setStock() 대신 increaseStock() 사용하여 Race Condition 방지
+                redisStockService.increaseStock(productId, orderItem.getQuantity());
+            }
         }
 
         // 8. 쿠폰 복구
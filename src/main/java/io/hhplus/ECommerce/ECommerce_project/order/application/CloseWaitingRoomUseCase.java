@@ -0,0 +1,26 @@
+package io.hhplus.ECommerce.ECommerce_project.order.application;
+
+import io.hhplus.ECommerce.ECommerce_project.order.application.service.OrderWaitingRoomService;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.service.ProductDomainService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 플래시 세일 대기열 닫기 (이후 해당 상품 주문은 바로 진행)
+ */
+@Service
+@RequiredArgsConstructor
+public class CloseWaitingRoomUseCase {
+
+    private final ProductDomainService productDomainService;
+    private final OrderWaitingRoomService orderWaitingRoomService;
+
+    public void execute(Long productId) {
+
+        // 1. ID 검증
+        productDomainService.validateId(productId);
+
+        // 2. 대기열 닫기 (대기/입장 정보 삭제)
+        orderWaitingRoomService.close(productId);
+    }
+}
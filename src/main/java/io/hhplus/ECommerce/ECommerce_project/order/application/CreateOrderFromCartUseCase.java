@@ -12,7 +12,9 @@ import io.hhplus.ECommerce.ECommerce_project.coupon.domain.entity.UserCoupon;
 import io.hhplus.ECommerce.ECommerce_project.coupon.domain.service.CouponDomainService;
 import io.hhplus.ECommerce.ECommerce_project.order.application.command.CreateOrderFromCartCommand;
 import io.hhplus.ECommerce.ECommerce_project.order.application.dto.ValidatedOrderFromCartData;
+import io.hhplus.ECommerce.ECommerce_project.order.application.dto.WaitingRoomAdmission;
 import io.hhplus.ECommerce.ECommerce_project.order.application.service.OrderCompletionService;
+import io.hhplus.ECommerce.ECommerce_project.order.application.service.OrderWaitingRoomService;
 import io.hhplus.ECommerce.ECommerce_project.order.domain.constants.ShippingPolicy;
 import io.hhplus.ECommerce.ECommerce_project.order.presentation.response.CreateOrderResponse;
 import io.hhplus.ECommerce.ECommerce_project.point.application.service.PointFinderService;
@@ -50,23 +52,44 @@ public class CreateOrderFromCartUseCase {
     private final PointDomainService pointDomainService;
     private final PointFinderService pointFinderService;
     private final OrderCompletionService orderCompletionService;
+    private final OrderWaitingRoomService orderWaitingRoomService;
 
     public CreateOrderResponse execute(CreateOrderFromCartCommand command) {
 
-        // 1. 검증 및 사전 계산 (트랜잭션 밖)
+        // 1. 검증 및 사전 계산 (트랜잭션 밖, 대기열 입장 확인 포함)
         ValidatedOrderFromCartData validatedOrderFromCartData = validateAndCalculate((command));
 
-        // 2. 재고 차감 (트랜잭션 1)
-        stockService.reserveStocks(validatedOrderFromCartData.sortedEntries());
+        // 2. 대기열이 열린 상품의 입장 토큰 사용 (검증 통과 후, 이후 실패 시 반환)
+        List<Long> productIds = validatedOrderFromCartData.sortedEntries().stream()
+                .map(Map.Entry::getKey)
+                .toList();
+        List<WaitingRoomAdmission> admissions =
+                orderWaitingRoomService.enter(command.userId(), productIds, command.queueTokens());
+
+        // 3. 재고 확보 (Redis 홀드, 만료 시 자동 복구)
+        // - 전체 상품 All-or-Nothing 차감: 재고 부족 시 아무것도 차감되지 않으므로 입장 토큰만 반환
+        String holdId;
+        try {
+            holdId = stockService.reserveStocks(validatedOrderFromCartData.sortedEntries());
+        } catch (Exception e) {
+            orderWaitingRoomService.restore(admissions);
+            throw e;
+        }
 
+        CreateOrderResponse response;
         try {
-            // 3. 주문 완료 (트랜잭션 2)
-            return orderCompletionService.completeOrderFromCart(command, validatedOrderFromCartData);
+            // 4. 주문 완료 (트랜잭션 2)
+            response = orderCompletionService.completeOrderFromCart(command, validatedOrderFromCartData);
         } catch (Exception e) {
-            // 4. 실패 시 재고 복구
-            stockService.compensateStocks(validatedOrderFromCartData.sortedEntries());
+            // 5. 주문 완료 실패 시 재고 홀드 해제 + 입장 토큰 반환
+            stockService.releaseHold(holdId);
+            orderWaitingRoomService.restore(admissions);
             throw e;
         }
+
+        // 6. 재고 홀드를 주문에 연결 (결제 시 확정, 미결제 시 만료 스윕으로 복구)
+        stockService.bindHold(holdId, response.orderId());
+        return response;
     }
 
     private ValidatedOrderFromCartData validateAndCalculate(CreateOrderFromCartCommand command) {
@@ -110,6 +133,9 @@ public class CreateOrderFromCartUseCase {
                 .sorted(Map.Entry.comparingByKey())
                 .toList();
 
+        // 3-3. 대기열이 열린 상품이면 입장 허용된 토큰만 통과 (상품/쿠폰/포인트 DB 검증 전에 차단)
+        orderWaitingRoomService.verify(command.userId(), productOrderQuantityMap.keySet(), command.queueTokens());
+
         Map<Long, Product> productMap = new HashMap<>();
         for (Map.Entry<Long, Integer> entry : sortedEntries) {
             Long productId = entry.getKey();
@@ -8,7 +8,9 @@ import io.hhplus.ECommerce.ECommerce_project.coupon.domain.entity.Coupon;
 import io.hhplus.ECommerce.ECommerce_project.coupon.domain.entity.UserCoupon;
 import io.hhplus.ECommerce.ECommerce_project.order.application.command.CreateOrderFromProductCommand;
 import io.hhplus.ECommerce.ECommerce_project.order.application.dto.ValidatedOrderFromProductData;
+import io.hhplus.ECommerce.ECommerce_project.order.application.dto.WaitingRoomAdmission;
 import io.hhplus.ECommerce.ECommerce_project.order.application.service.OrderCompletionService;
+import io.hhplus.ECommerce.ECommerce_project.order.application.service.OrderWaitingRoomService;
 import io.hhplus.ECommerce.ECommerce_project.order.domain.constants.ShippingPolicy;
 import io.hhplus.ECommerce.ECommerce_project.order.presentation.response.CreateOrderResponse;
 import io.hhplus.ECommerce.ECommerce_project.point.application.service.PointFinderService;
@@ -26,6 +28,7 @@ import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -41,23 +44,46 @@ public class CreateOrderFromProductUseCase {
     private final PointDomainService pointDomainService;
     private final PointFinderService pointFinderService;
     private final OrderCompletionService orderCompletionService;
+    private final OrderWaitingRoomService orderWaitingRoomService;
 
     public CreateOrderResponse execute(CreateOrderFromProductCommand command) {
+        List<Long> productIds = List.of(command.productId());
+        Map<Long, String> queueTokens = command.queueToken() != null
+                ? Map.of(command.productId(), command.queueToken())
+                : Map.of();
+
+        // 0. 대기열이 열린 상품이면 입장 허용된 토큰만 통과 (DB 검증 전에 차단, 토큰은 아직 사용하지 않음)
+        orderWaitingRoomService.verify(command.userId(), productIds, queueTokens);
 
         // 1. 검증 및 사전 계산 (트랜잭션 밖)
         ValidatedOrderFromProductData validatedOrderFromProductData = validateAndCalculate((command));
 
-        // 2. 재고 차감 (트랜잭션 1)
-        stockService.reserveStock(command.productId(), command.quantity());
+        // 2. 입장 토큰 사용 (검증 통과 후, 이후 실패 시 반환)
+        List<WaitingRoomAdmission> admissions = orderWaitingRoomService.enter(command.userId(), productIds, queueTokens);
 
+        // 3. 재고 확보 (Redis 홀드, 만료 시 자동 복구)
+        String holdId;
         try {
-            // 3. 주문 완료 (트랜잭션 2)
-            return orderCompletionService.completeOrderFromProduct(command, validatedOrderFromProductData);
+            holdId = stockService.reserveStock(command.productId(), command.quantity());
         } catch (Exception e) {
-            // 4. 실패 시 재고 복구 (보상 트랜잭션)
-            stockService.compensateStock(command.productId(), command.quantity());
+            orderWaitingRoomService.restore(admissions);
             throw e;
         }
+
+        CreateOrderResponse response;
+        try {
+            // 4. 주문 완료 (트랜잭션 2)
+            response = orderCompletionService.completeOrderFromProduct(command, validatedOrderFromProductData);
+        } catch (Exception e) {
+            // 5. 실패 시 재고 홀드 해제 + 입장 토큰 반환 (보상)
+            stockService.releaseHold(holdId);
+            orderWaitingRoomService.restore(admissions);
+            throw e;
+        }
+
+        // 6. 재고 홀드를 주문에 연결 (결제 시 확정, 미결제 시 만료 스윕으로 복구)
+        stockService.bindHold(holdId, response.orderId());
+        return response;
     }
 
     private ValidatedOrderFromProductData validateAndCalculate(CreateOrderFromProductCommand command) {
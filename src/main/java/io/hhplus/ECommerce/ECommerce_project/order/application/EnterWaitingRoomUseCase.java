@@ -0,0 +1,36 @@
+package io.hhplus.ECommerce.ECommerce_project.order.application;
+
+import io.hhplus.ECommerce.ECommerce_project.order.application.command.EnterWaitingRoomCommand;
+import io.hhplus.ECommerce.ECommerce_project.order.application.service.OrderWaitingRoomService;
+import io.hhplus.ECommerce.ECommerce_project.order.presentation.response.WaitingRoomResponse;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.service.ProductDomainService;
+import io.hhplus.ECommerce.ECommerce_project.user.domain.service.UserDomainService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 플래시 세일 대기열 진입
+ * - 몰리는 요청을 DB에 닿기 전에 받아내야 하므로 DB 조회 없이 Redis만 사용
+ * - 사용자/상품 존재 여부는 입장 후 주문 생성 시 검증
+ */
+@Service
+@RequiredArgsConstructor
+public class EnterWaitingRoomUseCase {
+
+    private final UserDomainService userDomainService;
+    private final ProductDomainService productDomainService;
+    private final OrderWaitingRoomService orderWaitingRoomService;
+
+    public WaitingRoomResponse execute(EnterWaitingRoomCommand command) {
+
+        // 1. ID 검증
+        userDomainService.validateId(command.userId());
+        productDomainService.validateId(command.productId());
+
+        // 2. 대기열 진입 (이미 대기 중이면 기존 토큰)
+        String token = orderWaitingRoomService.enqueue(command.productId(), command.userId());
+
+        // 3. 현재 순번 반환
+        return WaitingRoomResponse.from(orderWaitingRoomService.getStatus(command.productId(), token));
+    }
+}
@@ -0,0 +1,27 @@
+package io.hhplus.ECommerce.ECommerce_project.order.application;
+
+import io.hhplus.ECommerce.ECommerce_project.order.application.service.OrderWaitingRoomService;
+import io.hhplus.ECommerce.ECommerce_project.order.presentation.response.WaitingRoomResponse;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.service.ProductDomainService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 대기열 순번 조회 (클라이언트 폴링용, Redis만 사용)
+ */
+@Service
+@RequiredArgsConstructor
+public class GetWaitingRoomStatusUseCase {
+
+    private final ProductDomainService productDomainService;
+    private final OrderWaitingRoomService orderWaitingRoomService;
+
+    public WaitingRoomResponse execute(Long productId, String token) {
+
+        // 1. ID 검증
+        productDomainService.validateId(productId);
+
+        // 2. 순번/입장 여부 조회
+        return WaitingRoomResponse.from(orderWaitingRoomService.getStatus(productId, token));
+    }
+}
@@ -0,0 +1,31 @@
+package io.hhplus.ECommerce.ECommerce_project.order.application;
+
+import io.hhplus.ECommerce.ECommerce_project.order.application.service.OrderWaitingRoomService;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductFinderService;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.service.ProductDomainService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 플래시 세일 대기열 열기 (이후 해당 상품 주문은 입장 허용된 토큰 필요)
+ */
+@Service
+@RequiredArgsConstructor
+public class OpenWaitingRoomUseCase {
+
+    private final ProductDomainService productDomainService;
+    private final ProductFinderService productFinderService;
+    private final OrderWaitingRoomService orderWaitingRoomService;
+
+    public void execute(Long productId) {
+
+        // 1. ID 검증
+        productDomainService.validateId(productId);
+
+        // 2. 상품 존재 확인
+        productFinderService.getProduct(productId);
+
+        // 3. 대기열 열기
+        orderWaitingRoomService.open(productId);
+    }
+}
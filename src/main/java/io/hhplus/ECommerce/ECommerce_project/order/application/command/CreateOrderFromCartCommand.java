@@ -2,10 +2,16 @@ package io.hhplus.ECommerce.ECommerce_project.order.application.command;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 
 public record CreateOrderFromCartCommand(
         Long userId,
         List<Long> cartItemIds,
         BigDecimal pointAmount,  // 사용할 포인트 (선택, null 가능)
-        Long couponId           // 사용할 쿠폰 ID (선택, null 가능)
-) {}
+        Long couponId,           // 사용할 쿠폰 ID (선택, null 가능)
+        Map<Long, String> queueTokens  // 상품 ID → 대기열 입장 토큰 (대기열이 열린 상품만 필수)
+) {
+    public CreateOrderFromCartCommand(Long userId, List<Long> cartItemIds, BigDecimal pointAmount, Long couponId) {
+        this(userId, cartItemIds, pointAmount, couponId, null);
+    }
+}
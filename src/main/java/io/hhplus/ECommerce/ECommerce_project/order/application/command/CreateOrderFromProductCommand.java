@@ -7,5 +7,10 @@ public record CreateOrderFromProductCommand(
         Long productId,         // 주문할 상품 ID
         Integer quantity,       // 주문 수량
         BigDecimal pointAmount, // 사용할 포인트 (선택, null 가능)
-        Long couponId          // 사용할 쿠폰 ID (선택, null 가능)
-) {}
\ No newline at end of file
+        Long couponId,         // 사용할 쿠폰 ID (선택, null 가능)
+        String queueToken      // 대기열 입장 토큰 (대기열이 열린 상품만 필수)
+) {
+    public CreateOrderFromProductCommand(Long userId, Long productId, Integer quantity, BigDecimal pointAmount, Long couponId) {
+        this(userId, productId, quantity, pointAmount, couponId, null);
+    }
+}
\ No newline at end of file
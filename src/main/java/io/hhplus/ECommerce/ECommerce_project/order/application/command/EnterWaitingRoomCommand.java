@@ -0,0 +1,6 @@
+package io.hhplus.ECommerce.ECommerce_project.order.application.command;
+
+public record EnterWaitingRoomCommand(
+        Long productId,
+        Long userId
+) {}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package io.hhplus.ECommerce.ECommerce_project.order.application.dto;
+
+public record WaitingRoomAdmission(
+        Long productId,
+        Long userId,
+        String token,
+        long admittedUntil  // 사용 전 입장 유효 시각(ms, 토큰 반환 시 그대로 복원)
+) {
+}
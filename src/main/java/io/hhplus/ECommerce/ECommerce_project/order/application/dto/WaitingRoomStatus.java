@@ -0,0 +1,14 @@
+package io.hhplus.ECommerce.ECommerce_project.order.application.dto;
+
+public record WaitingRoomStatus(
+        String token,
+        State state,
+        long position,            // 대기 순번 (1부터, 입장 허용 시 0)
+        long waitingCount,        // 현재 대기 인원
+        long estimatedWaitMillis  // 예상 대기 시간 (입장 허용 시 0)
+) {
+    public enum State {
+        WAITING,
+        ADMITTED
+    }
+}
@@ -0,0 +1,83 @@
+package io.hhplus.ECommerce.ECommerce_project.order.application.scheduler;
+
+import io.hhplus.ECommerce.ECommerce_project.order.application.service.OrderFinderService;
+import io.hhplus.ECommerce.ECommerce_project.order.application.service.OrderItemFinderService;
+import io.hhplus.ECommerce.ECommerce_project.order.domain.entity.Orders;
+import io.hhplus.ECommerce.ECommerce_project.order.domain.enums.OrderStatus;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.StockService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재고 홀드 도입 전 PENDING 주문 이관
+ * - 홀드 도입 전 주문은 주문 생성 시 재고를 바로 차감했으므로 홀드가 없음
+ *   → 그대로 두면 결제는 PRODUCT_STOCK_HOLD_EXPIRED로 거절되고, 취소/만료 시 재고도 복구되지 않음
+ * - 기동 시 legacy-orders-before 이전에 생성된 PENDING 주문을 주문 홀드로 등록 (재고는 그대로)
+ *   → 이후 결제/취소/만료/결제 실패 보상은 다른 주문과 같은 홀드 경로로 처리
+ * - 등록은 주문별 1회만 (재기동/여러 노드 동시 실행에도 중복 등록 없음)
+ * - legacy-orders-before가 비어 있으면 실행하지 않음 (이관이 끝난 뒤 설정 제거)
+ */
+@Slf4j
+@Component
+public class LegacyOrderStockHoldMigration {
+
+    private final OrderFinderService orderFinderService;
+    private final OrderItemFinderService orderItemFinderService;
+    private final StockService stockService;
+    private final String legacyOrdersBefore;
+
+    public LegacyOrderStockHoldMigration(
+            OrderFinderService orderFinderService,
+            OrderItemFinderService orderItemFinderService,
+            StockService stockService,
+            @Value("${stock.hold.legacy-orders-before:}") String legacyOrdersBefore
+    ) {
+        this.orderFinderService = orderFinderService;
+        this.orderItemFinderService = orderItemFinderService;
+        this.stockService = stockService;
+        this.legacyOrdersBefore = legacyOrdersBefore;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void adoptLegacyOrders() {
+        if (legacyOrdersBefore == null || legacyOrdersBefore.isBlank()) {
+            return;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.parse(legacyOrdersBefore.trim());
+        List<Orders> legacyOrders = orderFinderService.getExpiredOrders(OrderStatus.PENDING, cutoff);
+        if (legacyOrders.isEmpty()) {
+            log.info("재고 홀드 이관 대상 주문 없음: cutoff={}", cutoff);
+            return;
+        }
+
+        int adoptedCount = 0;
+        int failCount = 0;
+        for (Orders order : legacyOrders) {
+            try {
+                List<Map.Entry<Long, Integer>> entries = orderItemFinderService.getOrderItems(order.getId())
+                        .stream()
+                        .map(orderItem -> Map.entry(orderItem.getProduct().getId(), orderItem.getQuantity()))
+                        .toList();
+
+                if (stockService.adoptLegacyOrderHold(order.getId(), entries, order.getCreatedAt())) {
+                    adoptedCount++;
+                }
+            } catch (Exception e) {
+                // 실패한 주문은 다음 기동 시 재시도 (등록 이력이 남지 않음)
+                log.error("재고 홀드 이관 실패: orderId={}", order.getId(), e);
+                failCount++;
+            }
+        }
+
+        log.info("재고 홀드 이관 완료: 대상={}, 등록={}, 실패={}, cutoff={}",
+                legacyOrders.size(), adoptedCount, failCount, cutoff);
+    }
+}
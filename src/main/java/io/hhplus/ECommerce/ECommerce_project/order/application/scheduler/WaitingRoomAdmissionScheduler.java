@@ -0,0 +1,46 @@
+package io.hhplus.ECommerce.ECommerce_project.order.application.scheduler;
+
+import io.hhplus.ECommerce.ECommerce_project.order.application.service.OrderWaitingRoomService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 플래시 세일 대기열 입장 스케줄러
+ * - admission-interval-ms마다 대기열이 열린 상품별로 admission-batch-size명씩 입장 허용
+ * - 여러 노드에서 실행되어도 상품별 입장 주기당 1회만 허용 (입장 게이트 키)
+ * - 대기열이 열린 상품 목록도 함께 갱신 (다른 노드에서 열고 닫은 대기열 반영)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WaitingRoomAdmissionScheduler {
+
+    private final OrderWaitingRoomService orderWaitingRoomService;
+
+    @Scheduled(fixedDelayString = "${waiting-room.admission-interval-ms:1000}")
+    public void admit() {
+        Set<Long> openProductIds;
+        try {
+            openProductIds = orderWaitingRoomService.refreshOpenProducts();
+        } catch (Exception e) {
+            log.error("대기열 목록 갱신 실패", e);
+            return;
+        }
+
+        for (Long productId : openProductIds) {
+            try {
+                int admitted = orderWaitingRoomService.admit(productId);
+                if (admitted > 0) {
+                    log.debug("대기열 입장 허용: productId={}, 인원={}", productId, admitted);
+                }
+            } catch (Exception e) {
+                // 다음 주기에 재시도
+                log.error("대기열 입장 허용 실패: productId={}", productId, e);
+            }
+        }
+    }
+}
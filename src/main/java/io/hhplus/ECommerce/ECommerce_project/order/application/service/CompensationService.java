@@ -35,13 +35,23 @@ public class CompensationService {
 
     /**
      * 재고 복구
+     * - 판매 확정 전 주문(결제 대기, 결제 실패): 재고는 홀드에만 잡혀 있으므로 홀드 해제
+     *   (홀드 확정은 결제 커밋 후에만 일어나므로 결제 실패 주문도 홀드가 남아 있음,
+     *    이미 없으면 만료 스윕으로 복구된 상태)
+     * - 판매 확정된 주문: 주문 아이템 기준으로 복구
      */
     private void compensateStock(Orders order) {
         try {
-            // 1. 주문 아이템 조회
+            // 1. 판매 확정 전 주문 → 홀드 원자적 해제
+            if (order.isPending() || order.isPaymentFailed()) {
+                stockService.releaseOrderHold(order.getId());
+                return;
+            }
+
+            // 2. 주문 아이템 조회
             List<OrderItem> orderItems = orderItemFinderService.getOrderItems(order.getId());
 
-            // 2. 상품 재고 복구 (동시성 제어 적용)
+            // 3. 상품 재고 복구 (동시성 제어 적용)
             for (OrderItem orderItem : orderItems) {
                 stockService.compensateStock(
                         orderItem.getProduct().getId(),
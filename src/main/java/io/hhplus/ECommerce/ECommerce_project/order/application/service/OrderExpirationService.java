@@ -37,7 +37,8 @@ public class OrderExpirationService {
             return;
         }
 
-        // 3. 보상 트랜잭션 실행 (재고/쿠폰/포인트 복구)
+        // 3. 보상 트랜잭션 실행 (쿠폰/포인트 복구)
+        //    - 재고는 홀드 만료 시 StockHoldSweepScheduler가 이미 복구 (남아 있는 홀드만 해제)
         compensationService.compensate(order);
 
         // 4. 주문 상태 변경: PENDING → CANCELED
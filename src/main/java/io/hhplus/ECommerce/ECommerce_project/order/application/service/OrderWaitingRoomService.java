@@ -0,0 +1,443 @@
+package io.hhplus.ECommerce.ECommerce_project.order.application.service;
+
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.OrderException;
+import io.hhplus.ECommerce.ECommerce_project.common.redis.RedisScriptRegistry;
+import io.hhplus.ECommerce.ECommerce_project.order.application.dto.WaitingRoomAdmission;
+import io.hhplus.ECommerce.ECommerce_project.order.application.dto.WaitingRoomStatus;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 플래시 세일 대기열 서비스
+ * - 대기열이 열린 상품은 대기열 토큰을 받고, 입장 허용된 토큰으로만 상품 주문 가능
+ * - 스케줄러가 admission-interval-ms마다 admission-batch-size명씩 입장 허용
+ *   → 주문 유스케이스(사용자/상품/쿠폰/포인트 DB 검증 + Redis 재고 확보)에 들어오는 요청을 일정 속도로 평탄화
+ * - 대기열이 열리지 않은 상품은 기존과 동일하게 바로 주문
+ *
+ * 키 구조:
+ * - waiting-room:products (SET): 대기열이 열린 상품 ID
+ * - waiting-room:product:{상품 ID}:queue (ZSET): member = 토큰, score = 진입 시각(ms)
+ * - waiting-room:product:{상품 ID}:admitted (ZSET): member = 토큰, score = 입장 유효 시각(ms)
+ * - waiting-room:product:{상품 ID}:tokens (HASH): 토큰 → 사용자 ID, user:{사용자 ID} → 토큰
+ * - waiting-room:product:{상품 ID}:admit-gate (STRING): 입장 주기당 1회만 허용 (여러 노드가 동시에 허용하지 않도록)
+ */
+@Slf4j
+@Service
+public class OrderWaitingRoomService {
+
+    private static final String OPEN_PRODUCTS_KEY = "waiting-room:products";
+    private static final String ROOM_KEY_PREFIX = "waiting-room:product:";
+
+    /**
+     * Lua Script: 대기열 진입
+     * - 같은 사용자가 이미 대기 중(또는 입장 허용 상태)이면 기존 토큰 반환 → 새로고침해도 순번 유지
+     *
+     * KEYS[1]: 대기 ZSET, KEYS[2]: 입장 ZSET, KEYS[3]: 토큰 HASH
+     * ARGV[1]: 사용자 ID, ARGV[2]: 새 토큰, ARGV[3]: 토큰 보관 시간(ms)
+     *
+     * 반환값: 토큰
+     */
+    private static final RedisScript<String> ENQUEUE_SCRIPT = RedisScript.of(
+            """
+            local time = redis.call('TIME')
+            local now = time[1] * 1000 + math.floor(time[2] / 1000)
+            local userField = 'user:' .. ARGV[1]
+            local existing = redis.call('HGET', KEYS[3], userField)
+            if existing then
+                local admittedUntil = redis.call('ZSCORE', KEYS[2], existing)
+                if redis.call('ZSCORE', KEYS[1], existing) or (admittedUntil and tonumber(admittedUntil) > now) then
+                    return existing
+                end
+                redis.call('HDEL', KEYS[3], existing)
+            end
+
+            redis.call('HSET', KEYS[3], userField, ARGV[2], ARGV[2], ARGV[1])
+            redis.call('PEXPIRE', KEYS[3], ARGV[3])
+            redis.call('ZADD', KEYS[1], now, ARGV[2])
+            return ARGV[2]
+            """,
+            String.class
+    );
+
+    /**
+     * Lua Script: 대기 상태 조회
+     *
+     * KEYS[1]: 대기 ZSET, KEYS[2]: 입장 ZSET
+     * ARGV[1]: 토큰
+     *
+     * 반환값: [상태, 순번, 대기 인원] (상태 1 = 대기 중, 2 = 입장 허용, 0 = 토큰 없음/입장 만료)
+     */
+    private static final RedisScript<List> STATUS_SCRIPT = RedisScript.of(
+            """
+            local waitingCount = redis.call('ZCARD', KEYS[1])
+            local rank = redis.call('ZRANK', KEYS[1], ARGV[1])
+            if rank then
+                return {1, rank + 1, waitingCount}
+            end
+
+            local time = redis.call('TIME')
+            local now = time[1] * 1000 + math.floor(time[2] / 1000)
+            local admittedUntil = redis.call('ZSCORE', KEYS[2], ARGV[1])
+            if admittedUntil and tonumber(admittedUntil) > now then
+                return {2, 0, waitingCount}
+            end
+            return {0, 0, waitingCount}
+            """,
+            List.class
+    );
+
+    /**
+     * Lua Script: 앞 순번부터 입장 허용
+     * - 입장 유효 시간이 지난(주문하지 않은) 토큰은 먼저 정리
+     * - 입장 주기당 1회만 실행 (여러 노드의 스케줄러가 동시에 돌아도 허용 속도 유지)
+     *
+     * KEYS[1]: 대기 ZSET, KEYS[2]: 입장 ZSET, KEYS[3]: 입장 게이트
+     * ARGV[1]: 허용 인원, ARGV[2]: 입장 유효 시간(ms), ARGV[3]: 입장 주기(ms)
+     *
+     * 반환값: 허용한 인원 (이번 주기에 이미 다른 노드가 허용했으면 -1)
+     */
+    private static final RedisScript<Long> ADMIT_SCRIPT = RedisScript.of(
+            """
+            if not redis.call('SET', KEYS[3], '1', 'PX', ARGV[3], 'NX') then
+                return -1
+            end
+
+            local time = redis.call('TIME')
+            local now = time[1] * 1000 + math.floor(time[2] / 1000)
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now)
+
+            local popped = redis.call('ZPOPMIN', KEYS[1], ARGV[1])
+            local admittedUntil = now + tonumber(ARGV[2])
+            for i = 1, #popped, 2 do
+                redis.call('ZADD', KEYS[2], admittedUntil, popped[i])
+            end
+            return #popped / 2
+            """,
+            Long.class
+    );
+
+    /**
+     * Lua Script: 주문 입장 확인 / 입장 허용 토큰 사용
+     * - 대기열 열림 여부도 Redis 기준으로 확인 (로컬 사본 갱신 전에 열린 대기열도 차단)
+     * - 사용 모드면 확인과 동시에 토큰 소멸 (1회 사용)
+     *
+     * KEYS[1]: 입장 ZSET, KEYS[2]: 토큰 HASH, KEYS[3]: 대기열이 열린 상품 SET
+     * ARGV[1]: 토큰, ARGV[2]: 사용자 ID, ARGV[3]: 상품 ID, ARGV[4]: 사용 여부(1 = 사용)
+     *
+     * 반환값: -1 = 대기열 없음(통과), 0 = 다른 사용자의 토큰이거나 입장 허용 전/만료, 그 외 = 입장 유효 시각(ms)
+     */
+    private static final RedisScript<Long> ENTER_SCRIPT = RedisScript.of(
+            """
+            if redis.call('SISMEMBER', KEYS[3], ARGV[3]) == 0 then
+                return -1
+            end
+            if redis.call('HGET', KEYS[2], ARGV[1]) ~= ARGV[2] then
+                return 0
+            end
+
+            local time = redis.call('TIME')
+            local now = time[1] * 1000 + math.floor(time[2] / 1000)
+            local admittedUntil = tonumber(redis.call('ZSCORE', KEYS[1], ARGV[1]) or '0')
+            if admittedUntil <= now then
+                return 0
+            end
+
+            if ARGV[4] == '1' then
+                redis.call('ZREM', KEYS[1], ARGV[1])
+                redis.call('HDEL', KEYS[2], ARGV[1], 'user:' .. ARGV[2])
+            end
+            return admittedUntil
+            """,
+            Long.class
+    );
+
+    /**
+     * Lua Script: 사용한 입장 토큰 반환 (토큰 사용 후 주문이 실패한 경우)
+     * - 원래 입장 유효 시각으로 복원, 대기열이 닫혔거나 이미 만료된 토큰은 반환하지 않음
+     *
+     * KEYS[1]: 입장 ZSET, KEYS[2]: 토큰 HASH, KEYS[3]: 대기열이 열린 상품 SET
+     * ARGV[1]: 토큰, ARGV[2]: 사용자 ID, ARGV[3]: 상품 ID, ARGV[4]: 입장 유효 시각(ms)
+     *
+     * 반환값: 1 = 반환, 0 = 반환하지 않음
+     */
+    private static final RedisScript<Long> RESTORE_SCRIPT = RedisScript.of(
+            """
+            if redis.call('SISMEMBER', KEYS[3], ARGV[3]) == 0 then
+                return 0
+            end
+
+            local time = redis.call('TIME')
+            local now = time[1] * 1000 + math.floor(time[2] / 1000)
+            if tonumber(ARGV[4]) <= now then
+                return 0
+            end
+
+            redis.call('HSET', KEYS[2], ARGV[1], ARGV[2], 'user:' .. ARGV[2], ARGV[1])
+            redis.call('ZADD', KEYS[1], ARGV[4], ARGV[1])
+            return 1
+            """,
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScriptRegistry redisScriptRegistry;
+    private final int admissionBatchSize;
+    private final long admissionIntervalMillis;
+    private final long admittedTtlMillis;
+    private final long tokenTtlMillis;
+
+    // 대기열이 열린 상품 (주문마다 Redis 조회하지 않도록 로컬 보관, 입장 스케줄러가 주기적으로 갱신)
+    private volatile Set<Long> openProductIds = ConcurrentHashMap.newKeySet();
+
+    public OrderWaitingRoomService(
+            RedisTemplate<String, String> redisTemplate,
+            RedisScriptRegistry redisScriptRegistry,
+            @Value("${waiting-room.admission-batch-size:100}") int admissionBatchSize,
+            @Value("${waiting-room.admission-interval-ms:1000}") long admissionIntervalMillis,
+            @Value("${waiting-room.admitted-ttl-ms:300000}") long admittedTtlMillis,
+            @Value("${waiting-room.token-ttl-ms:3600000}") long tokenTtlMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.redisScriptRegistry = redisScriptRegistry;
+        this.admissionBatchSize = admissionBatchSize;
+        this.admissionIntervalMillis = admissionIntervalMillis;
+        this.admittedTtlMillis = admittedTtlMillis;
+        this.tokenTtlMillis = tokenTtlMillis;
+    }
+
+    /**
+     * 대기열 스크립트 등록 (기동 시 SCRIPT LOAD 대상)
+     */
+    @PostConstruct
+    void registerScripts() {
+        redisScriptRegistry.register("waiting-room:enqueue", ENQUEUE_SCRIPT);
+        redisScriptRegistry.register("waiting-room:status", STATUS_SCRIPT);
+        redisScriptRegistry.register("waiting-room:admit", ADMIT_SCRIPT);
+        redisScriptRegistry.register("waiting-room:enter", ENTER_SCRIPT);
+        redisScriptRegistry.register("waiting-room:restore", RESTORE_SCRIPT);
+    }
+
+    /**
+     * 대기열 열기
+     */
+    public void open(Long productId) {
+        redisTemplate.opsForSet().add(OPEN_PRODUCTS_KEY, productId.toString());
+        openProductIds.add(productId);
+        log.info("대기열 열림: productId={}", productId);
+    }
+
+    /**
+     * 대기열 닫기 (대기/입장 정보 삭제, 이후 주문은 바로 진행)
+     */
+    public void close(Long productId) {
+        redisTemplate.opsForSet().remove(OPEN_PRODUCTS_KEY, productId.toString());
+        redisTemplate.delete(List.of(
+                queueKey(productId),
+                admittedKey(productId),
+                tokensKey(productId),
+                admitGateKey(productId)
+        ));
+        openProductIds.remove(productId);
+        log.info("대기열 닫힘: productId={}", productId);
+    }
+
+    /**
+     * 대기열이 열린 상품인지 (로컬 기준, 최대 admission-interval-ms 지연)
+     * - 대기열 진입에만 사용, 주문 입장 확인은 Redis 기준 (ENTER_SCRIPT)
+     */
+    public boolean isOpen(Long productId) {
+        return openProductIds.contains(productId);
+    }
+
+    /**
+     * 대기열이 열린 상품 목록 갱신 (다른 노드에서 열고 닫은 대기열 반영)
+     *
+     * @return 대기열이 열린 상품 ID
+     */
+    public Set<Long> refreshOpenProducts() {
+        Set<String> members = redisTemplate.opsForSet().members(OPEN_PRODUCTS_KEY);
+
+        Set<Long> productIds = ConcurrentHashMap.newKeySet();
+        if (members != null) {
+            productIds.addAll(members.stream().map(Long::valueOf).collect(Collectors.toSet()));
+        }
+        openProductIds = productIds;
+        return productIds;
+    }
+
+    /**
+     * 대기열 진입
+     *
+     * @return 대기열 토큰 (이미 대기 중이면 기존 토큰)
+     * @throws OrderException 대기열이 열리지 않은 상품
+     */
+    public String enqueue(Long productId, Long userId) {
+        if (!isOpen(productId)) {
+            throw new OrderException(ErrorCode.ORDER_WAITING_ROOM_CLOSED);
+        }
+
+        return redisScriptRegistry.execute(
+                ENQUEUE_SCRIPT,
+                List.of(queueKey(productId), admittedKey(productId), tokensKey(productId)),
+                userId.toString(),
+                UUID.randomUUID().toString(),
+                String.valueOf(tokenTtlMillis)
+        );
+    }
+
+    /**
+     * 대기 상태 조회 (순번 폴링용)
+     *
+     * @throws OrderException 토큰이 없거나 입장 유효 시간이 지난 경우
+     */
+    public WaitingRoomStatus getStatus(Long productId, String token) {
+        List<?> result = redisScriptRegistry.execute(
+                STATUS_SCRIPT,
+                List.of(queueKey(productId), admittedKey(productId)),
+                token
+        );
+
+        long state = ((Number) result.get(0)).longValue();
+        long position = ((Number) result.get(1)).longValue();
+        long waitingCount = ((Number) result.get(2)).longValue();
+
+        if (state == 1) {
+            // 앞 순번이 모두 입장하기까지 필요한 입장 주기 수 × 주기
+            long estimatedWaitMillis = (position - 1) / admissionBatchSize * admissionIntervalMillis + admissionIntervalMillis;
+            return new WaitingRoomStatus(token, WaitingRoomStatus.State.WAITING, position, waitingCount, estimatedWaitMillis);
+        }
+        if (state == 2) {
+            return new WaitingRoomStatus(token, WaitingRoomStatus.State.ADMITTED, 0, waitingCount, 0);
+        }
+        throw new OrderException(ErrorCode.ORDER_WAITING_ROOM_TOKEN_NOT_FOUND);
+    }
+
+    /**
+     * 앞 순번부터 admission-batch-size명 입장 허용
+     *
+     * @return 허용한 인원 (이번 주기에 다른 노드가 이미 허용했으면 0)
+     */
+    public int admit(Long productId) {
+        Long admitted = redisScriptRegistry.execute(
+                ADMIT_SCRIPT,
+                List.of(queueKey(productId), admittedKey(productId), admitGateKey(productId)),
+                String.valueOf(admissionBatchSize),
+                String.valueOf(admittedTtlMillis),
+                String.valueOf(admissionIntervalMillis)
+        );
+        return admitted != null && admitted > 0 ? admitted.intValue() : 0;
+    }
+
+    /**
+     * 주문 입장 확인 (토큰은 사용하지 않음)
+     * - 주문 DB 검증 전에 호출 → 입장 허용되지 않은 요청은 DB 조회 없이 차단
+     * - 대기열이 열린 상품: 입장 허용된 본인 토큰만 통과
+     * - 대기열이 없는 상품: 그대로 통과
+     *
+     * @param queueTokens 상품 ID → 대기열 토큰 (대기열이 열린 상품만 필요, null 가능)
+     * @throws OrderException 입장 허용 전이거나 만료/사용된 토큰
+     */
+    public void verify(Long userId, Collection<Long> productIds, Map<Long, String> queueTokens) {
+        for (Long productId : productIds) {
+            if (checkAdmission(productId, userId, tokenOf(queueTokens, productId), false) == 0) {
+                log.debug("대기열 미입장 주문 거부: productId={}, userId={}", productId, userId);
+                throw new OrderException(ErrorCode.ORDER_WAITING_ROOM_NOT_ADMITTED);
+            }
+        }
+    }
+
+    /**
+     * 주문 입장 (입장 허용 토큰 1회 사용)
+     * - 주문 검증 통과 후 호출, 이후 주문이 실패하면 restore()로 토큰 반환
+     * - 여러 상품 중 하나라도 실패하면 이미 사용한 토큰을 반환하고 예외
+     *
+     * @return 사용한 입장 토큰 (대기열이 열린 상품만)
+     * @throws OrderException 확인 후 입장 유효 시간이 지났거나 이미 사용된 토큰
+     */
+    public List<WaitingRoomAdmission> enter(Long userId, Collection<Long> productIds, Map<Long, String> queueTokens) {
+        List<WaitingRoomAdmission> admissions = new ArrayList<>();
+        for (Long productId : productIds) {
+            String token = tokenOf(queueTokens, productId);
+            long admittedUntil = checkAdmission(productId, userId, token, true);
+
+            if (admittedUntil == 0) {
+                restore(admissions);
+                log.debug("대기열 미입장 주문 거부: productId={}, userId={}", productId, userId);
+                throw new OrderException(ErrorCode.ORDER_WAITING_ROOM_NOT_ADMITTED);
+            }
+            if (admittedUntil > 0) {
+                admissions.add(new WaitingRoomAdmission(productId, userId, token, admittedUntil));
+            }
+        }
+        return admissions;
+    }
+
+    /**
+     * 사용한 입장 토큰 반환 (재고 확보/주문 생성 실패 시 보상)
+     * - 반환 실패는 주문 실패 원인을 가리지 않도록 로그만 남김 (사용자는 대기열에 다시 진입)
+     */
+    public void restore(List<WaitingRoomAdmission> admissions) {
+        for (WaitingRoomAdmission admission : admissions) {
+            try {
+                redisScriptRegistry.execute(
+                        RESTORE_SCRIPT,
+                        List.of(admittedKey(admission.productId()), tokensKey(admission.productId()), OPEN_PRODUCTS_KEY),
+                        admission.token(),
+                        admission.userId().toString(),
+                        admission.productId().toString(),
+                        String.valueOf(admission.admittedUntil())
+                );
+            } catch (Exception e) {
+                log.error("대기열 입장 토큰 반환 실패: productId={}, userId={}",
+                        admission.productId(), admission.userId(), e);
+            }
+        }
+    }
+
+    private long checkAdmission(Long productId, Long userId, String token, boolean consume) {
+        Long result = redisScriptRegistry.execute(
+                ENTER_SCRIPT,
+                List.of(admittedKey(productId), tokensKey(productId), OPEN_PRODUCTS_KEY),
+                token,
+                userId.toString(),
+                productId.toString(),
+                consume ? "1" : "0"
+        );
+        return result != null ? result : 0L;
+    }
+
+    private String tokenOf(Map<Long, String> queueTokens, Long productId) {
+        String token = queueTokens != null ? queueTokens.get(productId) : null;
+        return token != null ? token : "";
+    }
+
+    private String queueKey(Long productId) {
+        return ROOM_KEY_PREFIX + productId + ":queue";
+    }
+
+    private String admittedKey(Long productId) {
+        return ROOM_KEY_PREFIX + productId + ":admitted";
+    }
+
+    private String tokensKey(Long productId) {
+        return ROOM_KEY_PREFIX + productId + ":tokens";
+    }
+
+    private String admitGateKey(Long productId) {
+        return ROOM_KEY_PREFIX + productId + ":admit-gate";
+    }
+}
@@ -4,11 +4,13 @@ import io.hhplus.ECommerce.ECommerce_project.order.application.*;
 import io.hhplus.ECommerce.ECommerce_project.order.application.command.CancelOrderCommand;
 import io.hhplus.ECommerce.ECommerce_project.order.presentation.request.CreateOrderFromCartRequest;
 import io.hhplus.ECommerce.ECommerce_project.order.presentation.request.CreateOrderFromProductRequest;
+import io.hhplus.ECommerce.ECommerce_project.order.presentation.request.EnterWaitingRoomRequest;
 import io.hhplus.ECommerce.ECommerce_project.order.presentation.request.GetOrderDetailRequest;
 import io.hhplus.ECommerce.ECommerce_project.order.presentation.request.GetOrderListRequest;
 import io.hhplus.ECommerce.ECommerce_project.order.presentation.response.CreateOrderResponse;
 import io.hhplus.ECommerce.ECommerce_project.order.presentation.response.GetOrderDetailResponse;
 import io.hhplus.ECommerce.ECommerce_project.order.presentation.response.GetOrderListResponse;
+import io.hhplus.ECommerce.ECommerce_project.order.presentation.response.WaitingRoomResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -25,6 +27,10 @@ public class OrderController {
     private final GetOrderListUseCase getOrderListUseCase;
     private final GetOrderDetailUseCase getOrderDetailUseCase;
     private final CancelOrderUseCase cancelOrderUseCase;
+    private final EnterWaitingRoomUseCase enterWaitingRoomUseCase;
+    private final GetWaitingRoomStatusUseCase getWaitingRoomStatusUseCase;
+    private final OpenWaitingRoomUseCase openWaitingRoomUseCase;
+    private final CloseWaitingRoomUseCase closeWaitingRoomUseCase;
 
     /**
      * 장바구니에서 주문 생성
@@ -100,4 +106,46 @@ public class OrderController {
         cancelOrderUseCase.execute(command);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * 플래시 세일 대기열 진입 (토큰 발급)
+     */
+    @PostMapping("/waiting-room/{productId}")
+    public ResponseEntity<WaitingRoomResponse> enterWaitingRoom(
+            @PathVariable Long productId,
+            @Valid @RequestBody EnterWaitingRoomRequest request
+    ) {
+        WaitingRoomResponse response = enterWaitingRoomUseCase.execute(request.toCommand(productId));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 대기열 순번 조회 (입장 허용되면 토큰으로 상품 주문)
+     */
+    @GetMapping("/waiting-room/{productId}")
+    public ResponseEntity<WaitingRoomResponse> getWaitingRoomStatus(
+            @PathVariable Long productId,
+            @RequestParam String token
+    ) {
+        WaitingRoomResponse response = getWaitingRoomStatusUseCase.execute(productId, token);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 대기열 열기 (플래시 세일 시작)
+     */
+    @PostMapping("/waiting-room/{productId}/open")
+    public ResponseEntity<Void> openWaitingRoom(@PathVariable Long productId) {
+        openWaitingRoomUseCase.execute(productId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 대기열 닫기 (플래시 세일 종료)
+     */
+    @PostMapping("/waiting-room/{productId}/close")
+    public ResponseEntity<Void> closeWaitingRoom(@PathVariable Long productId) {
+        closeWaitingRoomUseCase.execute(productId);
+        return ResponseEntity.noContent().build();
+    }
 }
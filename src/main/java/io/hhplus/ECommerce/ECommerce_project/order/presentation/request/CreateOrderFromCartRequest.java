@@ -6,6 +6,7 @@ import jakarta.validation.constraints.NotNull;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 
 public record CreateOrderFromCartRequest(
         @NotNull(message = "사용자 ID는 필수입니다")
@@ -16,14 +17,21 @@ public record CreateOrderFromCartRequest(
 
         BigDecimal pointAmount,  // 사용할 포인트 (선택, null 가능)
 
-        Long couponId           // 사용할 쿠폰 ID (선택, null 가능)
+        Long couponId,          // 사용할 쿠폰 ID (선택, null 가능)
+
+        Map<Long, String> queueTokens  // 상품 ID → 대기열 입장 토큰 (대기열이 열린 상품만 필수)
 ) {
+    public CreateOrderFromCartRequest(Long userId, List<Long> cartItemIds, BigDecimal pointAmount, Long couponId) {
+        this(userId, cartItemIds, pointAmount, couponId, null);
+    }
+
     public CreateOrderFromCartCommand toCommand() {
         return new CreateOrderFromCartCommand(
                 userId,
                 cartItemIds,
                 pointAmount,
-                couponId
+                couponId,
+                queueTokens
         );
     }
-}
\ No newline at end of file
+}
@@ -19,15 +19,22 @@ public record CreateOrderFromProductRequest(
 
         BigDecimal pointAmount,  // 사용할 포인트 (선택, null 가능)
 
-        Long couponId           // 사용할 쿠폰 ID (선택, null 가능)
+        Long couponId,          // 사용할 쿠폰 ID (선택, null 가능)
+
+        String queueToken       // 대기열 입장 토큰 (대기열이 열린 상품만 필수)
 ) {
+    public CreateOrderFromProductRequest(Long userId, Long productId, Integer quantity, BigDecimal pointAmount, Long couponId) {
+        this(userId, productId, quantity, pointAmount, couponId, null);
+    }
+
     public CreateOrderFromProductCommand toCommand() {
         return new CreateOrderFromProductCommand(
                 userId,
                 productId,
                 quantity,
                 pointAmount,
-                couponId
+                couponId,
+                queueToken
         );
     }
 }
\ No newline at end of file
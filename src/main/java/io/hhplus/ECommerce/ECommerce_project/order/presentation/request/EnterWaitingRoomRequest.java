@@ -0,0 +1,13 @@
+package io.hhplus.ECommerce.ECommerce_project.order.presentation.request;
+
+import io.hhplus.ECommerce.ECommerce_project.order.application.command.EnterWaitingRoomCommand;
+import jakarta.validation.constraints.NotNull;
+
+public record EnterWaitingRoomRequest(
+        @NotNull(message = "사용자 ID는 필수입니다")
+        Long userId
+) {
+    public EnterWaitingRoomCommand toCommand(Long productId) {
+        return new EnterWaitingRoomCommand(productId, userId);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package io.hhplus.ECommerce.ECommerce_project.order.presentation.response;
+
+import io.hhplus.ECommerce.ECommerce_project.order.application.dto.WaitingRoomStatus;
+
+public record WaitingRoomResponse(
+    String token,
+    WaitingRoomStatus.State state,
+    long position,
+    long waitingCount,
+    long estimatedWaitSeconds
+) {
+    public static WaitingRoomResponse from(WaitingRoomStatus status) {
+        return new WaitingRoomResponse(
+            status.token(),
+            status.state(),
+            status.position(),
+            status.waitingCount(),
+            (status.estimatedWaitMillis() + 999) / 1000
+        );
+    }
+}
@@ -12,6 +12,7 @@ import io.hhplus.ECommerce.ECommerce_project.payment.domain.entity.Payment;
 import io.hhplus.ECommerce.ECommerce_project.payment.domain.event.PaymentCompletedEvent;
 import io.hhplus.ECommerce.ECommerce_project.payment.infrastructure.PaymentRepository;
 import io.hhplus.ECommerce.ECommerce_project.payment.presentation.response.CreatePaymentResponse;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.StockService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
@@ -28,6 +29,7 @@ public class CreatePaymentUseCase {
     private final OrderFinderService orderFinderService;
     private final CompensationService compensationService;
     private final OrderItemFinderService orderItemFinderService;
+    private final StockService stockService;
     private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional
@@ -42,14 +44,18 @@ public class CreatePaymentUseCase {
         // 2. 주문이 결제 가능한 상태인지 확인 (PENDING 상태만 결제 가능)
         orderDomainService.validateCanPayment(order);
 
-        // 3. 결제 정보 생성
+        // 3. 재고 홀드 → 판매 확정 (홀드가 없는 주문이면 결제 불가)
+        //    - 홀드 제거는 커밋 후, 이후 결제 실패 시 CompensationService가 남아 있는 홀드를 해제
+        stockService.confirmHold(order.getId());
+
+        // 4. 결제 정보 생성
         Payment payment = Payment.createPayment(
                 order,
                 order.getFinalAmount(),
                 command.paymentMethod()
         );
 
-        // 4. 결제 처리 (실제로는 외부 결제 API 호출)
+        // 5. 결제 처리 (실제로는 외부 결제 API 호출)
         // TODO: 실제 결제 API 연동 시 이 부분 구현
         try {
             // 외부 결제 API 호출 시뮬레이션
@@ -59,10 +65,10 @@ public class CreatePaymentUseCase {
             payment.complete();
             Payment savedPayment = paymentRepository.save(payment);
 
-            // 5. 주문 상태를 PAID로 변경
+            // 6. 주문 상태를 PAID로 변경
             order.paid();
 
-            // 6. Redis 인기상품에 판매 상품의 score 증가
+            // 7. Redis 인기상품에 판매 상품의 score 증가
             /*
             orderItemFinderService.getOrderItems(order.getId())
                     .forEach(orderItem ->
@@ -2,9 +2,10 @@ package io.hhplus.ECommerce.ECommerce_project.product.application;
 
 import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductFinderService;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.event.ProductCacheEvictEvent;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.service.ProductDomainService;
-import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductCacheInvalidator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,7 +15,7 @@ public class ActivateProductUseCase {
 
     private final ProductDomainService productDomainService;
     private final ProductFinderService productFinderService;
-    private final ProductCacheInvalidator cacheInvalidator;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional
     public Product execute(Long productId) {
@@ -31,8 +32,8 @@ public class ActivateProductUseCase {
             product.activate();
         }
 
-        // 4. 캐시 무효화
-        cacheInvalidator.evictProductListCache(categoryId);
+        // 4. 캐시 무효화 (커밋 후, 목록 + 상세)
+        applicationEventPublisher.publishEvent(ProductCacheEvictEvent.listChanged(productId, categoryId));
 
         // 5. 저장된 변경사항 반환
         return product;
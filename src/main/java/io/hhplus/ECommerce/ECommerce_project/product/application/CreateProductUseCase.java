@@ -4,9 +4,11 @@ import io.hhplus.ECommerce.ECommerce_project.category.application.service.Catego
 import io.hhplus.ECommerce.ECommerce_project.product.application.command.CreateProductCommand;
 import io.hhplus.ECommerce.ECommerce_project.product.application.service.RedisStockService;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
-import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductCacheInvalidator;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.event.ProductCacheEvictEvent;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.event.ProductCategoryChangedEvent;
 import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,7 +18,7 @@ public class CreateProductUseCase {
 
     private final ProductRepository productRepository;
     private final CategoryFinderService categoryFinderService;
-    private final ProductCacheInvalidator productCacheInvalidator;
+    private final ApplicationEventPublisher applicationEventPublisher;
     private final RedisStockService redisStockService;
 
     @Transactional
@@ -41,8 +43,13 @@ public class CreateProductUseCase {
                 savedProduct.getStock()
         );
 
-        // 4. 캐시 무효화 (해당 카테고리만)
-        productCacheInvalidator.evictProductListCache(command.categoryId());
+        // 4. 카테고리별 랭킹 반영을 위한 상품-카테고리 매핑 등록 (커밋 후)
+        applicationEventPublisher.publishEvent(
+                ProductCategoryChangedEvent.registered(savedProduct.getId(), command.categoryId()));
+
+        // 5. 캐시 무효화 (커밋 후, 해당 카테고리만)
+        applicationEventPublisher.publishEvent(
+                ProductCacheEvictEvent.listChanged(savedProduct.getId(), command.categoryId()));
 
         return savedProduct;
     }
@@ -3,19 +3,22 @@ package io.hhplus.ECommerce.ECommerce_project.product.application;
 import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductFinderService;
 import io.hhplus.ECommerce.ECommerce_project.product.application.service.RedisRankingService;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.event.ProductCacheEvictEvent;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.service.ProductDomainService;
-import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductCacheInvalidator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class DeactivateProductUseCase {
 
     private final ProductDomainService productDomainService;
     private final ProductFinderService productFinderService;
-    private final ProductCacheInvalidator cacheInvalidator;
+    private final ApplicationEventPublisher applicationEventPublisher;
     private final RedisRankingService redisRankingService;
 
     @Transactional
@@ -36,8 +39,8 @@ public class DeactivateProductUseCase {
         // 4. Redis 랭킹에서 제거 (비활성 상품은 랭킹에 표시 안 함)
         redisRankingService.removeFromRanking(productId);
 
-        // 5. 전체 캐시 무효화 (상품 캐시 + 목록 캐시)
-        cacheInvalidator.clearProductCaches(productId, categoryId);
+        // 5. 전체 캐시 무효화 (커밋 후, 상품 캐시 + 목록 캐시)
+        applicationEventPublisher.publishEvent(ProductCacheEvictEvent.productChanged(productId, List.of(categoryId)));
 
         // 6. 저장된 변경사항 반환
         return product;
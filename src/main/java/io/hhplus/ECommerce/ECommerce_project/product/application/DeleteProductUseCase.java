@@ -4,19 +4,22 @@ import io.hhplus.ECommerce.ECommerce_project.product.application.service.Product
 import io.hhplus.ECommerce.ECommerce_project.product.application.service.RedisRankingService;
 import io.hhplus.ECommerce.ECommerce_project.product.application.service.RedisStockService;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.event.ProductCacheEvictEvent;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.service.ProductDomainService;
-import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductCacheInvalidator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class DeleteProductUseCase {
 
     private final ProductDomainService productDomainService;
     private final ProductFinderService productFinderService;
-    private final ProductCacheInvalidator productCacheInvalidator;
+    private final ApplicationEventPublisher applicationEventPublisher;
     private final RedisStockService redisStockService;
     private final RedisRankingService redisRankingService;
 
@@ -39,7 +42,7 @@ public class DeleteProductUseCase {
         // 5. Redis 랭킹에서 제거
         redisRankingService.removeFromRanking(productId);
 
-        // 6. 전체 캐시 무효화 (상품 캐시 + 목록 캐시)
-        productCacheInvalidator.clearProductCaches(productId, categoryId);
+        // 6. 전체 캐시 무효화 (커밋 후, 상품 캐시 + 목록 캐시)
+        applicationEventPublisher.publishEvent(ProductCacheEvictEvent.productChanged(productId, List.of(categoryId)));
     }
 }
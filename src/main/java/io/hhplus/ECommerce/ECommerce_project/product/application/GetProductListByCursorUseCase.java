@@ -0,0 +1,57 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application;
+
+import io.hhplus.ECommerce.ECommerce_project.category.domain.service.CategoryDomainService;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductCursor;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductCursorPageResult;
+import io.hhplus.ECommerce.ECommerce_project.product.application.enums.ProductSortType;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductFinderService;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 상품 목록 커서 페이징 조회
+ * - (정렬 값, id) 이후 행부터 인덱스 탐색 → 깊은 페이지도 첫 페이지와 같은 비용 (OFFSET 스캔 없음)
+ * - 전체 개수 COUNT 쿼리 없이 size + 1개 조회로 다음 페이지 존재 여부 판단
+ */
+@Service
+@RequiredArgsConstructor
+public class GetProductListByCursorUseCase {
+
+    private final CategoryDomainService categoryDomainService;
+    private final ProductFinderService productFinderService;
+
+    /**
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public ProductCursorPageResult execute(Long categoryId, ProductSortType sortType, String cursor, int size) {
+
+        // 1. ID 검증 (카테고리 미지정 시 전체 목록)
+        if (categoryId != null) {
+            categoryDomainService.validateId(categoryId);
+        }
+
+        // 2. 커서 해석 (첫 페이지는 모든 상품보다 앞선 시작 값)
+        ProductCursor productCursor = cursor == null || cursor.isBlank()
+                ? ProductCursor.first(sortType)
+                : ProductCursor.decode(cursor, sortType);
+
+        // 3. 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<Product> products = productFinderService.getProductsAfter(categoryId, productCursor, size + 1);
+        boolean hasNext = products.size() > size;
+        if (hasNext) {
+            products = products.subList(0, size);
+        }
+
+        // 4. 마지막 상품 기준으로 다음 커서 생성
+        String nextCursor = hasNext
+                ? ProductCursor.after(sortType, products.get(products.size() - 1)).encode()
+                : null;
+
+        return new ProductCursorPageResult(products, nextCursor, hasNext);
+    }
+}
@@ -2,6 +2,7 @@ package io.hhplus.ECommerce.ECommerce_project.product.application;
 
 import io.hhplus.ECommerce.ECommerce_project.category.domain.service.CategoryDomainService;
 import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductPageResult;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductSummary;
 import io.hhplus.ECommerce.ECommerce_project.product.application.enums.ProductSortType;
 import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductFinderService;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
@@ -24,8 +25,8 @@ public class GetProductListUseCase {
     @Cacheable(
             value = "productList",
             key = "#categoryId + '_' + #sortType + '_' + #page + '_' + #size",
-            condition = "#page == 0",   // 첫 페이지만 캐싱
-            cacheManager = "redisCacheManager"
+            cacheManager = "twoLevelCacheManager",  // 모든 페이지/크기 캐싱 (태그 단위 무효화)
+            sync = true                             // 키별 단일 적재 + 만료 전 조기 갱신 (캐시 스탬피드 방지)
     )
     @Transactional(readOnly = true)
     public ProductPageResult execute(Long categoryId, ProductSortType sortType, int page, int size) {
@@ -42,9 +43,9 @@ public class GetProductListUseCase {
         // 4. Repository에서 필터링/정렬/페이징된 상품 조회
         Page<Product> productPage = productFinderService.getProductPage(categoryId, pageable);
 
-        // 5. 결과 반환 (Page 객체의 모든 정보 활용)
+        // 5. 결과 반환 (Page 객체의 모든 정보 활용, 캐시에는 엔티티 대신 불변 DTO)
         return new ProductPageResult(
-            productPage.getContent(),
+            productPage.getContent().stream().map(ProductSummary::from).toList(),
             productPage.getNumber(),
             productPage.getSize(),
             productPage.getTotalElements(),
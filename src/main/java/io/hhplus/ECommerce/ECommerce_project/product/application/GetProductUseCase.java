@@ -1,13 +1,12 @@
 package io.hhplus.ECommerce.ECommerce_project.product.application;
 
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductDetailCacheService;
 import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductFinderService;
-import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
-import io.hhplus.ECommerce.ECommerce_project.product.domain.event.ProductViewedEvent;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductViewCountService;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.service.ProductDomainService;
+import io.hhplus.ECommerce.ECommerce_project.product.presentation.response.ProductResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -15,24 +14,28 @@ public class GetProductUseCase {
 
     private final ProductDomainService productDomainService;
     private final ProductFinderService productFinderService;
-    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ProductDetailCacheService productDetailCacheService;
+    private final ProductViewCountService productViewCountService;
 
-    @Transactional
-    public Product execute(Long productId) {
+    /**
+     * 트랜잭션 없이 실행 → 캐시 히트 시 DB 커넥션을 점유하지 않음
+     *
+     * @param viewerId 조회자 식별자 (순 조회자 집계용)
+     * @return 직렬화된 상품 상세 JSON (ProductResponse)
+     */
+    public byte[] execute(Long productId, String viewerId) {
 
         // 1. ID 검증
         productDomainService.validateId(productId);
 
-        // 2. 상품 조회
-        Product product = productFinderService.getActiveProduct(productId);
+        // 2. 상품 상세 조회 (캐시 미스 시에만 DB 조회 + 직렬화)
+        byte[] body = productDetailCacheService.getOrLoad(productId,
+                () -> ProductResponse.from(productFinderService.getActiveProduct(productId)));
 
-        // 3. 조회수 증가
-        product.increaseViewCount();
+        // 3. 조회수 기록 (메모리 합산 후 1초마다 DB/순 조회자 HyperLogLog에 일괄 반영)
+        productViewCountService.increment(productId, viewerId);
 
-        // 4. 상품 조회 이벤트 발행 (Redis 조회수는 비동기로 처리)
-        applicationEventPublisher.publishEvent(ProductViewedEvent.of(productId));
-
-        // 5. 저장된 변경사항 반환
-        return product;
+        // 4. 상품 상세 반환
+        return body;
     }
-}
\ No newline at end of file
+}
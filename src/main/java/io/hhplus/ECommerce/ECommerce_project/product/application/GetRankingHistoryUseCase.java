@@ -0,0 +1,32 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application;
+
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ProductException;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.RankingHistorySummary;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRankingHistoryJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class GetRankingHistoryUseCase {
+
+    private final ProductRankingHistoryJdbcRepository productRankingHistoryJdbcRepository;
+
+    /**
+     * @param categoryId 카테고리 ID (null이면 전체)
+     */
+    public List<RankingHistorySummary> execute(LocalDate from, LocalDate to, Long categoryId, int limit) {
+
+        // 1. 기간 검증
+        if (from.isAfter(to)) {
+            throw new ProductException(ErrorCode.PRODUCT_RANKING_HISTORY_PERIOD_INVALID);
+        }
+
+        // 2. 이력 테이블에서 기간 합산 (order_items 스캔 없음)
+        return productRankingHistoryJdbcRepository.summarize(from, to, categoryId, limit);
+    }
+}
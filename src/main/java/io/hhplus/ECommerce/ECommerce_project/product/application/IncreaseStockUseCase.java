@@ -4,8 +4,10 @@ import io.hhplus.ECommerce.ECommerce_project.product.application.command.Increas
 import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductFinderService;
 import io.hhplus.ECommerce.ECommerce_project.product.application.service.RedisStockService;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.event.ProductCacheEvictEvent;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.service.ProductDomainService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +18,7 @@ public class IncreaseStockUseCase {
     private final ProductDomainService productDomainService;
     private final ProductFinderService productFinderService;
     private final RedisStockService redisStockService;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional
     public Product execute(IncreaseStockCommand command) {
@@ -32,7 +35,10 @@ public class IncreaseStockUseCase {
         // 4. Redis 재고 수정
         redisStockService.setStock(product.getId(), product.getStock());
 
-        // 5. 저장된 변경사항 반환
+        // 5. 캐시 무효화 (커밋 후, 상세 + 상품이 들어있는 목록 페이지)
+        applicationEventPublisher.publishEvent(ProductCacheEvictEvent.stockChanged(product.getId()));
+
+        // 6. 저장된 변경사항 반환
         return product;
     }
 }
\ No newline at end of file
@@ -3,9 +3,10 @@ package io.hhplus.ECommerce.ECommerce_project.product.application;
 import io.hhplus.ECommerce.ECommerce_project.product.application.command.UpdatePriceCommand;
 import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductFinderService;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.event.ProductCacheEvictEvent;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.service.ProductDomainService;
-import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductCacheInvalidator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,7 +16,7 @@ public class UpdatePriceUseCase {
 
     private final ProductDomainService productDomainService;
     private final ProductFinderService productFinderService;
-    private final ProductCacheInvalidator cacheInvalidator;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional
     public Product execute(UpdatePriceCommand command) {
@@ -30,8 +31,8 @@ public class UpdatePriceUseCase {
         // 3. 가격 변경
         product.updatePrice(command.price());
 
-        // 4. 캐시 무효화
-        cacheInvalidator.evictProductListCache(categoryId);
+        // 4. 캐시 무효화 (커밋 후, 목록 + 상세)
+        applicationEventPublisher.publishEvent(ProductCacheEvictEvent.listChanged(command.productId(), categoryId));
 
         // 5. 저장된 변경사항 반환
         return product;
@@ -5,12 +5,16 @@ import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
 import io.hhplus.ECommerce.ECommerce_project.product.application.command.UpdateProductCommand;
 import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductFinderService;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.event.ProductCacheEvictEvent;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.event.ProductCategoryChangedEvent;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.service.ProductDomainService;
-import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductCacheInvalidator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class UpdateProductUseCase {
@@ -18,7 +22,7 @@ public class UpdateProductUseCase {
     private final ProductDomainService productDomainService;
     private final ProductFinderService productFinderService;
     private final CategoryFinderService categoryFinderService;
-    private final ProductCacheInvalidator cacheInvalidator;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional
     public Product execute(UpdateProductCommand command) {
@@ -67,20 +71,20 @@ public class UpdateProductUseCase {
             }
         }
 
-        // 4. 캐시 무효화
+        // 4. 캐시 무효화 (커밋 후)
         Long newCategoryId = product.getCategory().getId();
 
-        // 4-1. 상품 캐시 무효화 (인기상품 캐시)
-        cacheInvalidator.evictProductCache(command.id());
+        // 4-1. 상품 캐시(상세 + 인기상품) + 상품 목록 캐시 무효화
+        // - 카테고리가 변경된 경우 양쪽 모두, 같은 카테고리면 해당 카테고리만
+        List<Long> categoryIds = oldCategoryId.equals(newCategoryId)
+                ? List.of(oldCategoryId)
+                : List.of(oldCategoryId, newCategoryId);
+        applicationEventPublisher.publishEvent(ProductCacheEvictEvent.productChanged(command.id(), categoryIds));
 
-        // 4-2. 상품 목록 캐시 무효화
+        // 4-2. 카테고리별 랭킹도 새 카테고리로 이동 (커밋 후)
         if (!oldCategoryId.equals(newCategoryId)) {
-            // 카테고리가 변경된 경우 양쪽 모두 무효화
-            cacheInvalidator.evictProductListCache(oldCategoryId);
-            cacheInvalidator.evictProductListCache(newCategoryId);
-        } else {
-            // 같은 카테고리면 해당 카테고리만 무효화
-            cacheInvalidator.evictProductListCache(oldCategoryId);
+            applicationEventPublisher.publishEvent(
+                    ProductCategoryChangedEvent.changed(command.id(), oldCategoryId, newCategoryId));
         }
 
         // 5. 저장된 변경사항 반환
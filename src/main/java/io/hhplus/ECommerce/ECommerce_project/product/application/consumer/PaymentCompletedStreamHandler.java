@@ -0,0 +1,56 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.consumer;
+
+import io.hhplus.ECommerce.ECommerce_project.common.stream.EventStreamHandler;
+import io.hhplus.ECommerce.ECommerce_project.common.stream.EventStreams;
+import io.hhplus.ECommerce.ECommerce_project.common.stream.StreamMessage;
+import io.hhplus.ECommerce.ECommerce_project.payment.domain.event.PaymentCompletedEvent;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.RedisRankingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 결제 완료 스트림 핸들러
+ * - 결제된 주문 상품의 판매량만큼 Redis 랭킹 점수 증가
+ * - 배치 내 모든 결제 완료 이벤트의 판매량을 상품별로 합산해 Lua Script 1회로 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentCompletedStreamHandler implements EventStreamHandler<PaymentCompletedEvent> {
+
+    private final RedisRankingService redisRankingService;
+
+    @Override
+    public String stream() {
+        return EventStreams.PAYMENT_COMPLETED;
+    }
+
+    @Override
+    public String group() {
+        return EventStreams.RANKING_GROUP;
+    }
+
+    @Override
+    public Class<PaymentCompletedEvent> eventType() {
+        return PaymentCompletedEvent.class;
+    }
+
+    @Override
+    public void handle(List<StreamMessage<PaymentCompletedEvent>> messages) {
+        Map<Long, Integer> quantities = new HashMap<>();
+        for (StreamMessage<PaymentCompletedEvent> message : messages) {
+            message.event().orderItems().forEach(orderItemInfo ->
+                    quantities.merge(orderItemInfo.productId(), orderItemInfo.quantity(), Integer::sum));
+        }
+
+        redisRankingService.incrementSoldCounts(quantities);
+
+        log.debug("결제 완료 랭킹 반영 - eventCount: {}, productCount: {}",
+                messages.size(), quantities.size());
+    }
+}
@@ -0,0 +1,49 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.consumer;
+
+import io.hhplus.ECommerce.ECommerce_project.common.stream.EventStreamHandler;
+import io.hhplus.ECommerce.ECommerce_project.common.stream.EventStreams;
+import io.hhplus.ECommerce.ECommerce_project.common.stream.StreamMessage;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.StockWriteBehindService;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.StockWriteBehindService.StockChange;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.event.StockDecreasedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 재고 차감 스트림 핸들러
+ * - 배치로 읽은 재고 차감 이벤트를 상품별로 합산해 DB 반영
+ * - 배치 1회 = 트랜잭션 1회 (상대값 UPDATE batch + 메시지 반영 이력)
+ */
+@Component
+@RequiredArgsConstructor
+public class StockDecreasedStreamHandler implements EventStreamHandler<StockDecreasedEvent> {
+
+    private final StockWriteBehindService stockWriteBehindService;
+
+    @Override
+    public String stream() {
+        return EventStreams.STOCK_DECREASED;
+    }
+
+    @Override
+    public String group() {
+        return EventStreams.STOCK_SYNC_GROUP;
+    }
+
+    @Override
+    public Class<StockDecreasedEvent> eventType() {
+        return StockDecreasedEvent.class;
+    }
+
+    @Override
+    public void handle(List<StreamMessage<StockDecreasedEvent>> messages) {
+        List<StockChange> changes = messages.stream()
+                .map(message -> StockWriteBehindService.decrease(message, message.event().productId(), message.event().quantity()))
+                .toList();
+
+        // 커밋까지 끝난 뒤 반환 → 반환 후에만 ACK, 실패 시 예외로 재전달
+        stockWriteBehindService.apply(stream(), changes);
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.dto;
+
+/**
+ * 상품 카테고리 스냅샷 (ID/카테고리 ID만 조회하는 프로젝션)
+ * - 카테고리별 랭킹용 상품-카테고리 매핑 워밍 시 Product 엔티티 전체를 로딩하지 않기 위해 사용
+ */
+public record ProductCategorySnapshot(
+        Long productId,
+        Long categoryId
+) {
+}
@@ -0,0 +1,101 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.dto;
+
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ProductException;
+import io.hhplus.ECommerce.ECommerce_project.product.application.enums.ProductSortType;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 상품 목록 커서 (마지막으로 조회한 상품의 정렬 값 + ID)
+ * - 클라이언트에는 "정렬타입|정렬값|ID"를 Base64(URL-safe)로 인코딩한 불투명 문자열로 전달
+ * - 첫 페이지는 모든 상품보다 앞선 값(first)을 사용해 커서 조회 쿼리 하나로 처리
+ */
+public record ProductCursor(
+        ProductSortType sortType,
+        String sortValue,
+        Long id
+) {
+    private static final String DELIMITER = "|";
+
+    // 첫 페이지용 시작 값 (DESC 정렬은 최댓값, ASC 정렬은 최솟값)
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final BigDecimal MAX_PRICE = new BigDecimal("99999999.99");  // DECIMAL(10,2) 최댓값
+    private static final BigDecimal MIN_PRICE = new BigDecimal("-1");
+
+    /**
+     * 첫 페이지 커서
+     */
+    public static ProductCursor first(ProductSortType sortType) {
+        return switch (sortType) {
+            case LATEST -> new ProductCursor(sortType, MAX_CREATED_AT.toString(), Long.MAX_VALUE);
+            case POPULAR, VIEWED -> new ProductCursor(sortType, String.valueOf(Integer.MAX_VALUE), Long.MAX_VALUE);
+            case PRICE_LOW -> new ProductCursor(sortType, MIN_PRICE.toPlainString(), 0L);
+            case PRICE_HIGH -> new ProductCursor(sortType, MAX_PRICE.toPlainString(), Long.MAX_VALUE);
+        };
+    }
+
+    /**
+     * 마지막으로 조회한 상품 → 다음 페이지 커서
+     */
+    public static ProductCursor after(ProductSortType sortType, Product last) {
+        String sortValue = switch (sortType) {
+            case LATEST -> last.getCreatedAt().toString();
+            case POPULAR -> String.valueOf(last.getSoldCount());
+            case VIEWED -> String.valueOf(last.getViewCount());
+            case PRICE_LOW, PRICE_HIGH -> last.getPrice().toPlainString();
+        };
+        return new ProductCursor(sortType, sortValue, last.getId());
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @throws ProductException 형식이 잘못되었거나 다른 정렬 타입의 커서인 경우
+     */
+    public static ProductCursor decode(String encoded, ProductSortType sortType) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|");
+            if (parts.length != 3 || ProductSortType.valueOf(parts[0]) != sortType) {
+                throw new ProductException(ErrorCode.PRODUCT_CURSOR_INVALID);
+            }
+
+            ProductCursor cursor = new ProductCursor(sortType, parts[1], Long.parseLong(parts[2]));
+            cursor.validateSortValue();
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ProductException(ErrorCode.PRODUCT_CURSOR_INVALID);
+        }
+    }
+
+    public String encode() {
+        String raw = sortType.name() + DELIMITER + sortValue + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime createdAt() {
+        return LocalDateTime.parse(sortValue);
+    }
+
+    public int count() {
+        return Integer.parseInt(sortValue);
+    }
+
+    public BigDecimal price() {
+        return new BigDecimal(sortValue);
+    }
+
+    private void validateSortValue() {
+        switch (sortType) {
+            case LATEST -> createdAt();
+            case POPULAR, VIEWED -> count();
+            case PRICE_LOW, PRICE_HIGH -> price();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.dto;
+
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+
+import java.util.List;
+
+/**
+ * 커서 페이징 결과
+ *
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ */
+public record ProductCursorPageResult(
+        List<Product> products,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -2,14 +2,17 @@ package io.hhplus.ECommerce.ECommerce_project.product.application.dto;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
 import lombok.Getter;
 
 import java.util.List;
 
+/**
+ * 상품 목록 페이지 (상품 목록 캐시 값, 불변)
+ * - 상품은 엔티티 대신 ProductSummary → L1 캐시가 같은 인스턴스를 요청 간에 공유해도 안전
+ */
 @Getter
 public class ProductPageResult {
-    private final List<Product> products;
+    private final List<ProductSummary> products;
     private final int page;
     private final int size;
     private final long totalElements;
@@ -19,7 +22,7 @@ public class ProductPageResult {
 
     @JsonCreator
     public ProductPageResult(
-            @JsonProperty("products") List<Product> products,
+            @JsonProperty("products") List<ProductSummary> products,
             @JsonProperty("page") int page,
             @JsonProperty("size") int size,
             @JsonProperty("totalElements") long totalElements,
@@ -27,7 +30,7 @@ public class ProductPageResult {
             @JsonProperty("isFirst") boolean isFirst,
             @JsonProperty("isLast") boolean isLast
     ) {
-        this.products = products;
+        this.products = List.copyOf(products);
         this.page = page;
         this.size = size;
         this.totalElements = totalElements;
@@ -0,0 +1,11 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.dto;
+
+/**
+ * 상품 재고 스냅샷 (ID/재고만 조회하는 프로젝션)
+ * - 재고 정합성 검증/캐시 워밍 시 Product 엔티티 전체를 로딩하지 않기 위해 사용
+ */
+public record ProductStockSnapshot(
+        Long productId,
+        int stock
+) {
+}
@@ -0,0 +1,45 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.dto;
+
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 상품 목록 항목 (불변)
+ * - 상품 목록 캐시(productList)에 Product 엔티티 대신 저장
+ *   → L1(로컬) 캐시는 같은 인스턴스를 모든 요청에 돌려주므로, 변경 가능한 엔티티/지연 로딩 프록시를 공유하지 않음
+ */
+public record ProductSummary(
+        Long id,
+        Long categoryId,
+        String name,
+        String description,
+        BigDecimal price,
+        int stock,
+        boolean isActive,
+        int viewCount,
+        int soldCount,
+        Integer minOrderQuantity,
+        Integer maxOrderQuantity,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    public static ProductSummary from(Product product) {
+        return new ProductSummary(
+                product.getId(),
+                product.getCategory() != null ? product.getCategory().getId() : null,
+                product.getName(),
+                product.getDescription(),
+                product.getPrice(),
+                product.getStock(),
+                product.isActive(),
+                product.getViewCount(),
+                product.getSoldCount(),
+                product.getMinOrderQuantity(),
+                product.getMaxOrderQuantity(),
+                product.getCreatedAt(),
+                product.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.dto;
+
+/**
+ * 기간별 랭킹 이력 집계 결과
+ *
+ * @param score 기간 내 일별 점수 합계
+ * @param rankedDays 기간 내 랭킹에 포함된 일수
+ * @param bestRanking 기간 내 최고 일별 순위
+ */
+public record RankingHistorySummary(
+        Long productId,
+        String productName,
+        double score,
+        int rankedDays,
+        int bestRanking
+) {
+}
@@ -0,0 +1,40 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.enums;
+
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ProductException;
+
+public enum RankingType {
+
+    DAILY("daily", "오늘(달력 기준)"),
+    WEEKLY("weekly", "이번 주(ISO 주차 기준)"),
+    ROLLING_24H("rolling24h", "최근 24시간 (시간 감쇠)"),
+    ROLLING_7D("rolling7d", "최근 7일 (시간 감쇠)");
+
+    private final String code;
+    private final String description;
+
+    RankingType(String code, String description) {
+        this.code = code;
+        this.description = description;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * 조회 파라미터(daily, weekly, rolling24h, rolling7d) → 랭킹 타입
+     */
+    public static RankingType from(String code) {
+        for (RankingType type : values()) {
+            if (type.code.equals(code)) {
+                return type;
+            }
+        }
+        throw new ProductException(ErrorCode.PRODUCT_RANKED_PRODUCT_TYPE_INVALID);
+    }
+}
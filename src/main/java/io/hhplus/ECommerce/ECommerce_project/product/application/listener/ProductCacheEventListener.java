@@ -0,0 +1,39 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.listener;
+
+import io.hhplus.ECommerce.ECommerce_project.product.domain.event.ProductCacheEvictEvent;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductCacheInvalidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 캐시 이벤트 리스너
+ * - 상품 변경 트랜잭션이 커밋된 뒤에만 캐시 무효화
+ * - 커밋 전에 무효화하면 커밋 전 조회가 이전 값을 캐시에 다시 올려 TTL까지 남음
+ * - 롤백되면 변경이 없으므로 무효화하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductCacheEventListener {
+
+    private final ProductCacheInvalidator cacheInvalidator;
+
+    /**
+     * 상품 캐시 무효화 (무효화 실패는 ProductCacheInvalidator가 로그로 처리)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductCacheEvict(ProductCacheEvictEvent event) {
+        if (event.evictRankingCache()) {
+            cacheInvalidator.evictProductCache(event.productId());
+        } else {
+            cacheInvalidator.evictProductDetailCache(event.productId());
+        }
+
+        if (event.categoryIds().isEmpty()) {
+            cacheInvalidator.evictProductListCacheByProduct(event.productId());
+        } else {
+            event.categoryIds().forEach(cacheInvalidator::evictProductListCache);
+        }
+    }
+}
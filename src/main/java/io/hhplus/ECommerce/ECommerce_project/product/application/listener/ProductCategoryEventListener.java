@@ -0,0 +1,37 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.listener;
+
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.RedisRankingService;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.event.ProductCategoryChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 카테고리 이벤트 리스너
+ * - 상품 등록/카테고리 변경 트랜잭션이 커밋된 뒤에만 랭킹용 상품-카테고리 매핑 반영
+ * - 롤백되면 변경이 없으므로 반영하지 않음
+ * - 반영 실패 시 다음 기동 때 ProductCategoryWarmer가 DB 기준으로 다시 적재
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCategoryEventListener {
+
+    private final RedisRankingService redisRankingService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductCategoryChanged(ProductCategoryChangedEvent event) {
+        try {
+            if (event.oldCategoryId() == null) {
+                redisRankingService.registerProductCategory(event.productId(), event.newCategoryId());
+            } else {
+                redisRankingService.changeProductCategory(event.productId(), event.oldCategoryId(), event.newCategoryId());
+            }
+        } catch (Exception e) {
+            log.error("상품-카테고리 매핑 반영 실패 - productId: {}, categoryId: {}",
+                    event.productId(), event.newCategoryId(), e);
+        }
+    }
+}
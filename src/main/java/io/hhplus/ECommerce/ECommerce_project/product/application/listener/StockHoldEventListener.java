@@ -0,0 +1,37 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.listener;
+
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.RedisStockHoldService;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.event.StockHoldConfirmedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 재고 홀드 이벤트 리스너
+ * - 결제 트랜잭션이 커밋된 뒤에만 Redis 홀드를 판매로 확정 (홀드 제거)
+ * - 커밋 전에 제거하면 롤백된 결제의 재고가 홀드 없이 차감된 채 남음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockHoldEventListener {
+
+    private final RedisStockHoldService redisStockHoldService;
+
+    /**
+     * 홀드 판매 확정
+     * - 실패 시 결제는 이미 커밋된 상태 → 연장된 만료 시각이 지나면 스윕이 판매된 재고를 복구하므로 에러로 알림
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleStockHoldConfirmed(StockHoldConfirmedEvent event) {
+        try {
+            if (!redisStockHoldService.confirmOrder(event.orderId())) {
+                log.warn("재고 홀드 확정 대상 없음: orderId={}", event.orderId());
+            }
+        } catch (Exception e) {
+            log.error("재고 홀드 확정 실패: orderId={}", event.orderId(), e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.scheduler;
+
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductViewCountService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 조회수 플러시 스케줄러
+ * - 메모리에 합산된 조회수를 주기적으로 DB와 순 조회자 HyperLogLog에 반영
+ * - 순 조회자 증가분은 별도 주기로 Redis 랭킹에 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductViewCountFlushScheduler {
+
+    private final ProductViewCountService productViewCountService;
+
+    /**
+     * 이전 플러시 완료 후 flush-interval-ms 대기 (기본 1초)
+     */
+    @Scheduled(fixedDelayString = "${product.view-count.flush-interval-ms:1000}")
+    public void flush() {
+        try {
+            productViewCountService.flush();
+        } catch (Exception e) {
+            log.error("조회수 주기 플러시 실패", e);
+        }
+    }
+
+    /**
+     * 이전 반영 완료 후 unique-fold-interval-ms 대기 (기본 1분)
+     */
+    @Scheduled(fixedDelayString = "${product.view-count.unique-fold-interval-ms:60000}")
+    public void foldUniqueViewers() {
+        try {
+            productViewCountService.foldUniqueViewers();
+        } catch (Exception e) {
+            log.error("순 조회자 랭킹 반영 실패", e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.scheduler;
+
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.RankingHistoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일별 랭킹 아카이빙 스케줄러
+ * - 매일 자정 직후 전날까지의 일별 랭킹을 MySQL 이력 테이블로 저장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankingHistoryArchiveScheduler {
+
+    private final RankingHistoryService rankingHistoryService;
+
+    @Scheduled(cron = "${ranking.history.archive-cron:0 5 0 * * *}")
+    public void archiveDailyRankings() {
+        try {
+            int archivedDays = rankingHistoryService.archivePendingDays();
+            if (archivedDays > 0) {
+                log.info("일별 랭킹 아카이빙 - {}일", archivedDays);
+            }
+        } catch (Exception e) {
+            log.error("일별 랭킹 아카이빙 실패", e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.scheduler;
+
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.RedisRankingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 감쇠 랭킹 재구성 스케줄러
+ * - 시간별 버킷으로 최근 24시간/7일 랭킹을 주기적으로 다시 합산
+ * - 여러 노드에서 실행되어도 결과가 같으므로 별도 락 불필요
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankingRollupScheduler {
+
+    private final RedisRankingService redisRankingService;
+
+    @Scheduled(fixedDelayString = "${ranking.rolling.rebuild-interval-ms:60000}")
+    public void rebuildRollingRankings() {
+        try {
+            redisRankingService.rebuildRollingRankings();
+        } catch (Exception e) {
+            log.error("감쇠 랭킹 재구성 실패", e);
+        }
+    }
+}
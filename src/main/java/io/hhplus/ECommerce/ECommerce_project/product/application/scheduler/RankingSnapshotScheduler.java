@@ -0,0 +1,28 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.scheduler;
+
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.RankingSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인기상품 랭킹 스냅샷 갱신 스케줄러
+ * - 재구성은 게이트를 잡은 노드 하나만, 로컬 복제본 교체는 모든 노드에서 수행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankingSnapshotScheduler {
+
+    private final RankingSnapshotService rankingSnapshotService;
+
+    @Scheduled(fixedDelayString = "${ranking.snapshot.refresh-interval-ms:5000}")
+    public void refreshSnapshots() {
+        try {
+            rankingSnapshotService.refresh();
+        } catch (Exception e) {
+            log.error("랭킹 스냅샷 갱신 실패", e);
+        }
+    }
+}
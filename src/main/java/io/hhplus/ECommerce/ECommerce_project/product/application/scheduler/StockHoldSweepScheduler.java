@@ -0,0 +1,47 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.scheduler;
+
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.StockService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 홀드 만료 스케줄러
+ * - 결제되지 않고 만료된 재고 홀드를 1초마다 해제하여 재고 복구
+ * - 주문 만료 스케줄러(1분 주기 + 주문별 보상 트랜잭션)를 기다리지 않고 수 초 안에 판매 가능 상태로 복귀
+ */
+@Slf4j
+@Component
+public class StockHoldSweepScheduler {
+
+    private final StockService stockService;
+    private final int batchSize;
+
+    public StockHoldSweepScheduler(
+            StockService stockService,
+            @Value("${stock.hold.sweep-batch-size:500}") int batchSize
+    ) {
+        this.stockService = stockService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${stock.hold.sweep-interval-ms:1000}")
+    public void releaseExpiredHolds() {
+        try {
+            int releasedCount = 0;
+            int released;
+            do {
+                released = stockService.releaseExpiredHolds(batchSize);
+                releasedCount += released;
+            } while (released > 0);
+
+            if (releasedCount > 0) {
+                log.info("만료된 재고 홀드 해제 완료: 복구 항목={}", releasedCount);
+            }
+
+        } catch (Exception e) {
+            log.error("만료된 재고 홀드 해제 실패", e);
+        }
+    }
+}
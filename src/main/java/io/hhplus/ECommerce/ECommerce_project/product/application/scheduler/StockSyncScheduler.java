@@ -1,76 +1,136 @@
 package io.hhplus.ECommerce.ECommerce_project.product.application.scheduler;
 
+import io.hhplus.ECommerce.ECommerce_project.common.stream.EventStreamBacklogReader;
+import io.hhplus.ECommerce.ECommerce_project.common.stream.EventStreams;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductStockSnapshot;
 import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductFinderService;
 import io.hhplus.ECommerce.ECommerce_project.product.application.service.RedisStockService;
-import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
-import lombok.RequiredArgsConstructor;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.RedisStockService.StockRepair;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.event.StockDecreasedEvent;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.event.StockIncreasedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 재고 동기화 스케줄러
  * - 주기적으로 DB와 Redis 재고 정합성 검증
  * - Eventual Consistency 보장
+ *
+ * 처리 방식:
+ * - 상품 엔티티 전체 로딩 X → (ID, 재고) 프로젝션을 Keyset 페이징으로 청크 단위 조회
+ * - 청크당 Redis MGET 1회로 비교, 복구 대상은 조건부 복구 스크립트 1회로 반영
+ * - 상품 N개 기준 Redis 왕복 N회 → N / chunk-size 회
+ *
+ * Dirty 검증:
+ * - 평소에는 재고가 변경된 상품(Dirty Set)만 검증 → 비용이 카탈로그 크기가 아닌 쓰기량에 비례
+ * - 전체 검증은 느린 주기(full-sweep-interval-ms)로만 실행
+ * - Dirty 추적 표시가 사라진 경우(최초 기동, Redis 재시작 등) 즉시 전체 검증
+ *
+ * Write-Behind 반영 대기 상품 제외:
+ * - DB 재고는 재고 스트림이 반영될 때까지 Redis보다 늦음 → 그 사이 DB 값으로 덮어쓰면 차감/복구가 사라짐
+ * - 재고 스트림에 ACK되지 않은 메시지(Pending + 미전달)가 있는 상품은 비교하지 않음
+ *   (검증 1회당 첫 DB 조회 전에 한 번만 읽어 모든 청크에 재사용)
+ * - 복구 직전에는 그 뒤 스트림에 추가된 메시지만 다시 읽어 복구 대상 상품을 재확인
+ * - 밀린 메시지가 backlog-limit을 넘으면 이번 주기 복구 보류
+ * - 복구는 조건부 (조회 후 Redis 재고가 그대로이고 settle-ms 동안 변경이 없을 때만 설정)
+ * - settle-ms는 스트림 Pending 회수 시간(claim-min-idle-ms)보다 길게 설정
+ *
+ * 메트릭 (type 태그: dirty / validate / initialize):
+ * - stock.reconcile.duration: 1회 실행 시간
+ * - stock.reconcile.rows: 1회 실행 시 검사한 상품 수
+ * - stock.reconcile.repaired: 복구(또는 초기화)한 상품 수
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class StockSyncScheduler {
 
     private final ProductFinderService productFinderService;
     private final RedisStockService redisStockService;
+    private final EventStreamBacklogReader eventStreamBacklogReader;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+    private final long dirtySettleMillis;
+    private final int backlogLimit;
+
+    public StockSyncScheduler(
+            ProductFinderService productFinderService,
+            RedisStockService redisStockService,
+            EventStreamBacklogReader eventStreamBacklogReader,
+            MeterRegistry meterRegistry,
+            @Value("${stock.reconcile.chunk-size:1000}") int chunkSize,
+            @Value("${stock.reconcile.dirty-settle-ms:60000}") long dirtySettleMillis,
+            @Value("${stock.reconcile.backlog-limit:10000}") int backlogLimit
+    ) {
+        this.productFinderService = productFinderService;
+        this.redisStockService = redisStockService;
+        this.eventStreamBacklogReader = eventStreamBacklogReader;
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = chunkSize;
+        this.dirtySettleMillis = dirtySettleMillis;
+        this.backlogLimit = backlogLimit;
+    }
 
     /**
-     * DB-Redis 재고 정합성 검증
+     * 변경된 상품만 DB-Redis 재고 정합성 검증
      * - 1분마다 실행
-     * - 불일치 발견 시 DB를 정답으로 Redis 복구
+     * - 마지막 변경 후 dirty-settle-ms가 지난 상품만 검증 (Write-Behind DB 반영 대기)
+     * - 재고 스트림에 반영 대기 메시지가 남은 상품은 다음 주기로 미룸
+     * - Dirty 추적이 끊긴 경우 전체 검증으로 대체
      */
-    @Scheduled(fixedDelay = 60000) // 60초 = 1분
-    public void validateStockConsistency() {
-        log.debug("=== 재고 정합성 검증 시작 ===");
-
+    @Scheduled(fixedDelayString = "${stock.reconcile.dirty-interval-ms:60000}")
+    public void validateDirtyStock() {
         try {
-            List<Product> products = productFinderService.getAllProduct();
-
-            int totalCount = 0;
-            int mismatchCount = 0;
-
-            for (Product product : products) {
-                totalCount++;
-
-                try {
-                    // Redis 재고 조회
-                    Long redisStock = redisStockService.getStock(product.getId());
+            if (!redisStockService.isDirtyTrackingActive()) {
+                log.warn("재고 Dirty 추적 표시 없음 (최초 기동 또는 Redis 유실), 전체 검증으로 대체");
+                // 추적 시작 후 전체 검증 → 이후 변경은 Dirty Set, 이전 상태는 전체 검증으로 커버
+                redisStockService.activateDirtyTracking();
+                validateStockConsistency();
+                return;
+            }
 
-                    // DB 재고와 비교
-                    if (product.getStock() != redisStock.intValue()) {
-                        mismatchCount++;
+            ReconcileResult result = reconcileDirty();
 
-                        log.warn("재고 불일치 감지: productId={}, productName={}, DB={}, Redis={}",
-                                product.getId(), product.getName(), product.getStock(), redisStock);
+            if (result.repairedCount() > 0) {
+                log.warn("=== Dirty 재고 검증 완료 === 검증: {}, 불일치: {}, 복구 완료, 소요: {}ms",
+                        result.totalCount(), result.repairedCount(), result.elapsedMillis());
+            } else {
+                log.debug("=== Dirty 재고 검증 완료 === 검증: {}, 모두 일치, 소요: {}ms",
+                        result.totalCount(), result.elapsedMillis());
+            }
 
-                        // DB를 정답으로 Redis 복구
-                        redisStockService.setStock(product.getId(), product.getStock());
+        } catch (Exception e) {
+            log.error("Dirty 재고 검증 실패", e);
+        }
+    }
 
-                        log.info("재고 복구 완료: productId={}, 복구된 재고={}",
-                                product.getId(), product.getStock());
-                    }
+    /**
+     * DB-Redis 재고 전체 정합성 검증
+     * - 10분마다 실행 (Dirty 검증에서 놓친 경우 대비)
+     * - 불일치(또는 Redis 누락) 발견 시 DB를 정답으로 Redis 복구
+     */
+    @Scheduled(fixedDelayString = "${stock.reconcile.full-sweep-interval-ms:600000}")
+    public void validateStockConsistency() {
+        log.debug("=== 재고 정합성 검증 시작 ===");
 
-                } catch (Exception e) {
-                    log.error("재고 검증 실패: productId={}, productName={}",
-                            product.getId(), product.getName(), e);
-                }
-            }
+        try {
+            ReconcileResult result = reconcile(ReconcileType.VALIDATE);
 
-            if (mismatchCount > 0) {
-                log.warn("=== 재고 정합성 검증 완료 === 전체: {}, 불일치: {}, 복구 완료",
-                        totalCount, mismatchCount);
+            if (result.repairedCount() > 0) {
+                log.warn("=== 재고 정합성 검증 완료 === 전체: {}, 불일치: {}, 복구 완료, 소요: {}ms, 처리량: {}건/s",
+                        result.totalCount(), result.repairedCount(), result.elapsedMillis(), result.rowsPerSecond());
             } else {
-                log.debug("=== 재고 정합성 검증 완료 === 전체: {}, 모두 일치",
-                        totalCount);
+                log.debug("=== 재고 정합성 검증 완료 === 전체: {}, 모두 일치, 소요: {}ms, 처리량: {}건/s",
+                        result.totalCount(), result.elapsedMillis(), result.rowsPerSecond());
             }
 
         } catch (Exception e) {
@@ -88,36 +148,266 @@ public class StockSyncScheduler {
         log.debug("=== 누락된 재고 초기화 시작 ===");
 
         try {
-            List<Product> products = productFinderService.getAllProduct();
+            ReconcileResult result = reconcile(ReconcileType.INITIALIZE);
+
+            if (result.repairedCount() > 0) {
+                log.info("=== 누락된 재고 초기화 완료 === 초기화된 상품: {}, 소요: {}ms, 처리량: {}건/s",
+                        result.repairedCount(), result.elapsedMillis(), result.rowsPerSecond());
+            } else {
+                log.debug("=== 누락된 재고 초기화 완료 === 누락된 상품 없음, 소요: {}ms, 처리량: {}건/s",
+                        result.elapsedMillis(), result.rowsPerSecond());
+            }
+
+        } catch (Exception e) {
+            log.error("누락된 재고 초기화 실패", e);
+        }
+    }
 
-            int initializedCount = 0;
+    /**
+     * 청크 단위 재고 비교/복구
+     * - 한 청크가 실패해도 다음 청크는 계속 진행 (다음 주기에 재검증)
+     */
+    private ReconcileResult reconcile(ReconcileType type) {
+        long start = System.nanoTime();
+        long lastId = 0L;
+        int totalCount = 0;
+        int repairedCount = 0;
 
-            for (Product product : products) {
-                try {
-                    // Redis에 재고 존재 여부 확인
-                    if (!redisStockService.existsStock(product.getId())) {
-                        // 없으면 DB 재고로 초기화
-                        redisStockService.setStock(product.getId(), product.getStock());
-                        initializedCount++;
+        // 첫 DB 조회 전에 확인해야 그 사이 반영된 메시지를 놓치지 않음 (이후 추가분은 복구 직전 재확인)
+        UnappliedBacklog backlog = readUnappliedBacklog();
 
-                        log.info("누락된 재고 초기화: productId={}, productName={}, stock={}",
-                                product.getId(), product.getName(), product.getStock());
-                    }
+        while (true) {
+            List<ProductStockSnapshot> chunk = productFinderService.getStockSnapshots(lastId, chunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            lastId = chunk.get(chunk.size() - 1).productId();
+            totalCount += chunk.size();
 
-                } catch (Exception e) {
-                    log.error("재고 초기화 실패: productId={}, productName={}",
-                            product.getId(), product.getName(), e);
+            try {
+                repairedCount += reconcileChunk(type, chunk, backlog).repairedCount();
+            } catch (Exception e) {
+                log.error("재고 청크 검증 실패: type={}, 청크 마지막 productId={}, size={}",
+                        type.tag, lastId, chunk.size(), e);
+            }
+
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+
+        return record(type, new ReconcileResult(totalCount, repairedCount, System.nanoTime() - start));
+    }
+
+    /**
+     * Dirty 상품 청크 단위 검증
+     * - 꺼낸 ID는 Dirty Set에서 제거되므로, 청크 검증 실패 시 다시 등록
+     * - 반영 대기 등으로 복구를 미룬 상품도 다시 등록 (같은 주기에 다시 꺼내지 않도록 끝난 뒤 등록)
+     */
+    private ReconcileResult reconcileDirty() {
+        long start = System.nanoTime();
+        int totalCount = 0;
+        int repairedCount = 0;
+        List<Long> deferredProductIds = new ArrayList<>();
+        UnappliedBacklog backlog = readUnappliedBacklog();
+
+        while (true) {
+            List<Long> productIds = redisStockService.takeDirtyProductIds(dirtySettleMillis, chunkSize);
+            if (productIds.isEmpty()) {
+                break;
+            }
+            totalCount += productIds.size();
+
+            try {
+                List<ProductStockSnapshot> chunk = productFinderService.getStockSnapshots(productIds);
+                ChunkResult result = reconcileChunk(ReconcileType.DIRTY, chunk, backlog);
+                repairedCount += result.repairedCount();
+                deferredProductIds.addAll(result.deferredProductIds());
+            } catch (Exception e) {
+                log.error("Dirty 재고 청크 검증 실패, 다음 주기에 재시도: size={}", productIds.size(), e);
+                redisStockService.markDirty(productIds);
+                break;
+            }
+
+            if (productIds.size() < chunkSize) {
+                break;
+            }
+        }
+
+        redisStockService.markDirty(deferredProductIds);
+        return record(ReconcileType.DIRTY, new ReconcileResult(totalCount, repairedCount, System.nanoTime() - start));
+    }
+
+    private ReconcileResult record(ReconcileType type, ReconcileResult result) {
+        meterRegistry.timer("stock.reconcile.duration", "type", type.tag)
+                .record(result.elapsedNanos(), TimeUnit.NANOSECONDS);
+        meterRegistry.summary("stock.reconcile.rows", "type", type.tag)
+                .record(result.totalCount());
+        meterRegistry.counter("stock.reconcile.repaired", "type", type.tag)
+                .increment(result.repairedCount());
+        return result;
+    }
+
+    /**
+     * 재고 스트림에 ACK되지 않은 메시지가 있는 상품 (DB 반영 대기)
+     * - 읽기 전에 스트림별 마지막 메시지 ID를 기록 → 이후 추가된 메시지는 findChangedProductIds()로 재확인
+     *
+     * @return 반영 대기 상품(밀린 메시지가 backlog-limit을 넘으면 null) + 스트림별 기준 ID
+     */
+    private UnappliedBacklog readUnappliedBacklog() {
+        String decreasedLastId = eventStreamBacklogReader.lastId(EventStreams.STOCK_DECREASED);
+        String increasedLastId = eventStreamBacklogReader.lastId(EventStreams.STOCK_INCREASED);
+
+        List<StockDecreasedEvent> decreased = eventStreamBacklogReader.readUnacknowledged(
+                EventStreams.STOCK_DECREASED, EventStreams.STOCK_SYNC_GROUP, StockDecreasedEvent.class, backlogLimit);
+        List<StockIncreasedEvent> increased = eventStreamBacklogReader.readUnacknowledged(
+                EventStreams.STOCK_INCREASED, EventStreams.STOCK_SYNC_GROUP, StockIncreasedEvent.class, backlogLimit);
+
+        return new UnappliedBacklog(toProductIds(decreased, increased), decreasedLastId, increasedLastId);
+    }
+
+    /**
+     * 반영 대기 상품 조회 이후 재고 스트림에 추가된 메시지의 상품
+     *
+     * @return 상품 ID, 추가된 메시지가 backlog-limit을 넘으면 null
+     */
+    private Set<Long> findChangedProductIds(UnappliedBacklog backlog) {
+        List<StockDecreasedEvent> decreased = eventStreamBacklogReader.readAfter(
+                EventStreams.STOCK_DECREASED, backlog.decreasedLastId(), StockDecreasedEvent.class, backlogLimit);
+        List<StockIncreasedEvent> increased = eventStreamBacklogReader.readAfter(
+                EventStreams.STOCK_INCREASED, backlog.increasedLastId(), StockIncreasedEvent.class, backlogLimit);
+        return toProductIds(decreased, increased);
+    }
+
+    private Set<Long> toProductIds(List<StockDecreasedEvent> decreased, List<StockIncreasedEvent> increased) {
+        if (decreased == null || increased == null) {
+            return null;
+        }
+
+        Set<Long> productIds = new HashSet<>();
+        decreased.forEach(event -> productIds.add(event.productId()));
+        increased.forEach(event -> productIds.add(event.productId()));
+        return productIds;
+    }
+
+    /**
+     * 청크 1개 비교 (MGET 1회) → 복구 대상 조건부 반영 (스크립트 1회)
+     * - DB 반영 대기 상품은 비교하지 않음
+     * - 복구 대상이 있을 때만 이후 추가된 스트림 메시지를 읽어, 그 사이 변경된 상품은 복구하지 않음
+     * - 비교 후 Redis 재고가 바뀌었거나 settle-ms 안에 변경된 상품은 설정하지 않음
+     *
+     * @param backlog 검증 시작 시점의 DB 반영 대기 상품 (상품이 null이면 밀린 메시지가 많아 전체 보류)
+     * @return 복구한 상품 수 + 복구를 미룬 상품
+     */
+    private ChunkResult reconcileChunk(
+            ReconcileType type,
+            List<ProductStockSnapshot> chunk,
+            UnappliedBacklog backlog
+    ) {
+        Set<Long> unappliedProductIds = backlog.productIds();
+        List<Long> productIds = chunk.stream()
+                .map(ProductStockSnapshot::productId)
+                .toList();
+        if (unappliedProductIds == null) {
+            log.warn("재고 스트림 미반영 메시지가 많아 복구 보류: type={}, size={}", type.tag, productIds.size());
+            return new ChunkResult(0, productIds);
+        }
+
+        Map<Long, Long> redisStocks = redisStockService.getStocks(productIds);
+
+        List<StockRepair> repairs = new ArrayList<>();
+        List<Long> deferredProductIds = new ArrayList<>();
+        for (ProductStockSnapshot snapshot : chunk) {
+            if (unappliedProductIds.contains(snapshot.productId())) {
+                deferredProductIds.add(snapshot.productId());
+                continue;
+            }
+
+            Long redisStock = redisStocks.get(snapshot.productId());
+
+            if (redisStock == null) {
+                // Redis에 키 없음 → 두 모드 모두 DB 재고로 초기화
+                repairs.add(new StockRepair(snapshot.productId(), null, snapshot.stock()));
+                log.info("누락된 재고 감지: productId={}, DB={}", snapshot.productId(), snapshot.stock());
+
+            } else if (type != ReconcileType.INITIALIZE && snapshot.stock() != redisStock) {
+                repairs.add(new StockRepair(snapshot.productId(), redisStock, snapshot.stock()));
+                log.warn("재고 불일치 감지: productId={}, DB={}, Redis={}",
+                        snapshot.productId(), snapshot.stock(), redisStock);
+            }
+        }
+
+        // 검증 시작 후 스트림에 새로 기록된 상품은 DB 조회 값이 늦었을 수 있음 → 다음 주기로
+        if (!repairs.isEmpty()) {
+            Set<Long> changedProductIds = findChangedProductIds(backlog);
+            List<StockRepair> settledRepairs = new ArrayList<>(repairs.size());
+            for (StockRepair repair : repairs) {
+                if (changedProductIds == null || changedProductIds.contains(repair.productId())) {
+                    deferredProductIds.add(repair.productId());
+                } else {
+                    settledRepairs.add(repair);
                 }
             }
+            repairs = settledRepairs;
+        }
 
-            if (initializedCount > 0) {
-                log.info("=== 누락된 재고 초기화 완료 === 초기화된 상품: {}", initializedCount);
-            } else {
-                log.debug("=== 누락된 재고 초기화 완료 === 누락된 상품 없음");
+        // DB를 정답으로 Redis 복구 (비교 후 변경된 상품은 건너뜀)
+        Set<Long> repaired = redisStockService.repairStocks(repairs, dirtySettleMillis);
+        for (StockRepair repair : repairs) {
+            if (!repaired.contains(repair.productId())) {
+                deferredProductIds.add(repair.productId());
             }
+        }
+        if (!deferredProductIds.isEmpty()) {
+            log.debug("재고 복구 보류 (DB 반영 대기 또는 최근 변경): type={}, productIds={}",
+                    type.tag, deferredProductIds);
+        }
+        return new ChunkResult(repaired.size(), deferredProductIds);
+    }
 
-        } catch (Exception e) {
-            log.error("누락된 재고 초기화 실패", e);
+    private enum ReconcileType {
+        DIRTY("dirty"),
+        VALIDATE("validate"),
+        INITIALIZE("initialize");
+
+        private final String tag;
+
+        ReconcileType(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private record ChunkResult(
+            int repairedCount,
+            List<Long> deferredProductIds
+    ) {
+    }
+
+    /**
+     * 검증 1회 동안 재사용하는 DB 반영 대기 상품
+     *
+     * @param productIds 반영 대기 상품 (밀린 메시지가 backlog-limit을 넘으면 null)
+     * @param decreasedLastId 조회 시점의 재고 차감 스트림 마지막 ID
+     * @param increasedLastId 조회 시점의 재고 증가 스트림 마지막 ID
+     */
+    private record UnappliedBacklog(
+            Set<Long> productIds,
+            String decreasedLastId,
+            String increasedLastId
+    ) {
+    }
+
+    private record ReconcileResult(
+            int totalCount,
+            int repairedCount,
+            long elapsedNanos
+    ) {
+        long elapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        }
+
+        long rowsPerSecond() {
+            return elapsedNanos > 0 ? totalCount * 1_000_000_000L / elapsedNanos : totalCount;
         }
     }
 }
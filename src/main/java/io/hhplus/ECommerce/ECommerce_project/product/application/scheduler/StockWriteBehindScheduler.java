@@ -0,0 +1,50 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.scheduler;
+
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.StockWriteBehindService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 재고 Write-Behind 반영 이력 정리 스케줄러
+ * - 재전달될 수 없을 만큼 오래된 스트림 메시지 반영 이력(stock_stream_applied) 삭제
+ * - 보관 기간은 Pending 회수/최대 전달 횟수를 모두 거쳐도 남는 시간보다 길어야 함
+ */
+@Slf4j
+@Component
+public class StockWriteBehindScheduler {
+
+    private final StockWriteBehindService stockWriteBehindService;
+    private final Duration appliedRetention;
+    private final int purgeBatchSize;
+
+    public StockWriteBehindScheduler(
+            StockWriteBehindService stockWriteBehindService,
+            @Value("${stock.write-behind.applied-retention-ms:86400000}") long appliedRetentionMs,
+            @Value("${stock.write-behind.purge-batch-size:5000}") int purgeBatchSize
+    ) {
+        this.stockWriteBehindService = stockWriteBehindService;
+        this.appliedRetention = Duration.ofMillis(appliedRetentionMs);
+        this.purgeBatchSize = purgeBatchSize;
+    }
+
+    /**
+     * 이전 정리 완료 후 purge-interval-ms 대기 (기본 1시간)
+     */
+    @Scheduled(fixedDelayString = "${stock.write-behind.purge-interval-ms:3600000}")
+    public void purgeAppliedMessages() {
+        try {
+            int deleted = stockWriteBehindService.purgeAppliedBefore(
+                    LocalDateTime.now().minus(appliedRetention), purgeBatchSize);
+            if (deleted > 0) {
+                log.info("재고 스트림 반영 이력 정리: {}건", deleted);
+            }
+        } catch (Exception e) {
+            log.error("재고 스트림 반영 이력 정리 실패", e);
+        }
+    }
+}
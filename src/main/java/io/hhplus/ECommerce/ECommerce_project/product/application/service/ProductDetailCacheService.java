@@ -0,0 +1,249 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.hhplus.ECommerce.ECommerce_project.common.redis.RedisScriptRegistry;
+import io.hhplus.ECommerce.ECommerce_project.product.presentation.response.ProductResponse;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 상세 응답 캐시 (L1: Caffeine, L2: Redis)
+ * - ProductResponse를 미리 직렬화한 JSON 바이트를 상품 ID별로 보관
+ * - 캐시 히트 시 DB 커넥션/엔티티 로딩/Jackson 직렬화 없이 바이트를 그대로 응답에 기록
+ * - 상품 수정/가격 변경/활성화/비활성화/삭제, 재고 DB 반영 시 무효화
+ *
+ * 무효화:
+ * - L2 삭제 + 로컬 L1 삭제 후 Redis Pub/Sub으로 다른 노드의 L1 삭제 전파
+ * - 메시지 유실에 대비해 L1은 local-ttl-ms 후 자동 만료 (최대 오차 범위)
+ *
+ * 적재 중 무효화 (세대 확인):
+ * - 무효화할 때마다 상품별 세대 값을 증가
+ * - 적재는 L2 조회 시 세대를 함께 읽고, 저장 스크립트가 세대가 그대로일 때만 SET
+ *   → 무효화 전에 시작된 적재가 무효화 후에 이전 상세를 저장해 L2에 redis-ttl-ms 동안 남는 일 없음
+ * - 저장하지 못한 응답은 이번 요청에만 사용 (L1에도 적재하지 않음)
+ *
+ * 키: product:detail:{productId}, product:detail:gen:{productId}
+ */
+@Slf4j
+@Service
+public class ProductDetailCacheService implements MessageListener {
+
+    private static final String DETAIL_KEY_PREFIX = "product:detail:";
+    private static final String INVALIDATE_CHANNEL = "product:detail:invalidate";
+    private static final String DELIMITER = ",";
+    private static final String GENERATION_KEY_PREFIX = "product:detail:gen:";
+
+    /**
+     * Lua Script: 세대가 적재 시작 시점과 같을 때만 상세 저장
+     *
+     * KEYS[1]: product:detail:{productId}, KEYS[2]: product:detail:gen:{productId}
+     * ARGV[1]: 적재 시작 시 읽은 세대 (없으면 빈 문자열), ARGV[2]: 상세 JSON, ARGV[3]: TTL(ms)
+     * 반환값: 1 = 저장, 0 = 적재 중 무효화되어 저장하지 않음
+     */
+    private static final RedisScript<Long> STORE_SCRIPT = RedisScript.of(
+            """
+            local generation = redis.call('GET', KEYS[2]) or ''
+            if generation ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """,
+            Long.class
+    );
+
+    /**
+     * Lua Script: 상세 삭제 + 세대 증가
+     * - 세대 키는 TTL(ms) 동안 유지 (적재 1회보다 충분히 김, 만료 후 시작된 적재는 빈 세대 기준)
+     *
+     * KEYS[1..n]: product:detail:{productId}, KEYS[n+1..2n]: product:detail:gen:{productId}
+     * ARGV[1]: 세대 키 TTL(ms)
+     */
+    private static final RedisScript<Long> EVICT_SCRIPT = RedisScript.of(
+            """
+            local count = #KEYS / 2
+            for i = 1, count do
+                redis.call('DEL', KEYS[i])
+                redis.call('INCR', KEYS[count + i])
+                redis.call('PEXPIRE', KEYS[count + i], ARGV[1])
+            end
+            return count
+            """,
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScriptRegistry redisScriptRegistry;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final Duration redisTtl;
+    private final Cache<Long, byte[]> localDetails;
+
+    public ProductDetailCacheService(
+            RedisTemplate<String, String> redisTemplate,
+            RedisScriptRegistry redisScriptRegistry,
+            RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper,
+            @Value("${product.detail-cache.redis-ttl-ms:600000}") long redisTtlMillis,
+            @Value("${product.detail-cache.local-ttl-ms:30000}") long localTtlMillis,
+            @Value("${product.detail-cache.local-maximum-size:10000}") long localMaximumSize
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.redisScriptRegistry = redisScriptRegistry;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.redisTtl = Duration.ofMillis(redisTtlMillis);
+        this.localDetails = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(localTtlMillis))
+                .maximumSize(localMaximumSize)
+                .build();
+    }
+
+    @PostConstruct
+    void subscribe() {
+        redisScriptRegistry.register("product:detail:store", STORE_SCRIPT);
+        redisScriptRegistry.register("product:detail:evict", EVICT_SCRIPT);
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * 상품 상세 JSON 조회 (L1 → L2 → 원본)
+     * - Redis 장애 시 원본 조회로 대체 (캐시 장애가 상세 조회 장애로 번지지 않도록)
+     *
+     * @param loader 캐시 미스 시 원본 응답 생성 (상품 없음 예외는 그대로 전파)
+     */
+    public byte[] getOrLoad(Long productId, Supplier<ProductResponse> loader) {
+        // 1. L1
+        byte[] cached = localDetails.getIfPresent(productId);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 2. L2 → 히트 시 L1 적재 (미스면 함께 읽은 세대로 저장 여부 판단)
+        String key = DETAIL_KEY_PREFIX + productId;
+        String generationKey = GENERATION_KEY_PREFIX + productId;
+        String generation = null;
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(List.of(key, generationKey));
+            String json = values != null ? values.get(0) : null;
+            if (json != null) {
+                byte[] body = json.getBytes(StandardCharsets.UTF_8);
+                localDetails.put(productId, body);
+                return body;
+            }
+            generation = values != null && values.get(1) != null ? values.get(1) : "";
+        } catch (Exception e) {
+            log.warn("상품 상세 캐시 조회 실패, 원본 조회로 대체: productId={}", productId, e);
+        }
+
+        // 3. 원본 조회 후 직렬화 → 세대가 그대로일 때만 L2 → L1 적재
+        byte[] body = serialize(loader.get());
+        if (generation != null && store(key, generationKey, generation, body)) {
+            localDetails.put(productId, body);
+        }
+        return body;
+    }
+
+    /**
+     * 세대 확인 후 L2 저장
+     *
+     * @return 저장 여부 (적재 중 무효화됐거나 Redis 장애면 false)
+     */
+    private boolean store(String key, String generationKey, String generation, byte[] body) {
+        try {
+            Long stored = redisScriptRegistry.execute(
+                    STORE_SCRIPT,
+                    List.of(key, generationKey),
+                    generation,
+                    new String(body, StandardCharsets.UTF_8),
+                    String.valueOf(redisTtl.toMillis())
+            );
+            if (stored == null || stored != 1L) {
+                log.debug("적재 중 상품 상세 캐시 무효화, 저장 생략: key={}", key);
+                return false;
+            }
+            return true;
+
+        } catch (Exception e) {
+            log.warn("상품 상세 캐시 저장 실패: key={}", key, e);
+            return false;
+        }
+    }
+
+    /**
+     * 상품 상세 캐시 무효화 → L2/로컬 L1 즉시 삭제 + 세대 증가 + 전체 노드에 전파
+     * - 무효화 실패해도 상품 변경 자체는 실패시키지 않음 (TTL 후 자동 만료)
+     */
+    public void evict(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+
+        localDetails.invalidateAll(productIds);
+
+        try {
+            List<String> keys = new ArrayList<>(productIds.size() * 2);
+            productIds.forEach(productId -> keys.add(DETAIL_KEY_PREFIX + productId));
+            productIds.forEach(productId -> keys.add(GENERATION_KEY_PREFIX + productId));
+            redisScriptRegistry.execute(EVICT_SCRIPT, keys, String.valueOf(redisTtl.toMillis()));
+
+            String message = productIds.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(DELIMITER));
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, message);
+
+        } catch (Exception e) {
+            log.warn("상품 상세 캐시 무효화 실패: productIds={}", productIds, e);
+        }
+    }
+
+    public void evict(Long productId) {
+        evict(List.of(productId));
+    }
+
+    /**
+     * 다른 노드(또는 자신)의 상품 상세 캐시 무효화 메시지 수신 → L1만 삭제
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            List<Long> productIds = Arrays.stream(body.split(DELIMITER))
+                    .map(Long::valueOf)
+                    .toList();
+            localDetails.invalidateAll(productIds);
+
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 상품 상세 캐시 무효화 메시지: {}", body);
+        }
+    }
+
+    private byte[] serialize(ProductResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("상품 상세 응답 직렬화 실패: productId=" + response.id(), e);
+        }
+    }
+}
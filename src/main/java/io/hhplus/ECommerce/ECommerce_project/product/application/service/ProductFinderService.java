@@ -2,10 +2,14 @@ package io.hhplus.ECommerce.ECommerce_project.product.application.service;
 
 import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
 import io.hhplus.ECommerce.ECommerce_project.common.exception.ProductException;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductCategorySnapshot;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductCursor;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductStockSnapshot;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
 import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
@@ -68,4 +72,57 @@ public class ProductFinderService {
     public List<Product> getAllProductsById(List<Long> productIds) {
         return productRepository.findAllById(productIds);
     }
+
+    /**
+     * 커서 이후 상품 목록 조회 (Keyset 페이징)
+     *
+     * @param categoryId 카테고리 ID (null이면 전체)
+     * @param limit 조회 개수
+     */
+    public List<Product> getProductsAfter(Long categoryId, ProductCursor cursor, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+        return switch (cursor.sortType()) {
+            case LATEST -> productRepository.findLatestAfter(categoryId, cursor.createdAt(), cursor.id(), pageable);
+            case POPULAR -> productRepository.findPopularAfter(categoryId, cursor.count(), cursor.id(), pageable);
+            case VIEWED -> productRepository.findMostViewedAfter(categoryId, cursor.count(), cursor.id(), pageable);
+            case PRICE_LOW -> productRepository.findCheapestAfter(categoryId, cursor.price(), cursor.id(), pageable);
+            case PRICE_HIGH -> productRepository.findMostExpensiveAfter(categoryId, cursor.price(), cursor.id(), pageable);
+        };
+    }
+
+    /**
+     * 상품 ID 값으로 판매 중인 상품 가져오기 (카테고리 함께 조회)
+     */
+    public List<Product> getActiveProductsWithCategory(List<Long> productIds) {
+        return productRepository.findActiveWithCategoryByIds(productIds);
+    }
+
+    /**
+     * 재고 스냅샷 청크 조회 (Keyset 페이징)
+     *
+     * @param lastId 이전 청크의 마지막 상품 ID (첫 청크는 0)
+     * @param chunkSize 청크 크기
+     */
+    public List<ProductStockSnapshot> getStockSnapshots(Long lastId, int chunkSize) {
+        return productRepository.findStockSnapshots(lastId, PageRequest.of(0, chunkSize));
+    }
+
+    /**
+     * 지정 상품 재고 스냅샷 조회
+     *
+     * @param productIds 상품 ID 목록
+     */
+    public List<ProductStockSnapshot> getStockSnapshots(List<Long> productIds) {
+        return productRepository.findStockSnapshotsByIds(productIds);
+    }
+
+    /**
+     * 상품 카테고리 스냅샷 청크 조회 (Keyset 페이징)
+     *
+     * @param lastId 이전 청크의 마지막 상품 ID (첫 청크는 0)
+     * @param chunkSize 청크 크기
+     */
+    public List<ProductCategorySnapshot> getCategorySnapshots(Long lastId, int chunkSize) {
+        return productRepository.findCategorySnapshots(lastId, PageRequest.of(0, chunkSize));
+    }
 }
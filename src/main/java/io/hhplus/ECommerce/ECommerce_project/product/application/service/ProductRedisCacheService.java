@@ -1,25 +1,49 @@
 package io.hhplus.ECommerce.ECommerce_project.product.application.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.ECommerce.ECommerce_project.common.cache.codec.CacheCodecRegistry;
+import io.hhplus.ECommerce.ECommerce_project.common.cache.codec.CompactCacheSerializer;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.temporal.WeekFields;
-import java.util.Optional;
-
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인기상품 캐시 (일별/주간)
+ * - 값은 컴팩트 바이너리(ProductCacheDtoCodec)로 저장, 배포 전 JSON 값도 그대로 읽음
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class ProductRedisCacheService {
 
     private final RedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final CompactCacheSerializer<ProductCacheDto> cacheSerializer;
+
+    public ProductRedisCacheService(
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            CacheCodecRegistry cacheCodecRegistry
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.cacheSerializer = new CompactCacheSerializer<>(
+                cacheCodecRegistry,
+                new Jackson2JsonRedisSerializer<>(objectMapper, ProductCacheDto.class));
+    }
 
     private static final String DAILY_CACHE_PREFIX = "ranking:product:cache:daily:";
     private static final String WEEKLY_CACHE_PREFIX = "ranking:product:cache:weekly:";
@@ -29,102 +53,122 @@ public class ProductRedisCacheService {
     // ===== 일별 캐시 =====
 
     /**
-     * 일별 캐시 키 생성: ranking:product:cache:daily:20251204:{productId}
+     * 일별 캐시 키 prefix: ranking:product:cache:daily:20251204: (+ productId)
      */
-    private String getDailyCacheKey(Long productId) {
+    private String getDailyCacheKeyPrefix() {
         LocalDate today = LocalDate.now();
         String dateStr = today.toString().replace("-", "");  // YYYYMMDD
-        return DAILY_CACHE_PREFIX + dateStr + ":" + productId;
+        return DAILY_CACHE_PREFIX + dateStr + ":";
     }
 
     /**
-     * 일별 상품 캐싱
+     * 일별 상품 일괄 조회 (MGET 1회)
+     *
+     * @return 캐시 히트한 상품만 담은 Map (productId → DTO)
      */
-    public void cacheDailyProduct(Product product) {
-        try {
-            String dailyKey = getDailyCacheKey(product.getId());
-            ProductCacheDto dto = ProductCacheDto.from(product);
-            String json = objectMapper.writeValueAsString(dto);
-
-            redisTemplate.opsForValue().set(dailyKey, json, DAILY_TTL);
-
-            log.debug("일별 상품 캐시 저장 - key: {}", dailyKey);
-        } catch (JsonProcessingException e) {
-            log.error("일별 상품 캐시 저장 실패 - productId: {}", product.getId(), e);
-        }
+    public Map<Long, ProductCacheDto> getDailyProducts(List<Long> productIds) {
+        return multiGet(getDailyCacheKeyPrefix(), productIds);
     }
 
     /**
-     * 일별 상품 조회
+     * 일별 상품 일괄 캐싱 (파이프라인 1회)
      */
-    public Optional<ProductCacheDto> getDailyProduct(Long productId) {
-        try {
-            String dailyKey = getDailyCacheKey(productId);
-            String json = redisTemplate.opsForValue().get(dailyKey);
-
-            if (json == null) {
-                log.debug("일별 캐시 미스 - productId: {}", productId);
-                return Optional.empty();
-            }
-
-            ProductCacheDto dto = objectMapper.readValue(json, ProductCacheDto.class);
-            log.debug("일별 캐시 히트 - productId: {}", productId);
-            return Optional.of(dto);
-        } catch (JsonProcessingException e) {
-            log.error("일별 캐시 조회 실패 - productId: {}", productId, e);
-            return Optional.empty();
-        }
+    public void cacheDailyProducts(List<Product> products) {
+        multiSet(getDailyCacheKeyPrefix(), products, DAILY_TTL);
     }
 
     // ===== 주간 캐시 =====
 
     /**
-     * 주간 캐시 키 생성: product:cache:weekly:2025-W48:{productId}
+     * 주간 캐시 키 prefix: ranking:product:cache:weekly:2025-W48: (+ productId)
      */
-    private String getWeeklyCacheKey(Long productId) {
+    private String getWeeklyCacheKeyPrefix() {
         LocalDate today = LocalDate.now();
         WeekFields weekFields = WeekFields.ISO;
         String weekStr = today.getYear() + "-W" + today.get(weekFields.weekOfYear());
-        return WEEKLY_CACHE_PREFIX + weekStr + ":" + productId;
+        return WEEKLY_CACHE_PREFIX + weekStr + ":";
     }
 
     /**
-     * 주간 상품 캐싱
+     * 주간 상품 일괄 조회 (MGET 1회)
+     *
+     * @return 캐시 히트한 상품만 담은 Map (productId → DTO)
      */
-    public void cacheWeeklyProduct(Product product) {
-        try {
-            String key = getWeeklyCacheKey(product.getId());
-            ProductCacheDto dto = ProductCacheDto.from(product);
-            String json = objectMapper.writeValueAsString(dto);
-
-            redisTemplate.opsForValue().set(key, json, WEEKLY_TTL);
-
-            log.debug("주간 상품 캐시 저장 - key: {}", key);
-        } catch (JsonProcessingException e) {
-            log.error("주간 상품 캐시 저장 실패 - productId: {}", product.getId(), e);
-        }
+    public Map<Long, ProductCacheDto> getWeeklyProducts(List<Long> productIds) {
+        return multiGet(getWeeklyCacheKeyPrefix(), productIds);
     }
 
     /**
-     * 주간 상품 조회
+     * 주간 상품 일괄 캐싱 (파이프라인 1회)
      */
-    public Optional<ProductCacheDto> getWeeklyProduct(Long productId) {
-        try {
-            String key = getWeeklyCacheKey(productId);
-            String json = redisTemplate.opsForValue().get(key);
-
-            if (json == null) {
-                log.debug("주간 캐시 미스 - productId: {}", productId);
-                return Optional.empty();
+    public void cacheWeeklyProducts(List<Product> products) {
+        multiSet(getWeeklyCacheKeyPrefix(), products, WEEKLY_TTL);
+    }
+
+    // ===== 일괄 처리 =====
+
+    private Map<Long, ProductCacheDto> multiGet(String keyPrefix, List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+
+        byte[][] keys = productIds.stream()
+                .map(productId -> (keyPrefix + productId).getBytes(StandardCharsets.UTF_8))
+                .toArray(byte[][]::new);
+        List<byte[]> values = redisTemplate.execute(
+                (RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(keys));
+
+        Map<Long, ProductCacheDto> result = new HashMap<>();
+        if (values == null) {
+            return result;
+        }
+
+        for (int i = 0; i < productIds.size(); i++) {
+            try {
+                ProductCacheDto dto = cacheSerializer.deserialize(values.get(i));
+                if (dto != null) {
+                    result.put(productIds.get(i), dto);
+                }
+            } catch (SerializationException e) {
+                // 깨진 항목은 캐시 미스로 처리 → DB 조회 후 덮어씀
+                log.error("상품 캐시 조회 실패 - key: {}{}", keyPrefix, productIds.get(i), e);
             }
+        }
 
-            ProductCacheDto dto = objectMapper.readValue(json, ProductCacheDto.class);
-            log.debug("주간 캐시 히트 - productId: {}", productId);
-            return Optional.of(dto);
-        } catch (JsonProcessingException e) {
-            log.error("주간 캐시 조회 실패 - productId: {}", productId, e);
-            return Optional.empty();
+        log.debug("상품 캐시 일괄 조회 - 요청: {}, 히트: {}", productIds.size(), result.size());
+        return result;
+    }
+
+    private void multiSet(String keyPrefix, List<Product> products, Duration ttl) {
+        if (products.isEmpty()) {
+            return;
         }
+
+        Map<byte[], byte[]> entries = new LinkedHashMap<>();
+        for (Product product : products) {
+            // 비활성 상품은 랭킹에 노출하지 않으므로 캐싱하지 않음
+            if (!product.isActive()) {
+                continue;
+            }
+            try {
+                entries.put(
+                        (keyPrefix + product.getId()).getBytes(StandardCharsets.UTF_8),
+                        cacheSerializer.serialize(ProductCacheDto.from(product))
+                );
+            } catch (SerializationException e) {
+                log.error("상품 캐시 저장 실패 - productId: {}", product.getId(), e);
+            }
+        }
+
+        // MSET은 TTL을 지정할 수 없으므로 SET EX를 파이프라인으로 전송
+        Expiration expiration = Expiration.from(ttl);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            entries.forEach((key, value) ->
+                    connection.stringCommands().set(key, value, expiration, RedisStringCommands.SetOption.upsert()));
+            return null;
+        });
+
+        log.debug("상품 캐시 일괄 저장 - {}건", entries.size());
     }
 
     // ===== 캐시 DTO =====
@@ -141,7 +185,9 @@ public class ProductRedisCacheService {
             int viewCount,
             int soldCount,
             Integer minOrderQuantity,
-            Integer maxOrderQuantity
+            Integer maxOrderQuantity,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
     ) {
         public static ProductCacheDto from(Product product) {
             return new ProductCacheDto(
@@ -156,7 +202,9 @@ public class ProductRedisCacheService {
                     product.getViewCount(),
                     product.getSoldCount(),
                     product.getMinOrderQuantity(),
-                    product.getMaxOrderQuantity()
+                    product.getMaxOrderQuantity(),
+                    product.getCreatedAt(),
+                    product.getUpdatedAt()
             );
         }
     }
@@ -0,0 +1,196 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.service;
+
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductViewCountJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품 조회수 버퍼 서비스
+ * - 조회마다 DB UPDATE + 이벤트/스트림/Redis 왕복 하지 않고, 상품별 LongAdder + 조회자 Set에 합산
+ * - 1초마다(ProductViewCountFlushScheduler) DB(batchUpdate 1회) + 순 조회자 HyperLogLog(PFADD 파이프라인 1회)에 일괄 반영
+ * - 랭킹 조회 점수는 전체 조회수가 아닌 순 조회자 기준 (새로고침/봇 반복 조회로 랭킹이 부풀지 않도록)
+ *   → unique-fold-interval-ms마다 HyperLogLog 증가분만 계산해 Redis 랭킹에 반영 (증가분 계산 + 반영을 Lua Script 1회로)
+ * - DB view_count는 기존대로 전체 조회수
+ * - 각 반영 단계는 독립적으로 재시도 (한쪽 실패가 다른 쪽 중복 반영을 일으키지 않도록)
+ * - 애플리케이션 종료 시 남은 조회수 모두 반영
+ *
+ * 메트릭:
+ * - product.view-count.flush.size: 플러시당 반영된 상품 수
+ * - product.view-count.flush.failures: 플러시 실패 횟수 (target 태그: db / unique-viewers)
+ */
+@Slf4j
+@Service
+public class ProductViewCountService {
+
+    private final RedisRankingService redisRankingService;
+    private final ProductViewCountJdbcRepository productViewCountJdbcRepository;
+
+    // 상품 ID → 누적 조회수 (조회 스레드 간 경합 없이 증가)
+    private final Map<Long, LongAdder> counters = new ConcurrentHashMap<>();
+
+    // 상품 ID → 플러시 전까지 조회한 조회자 ID (같은 조회자는 메모리에서 먼저 중복 제거)
+    private final Map<Long, Set<String>> viewers = new ConcurrentHashMap<>();
+
+    // 반영 실패 후 재시도 대기 중인 값 (flush/fold는 synchronized로 직렬화)
+    private final Map<Long, Integer> pendingDatabase = new HashMap<>();
+    private final Map<LocalDate, Map<Long, Set<String>>> pendingViewers = new HashMap<>();
+
+    // 일자 → HyperLogLog에 기록했지만 아직 랭킹 증가분을 계산하지 않은 상품
+    private final Map<LocalDate, Set<Long>> unfoldedProducts = new HashMap<>();
+
+    private final DistributionSummary flushSizeSummary;
+    private final Counter databaseFailureCounter;
+    private final Counter uniqueViewersFailureCounter;
+
+    public ProductViewCountService(
+            RedisRankingService redisRankingService,
+            ProductViewCountJdbcRepository productViewCountJdbcRepository,
+            MeterRegistry meterRegistry
+    ) {
+        this.redisRankingService = redisRankingService;
+        this.productViewCountJdbcRepository = productViewCountJdbcRepository;
+
+        this.flushSizeSummary = DistributionSummary.builder("product.view-count.flush.size")
+                .register(meterRegistry);
+        this.databaseFailureCounter = Counter.builder("product.view-count.flush.failures")
+                .tag("target", "db")
+                .register(meterRegistry);
+        this.uniqueViewersFailureCounter = Counter.builder("product.view-count.flush.failures")
+                .tag("target", "unique-viewers")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회 1건 기록
+     *
+     * @param viewerId 조회자 식별자 (사용자 ID 또는 클라이언트 식별자)
+     */
+    public void increment(Long productId, String viewerId) {
+        counters.computeIfAbsent(productId, id -> new LongAdder()).increment();
+
+        // compute로 추가해야 플러시의 remove와 겹쳐도 조회자가 유실되지 않음
+        viewers.compute(productId, (id, viewerIds) -> {
+            Set<String> result = viewerIds != null ? viewerIds : new HashSet<>();
+            result.add(viewerId);
+            return result;
+        });
+    }
+
+    /**
+     * 누적 조회수를 DB와 순 조회자 HyperLogLog에 일괄 반영
+     * - 읽은 값만큼만 차감하므로 플러시 중 들어온 조회는 다음 플러시 대상 (유실 없음)
+     */
+    public synchronized void flush() {
+        flushViewers();
+
+        Map<Long, Integer> drained = new HashMap<>();
+        counters.forEach((productId, counter) -> {
+            long count = counter.sum();
+            if (count > 0) {
+                counter.add(-count);
+                drained.put(productId, (int) count);
+            }
+        });
+
+        drained.forEach((productId, count) -> pendingDatabase.merge(productId, count, Integer::sum));
+
+        if (pendingDatabase.isEmpty()) {
+            return;
+        }
+        flushSizeSummary.record(drained.size());
+
+        try {
+            productViewCountJdbcRepository.increaseViewCounts(pendingDatabase);
+            pendingDatabase.clear();
+        } catch (Exception e) {
+            databaseFailureCounter.increment();
+            log.error("조회수 DB 반영 실패, 다음 주기에 재시도: 상품={}", pendingDatabase.size(), e);
+        }
+
+        log.debug("조회수 플러시 완료: 상품={}", drained.size());
+    }
+
+    /**
+     * 순 조회자 증가분을 랭킹에 반영
+     * - 마지막 반영 이후 이 노드에서 조회된 상품만 PFCOUNT (증가분 계산과 점수 반영은 Lua Script에서 원자적으로 처리)
+     * - 자정 이전 조회자의 남은 증가분은 조회 일자의 일별/주간 랭킹에 더해짐 (시간별 버킷은 반영 시점)
+     * - 실패한 일자는 다음 주기에 재시도 (반영 값이 갱신되지 않았으므로 증가분 유실/중복 없음)
+     */
+    public synchronized void foldUniqueViewers() {
+        flushViewers();
+
+        Iterator<Map.Entry<LocalDate, Set<Long>>> iterator = unfoldedProducts.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<LocalDate, Set<Long>> entry = iterator.next();
+            try {
+                redisRankingService.foldUniqueViewers(entry.getKey(), entry.getValue());
+                iterator.remove();
+            } catch (Exception e) {
+                uniqueViewersFailureCounter.increment();
+                log.error("순 조회자 증가분 반영 실패, 다음 주기에 재시도: 일자={}, 상품={}",
+                        entry.getKey(), entry.getValue().size(), e);
+            }
+        }
+
+        flush();
+    }
+
+    /**
+     * 메모리에 모인 조회자를 HyperLogLog에 기록 (PFADD 파이프라인 1회)
+     */
+    private void flushViewers() {
+        LocalDate today = LocalDate.now();
+        Map<Long, Set<String>> drained = pendingViewers.computeIfAbsent(today, day -> new HashMap<>());
+        for (Long productId : viewers.keySet()) {
+            Set<String> viewerIds = viewers.remove(productId);
+            if (viewerIds != null) {
+                drained.merge(productId, viewerIds, (a, b) -> {
+                    a.addAll(b);
+                    return a;
+                });
+            }
+        }
+
+        Iterator<Map.Entry<LocalDate, Map<Long, Set<String>>>> iterator = pendingViewers.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<LocalDate, Map<Long, Set<String>>> entry = iterator.next();
+            if (entry.getValue().isEmpty()) {
+                iterator.remove();
+                continue;
+            }
+
+            try {
+                redisRankingService.addUniqueViewers(entry.getKey(), entry.getValue());
+                unfoldedProducts.computeIfAbsent(entry.getKey(), day -> new HashSet<>())
+                        .addAll(entry.getValue().keySet());
+                iterator.remove();
+            } catch (Exception e) {
+                uniqueViewersFailureCounter.increment();
+                log.error("순 조회자 기록 실패, 다음 주기에 재시도: 일자={}, 상품={}",
+                        entry.getKey(), entry.getValue().size(), e);
+            }
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 조회수 모두 반영
+     */
+    @PreDestroy
+    public void shutdown() {
+        foldUniqueViewers();
+        log.info("조회수 종료 플러시 완료: 미반영 순 조회자 일자={}, 미반영 DB={}", unfoldedProducts.size(), pendingDatabase.size());
+    }
+}
@@ -0,0 +1,128 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.service;
+
+import io.hhplus.ECommerce.ECommerce_project.common.redis.RedisScriptRegistry;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRankingHistoryJdbcRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 인기상품 랭킹 이력 아카이빙
+ * - 일별 랭킹 ZSET(TTL 7일)을 만료 전에 product_ranking_history 테이블로 옮겨 장기 보관
+ * - 상품당 하루 1행 (상위 max-products-per-day개만) → 분기/연간 리포트도 이력 테이블 범위 합산으로 처리
+ *
+ * 처리 방식:
+ * - 마지막 아카이빙 일자부터 어제까지 누락 없이 처리 (서버 중단으로 건너뛴 날 보충)
+ * - 마지막 아카이빙 일자(직전 실행의 D-1)는 다시 저장 → 아카이빙 이후 반영된 점수(순 조회자 폴딩 등)까지 포함
+ * - ZSET이 이미 만료된 7일 이전 날짜는 대상에서 제외
+ * - 여러 노드 중 락을 잡은 노드 하나만 실행, 일자 단위로 교체 저장이라 재실행해도 결과 동일
+ * - 락은 실행마다 발급한 토큰이 일치할 때만 해제 (TTL 만료 후 다른 노드가 잡은 락을 지우지 않도록)
+ */
+@Slf4j
+@Service
+public class RankingHistoryService {
+
+    private static final String ARCHIVE_LOCK_KEY = "ranking:history:archive-lock";
+    private static final Duration ARCHIVE_LOCK_TTL = Duration.ofMinutes(10);
+    private static final int ARCHIVABLE_DAYS = 6;  // 일별 랭킹 TTL 7일 - 당일
+
+    /**
+     * Lua Script: 아카이빙 락 해제 (내가 잡은 락만 삭제)
+     *
+     * KEYS[1]: 락 키
+     * ARGV[1]: 락 토큰
+     */
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = RedisScript.of(
+            """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """,
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScriptRegistry redisScriptRegistry;
+    private final RedisRankingService redisRankingService;
+    private final ProductRankingHistoryJdbcRepository productRankingHistoryJdbcRepository;
+    private final int maxProductsPerDay;
+
+    public RankingHistoryService(
+            RedisTemplate<String, String> redisTemplate,
+            RedisScriptRegistry redisScriptRegistry,
+            RedisRankingService redisRankingService,
+            ProductRankingHistoryJdbcRepository productRankingHistoryJdbcRepository,
+            @Value("${ranking.history.max-products-per-day:1000}") int maxProductsPerDay
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.redisScriptRegistry = redisScriptRegistry;
+        this.redisRankingService = redisRankingService;
+        this.productRankingHistoryJdbcRepository = productRankingHistoryJdbcRepository;
+        this.maxProductsPerDay = maxProductsPerDay;
+    }
+
+    @PostConstruct
+    void registerScripts() {
+        redisScriptRegistry.register("ranking:archive-lock-release", RELEASE_LOCK_SCRIPT);
+    }
+
+    /**
+     * 아카이빙되지 않은 지난 일별 랭킹 저장
+     * RankingHistoryArchiveScheduler.java 에서 사용
+     *
+     * @return 아카이빙한 일수
+     */
+    public int archivePendingDays() {
+        String lockToken = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(ARCHIVE_LOCK_KEY, lockToken, ARCHIVE_LOCK_TTL);
+        if (!Boolean.TRUE.equals(acquired)) {
+            return 0;
+        }
+
+        try {
+            LocalDate today = LocalDate.now();
+            LocalDate from = today.minusDays(ARCHIVABLE_DAYS);
+
+            // 마지막 아카이빙 일자부터 다시 저장 (아카이빙 이후 늦게 반영된 점수 포함)
+            LocalDate lastArchived = productRankingHistoryJdbcRepository.findLastArchivedDate();
+            if (lastArchived != null && lastArchived.isAfter(from)) {
+                from = lastArchived;
+            }
+
+            int archivedDays = 0;
+            for (LocalDate day = from; day.isBefore(today); day = day.plusDays(1)) {
+                archiveDay(day);
+                archivedDays++;
+            }
+            return archivedDays;
+        } finally {
+            redisScriptRegistry.execute(RELEASE_LOCK_SCRIPT, List.of(ARCHIVE_LOCK_KEY), lockToken);
+        }
+    }
+
+    /**
+     * 하루치 일별 랭킹 저장 (ZREVRANGE 1회 + HMGET 1회 + DELETE/batchUpdate 1회)
+     */
+    private void archiveDay(LocalDate day) {
+        Map<Long, Double> scores = redisRankingService.getDailyScores(day, maxProductsPerDay);
+        if (scores.isEmpty()) {
+            log.info("아카이빙할 일별 랭킹 없음 - date: {}", day);
+            return;
+        }
+
+        Map<Long, Long> categoryIds = redisRankingService.getProductCategories(scores.keySet());
+        productRankingHistoryJdbcRepository.saveDailyRanking(day, scores, categoryIds);
+
+        log.info("일별 랭킹 아카이빙 완료 - date: {}, products: {}", day, scores.size());
+    }
+}
@@ -0,0 +1,218 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.hhplus.ECommerce.ECommerce_project.product.application.enums.RankingType;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductRedisCacheService.ProductCacheDto;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import io.hhplus.ECommerce.ECommerce_project.product.presentation.response.RankedProductResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 인기상품 랭킹 스냅샷 (Materialized Top-N)
+ * - 랭킹 순서 + 상품 정보 + 카테고리명을 완성된 응답 목록으로 미리 만들어 Redis 키 하나에 저장
+ * - 각 노드는 스냅샷을 로컬 메모리에 복제 → /api/products/top-rank 요청당 원격 호출 0회
+ *
+ * 갱신:
+ * - 주기마다 SET NX PX 게이트를 잡은 노드 하나만 스냅샷 재구성 (랭킹 타입별)
+ * - 모든 노드는 Redis 스냅샷을 읽어 로컬 복제본 교체
+ * - 로컬 복제본이 비어있을 때(기동 직후)만 요청 경로에서 Redis 조회/재구성 (타입별 1회, Caffeine get)
+ *
+ * 카테고리별 랭킹:
+ * - 카테고리 수만큼 스냅샷을 미리 만들지 않고, 조회된 (타입, 카테고리)만 로컬에 refresh-interval-ms 동안 보관
+ */
+@Slf4j
+@Service
+public class RankingSnapshotService {
+
+    private static final String SNAPSHOT_KEY_PREFIX = "ranking:snapshot:";
+    private static final String BUILD_GATE_KEY_PREFIX = "ranking:snapshot:gate:";
+    private static final Duration SNAPSHOT_TTL = Duration.ofMinutes(10);
+    private static final TypeReference<List<RankedProductResponse>> SNAPSHOT_TYPE = new TypeReference<>() {};
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisRankingService redisRankingService;
+    private final ProductRedisCacheService productRedisCacheService;
+    private final ProductFinderService productFinderService;
+    private final int snapshotSize;
+    private final long refreshIntervalMillis;
+    private final Cache<RankingType, List<RankedProductResponse>> localSnapshots;
+    private final Cache<String, List<RankedProductResponse>> categorySnapshots;
+
+    public RankingSnapshotService(
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            RedisRankingService redisRankingService,
+            ProductRedisCacheService productRedisCacheService,
+            ProductFinderService productFinderService,
+            @Value("${ranking.snapshot.size:100}") int snapshotSize,
+            @Value("${ranking.snapshot.refresh-interval-ms:5000}") long refreshIntervalMillis,
+            @Value("${ranking.snapshot.local-ttl-ms:60000}") long localTtlMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisRankingService = redisRankingService;
+        this.productRedisCacheService = productRedisCacheService;
+        this.productFinderService = productFinderService;
+        this.snapshotSize = snapshotSize;
+        this.refreshIntervalMillis = refreshIntervalMillis;
+        // 갱신이 계속 실패하면 오래된 스냅샷을 무기한 제공하지 않도록 만료
+        this.localSnapshots = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(localTtlMillis))
+                .build();
+        this.categorySnapshots = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(refreshIntervalMillis))
+                .maximumSize(10_000)
+                .build();
+    }
+
+    /**
+     * 인기상품 TOP N 조회 (로컬 복제본)
+     * - 로컬 미스 시 같은 노드의 동시 요청은 1회만 Redis 조회/재구성 (Caffeine get)
+     *
+     * @param limit 최대 개수 (스냅샷 크기 이하)
+     */
+    public List<RankedProductResponse> getTopProducts(RankingType type, int limit) {
+        List<RankedProductResponse> snapshot = localSnapshots.get(type, this::loadSnapshot);
+        return snapshot.size() > limit ? snapshot.subList(0, limit) : snapshot;
+    }
+
+    /**
+     * 카테고리별 인기상품 TOP N 조회
+     * - 로컬 미스 시 같은 노드의 동시 요청은 1회만 재구성 (Caffeine get)
+     *
+     * @throws ProductException 감쇠 랭킹 타입(rolling24h, rolling7d)인 경우
+     */
+    public List<RankedProductResponse> getCategoryTopProducts(RankingType type, Long categoryId, int limit) {
+        List<RankedProductResponse> snapshot = categorySnapshots.get(
+                type.getCode() + ":" + categoryId,
+                key -> buildSnapshot(type, redisRankingService.getTopProducts(type, categoryId, snapshotSize))
+        );
+        return snapshot.size() > limit ? snapshot.subList(0, limit) : snapshot;
+    }
+
+    /**
+     * 전체 랭킹 타입 스냅샷 갱신
+     * RankingSnapshotScheduler.java 에서 사용
+     */
+    public void refresh() {
+        for (RankingType type : RankingType.values()) {
+            try {
+                // 1. 게이트를 잡은 노드만 재구성 (주기당 1회)
+                if (tryAcquireBuildGate(type)) {
+                    saveSnapshot(type, buildSnapshot(type, redisRankingService.getTopProducts(type, snapshotSize)));
+                }
+
+                // 2. 모든 노드: Redis 스냅샷 → 로컬 복제본
+                readSnapshot(type).ifPresent(snapshot -> localSnapshots.put(type, snapshot));
+            } catch (Exception e) {
+                log.error("랭킹 스냅샷 갱신 실패 - type: {}", type.getCode(), e);
+            }
+        }
+    }
+
+    /**
+     * 로컬 복제본이 없을 때: Redis 스냅샷 → 없으면 직접 재구성
+     * (localSnapshots.get의 로딩 함수 → 결과는 Caffeine이 저장)
+     */
+    private List<RankedProductResponse> loadSnapshot(RankingType type) {
+        return readSnapshot(type).orElseGet(() -> {
+            List<RankedProductResponse> snapshot =
+                    buildSnapshot(type, redisRankingService.getTopProducts(type, snapshotSize));
+            saveSnapshot(type, snapshot);
+            return snapshot;
+        });
+    }
+
+    /**
+     * 스냅샷 재구성
+     * - 랭킹 ID 목록 → 상품 캐시 조회 → 캐시 미스만 DB 조회 (카테고리 fetch join) 후 캐싱
+     * - 생성/수정 시각이 없는 이전 형식 항목은 캐시 미스로 보고 DB 조회 후 덮어씀
+     * - 비활성 상품은 캐시에 남아있어도 제외 (상품 수정 시 캐시는 ProductCacheInvalidator가 삭제)
+     *
+     * @param productIds Redis 랭킹 순서의 상품 ID 목록
+     */
+    private List<RankedProductResponse> buildSnapshot(RankingType type, List<Long> productIds) {
+        // 1. 빈 목록 체크
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 상품 캐시: 하루 단위 랭킹(daily, rolling24h)은 일별 캐시, 나머지는 주간 캐시
+        boolean useDailyCache = type == RankingType.DAILY || type == RankingType.ROLLING_24H;
+
+        // 2. 캐시에서 상품 정보 일괄 조회 (MGET 1회) + 캐시 미스 ID 분리
+        Map<Long, ProductCacheDto> productMap = new HashMap<>(useDailyCache
+                ? productRedisCacheService.getDailyProducts(productIds)
+                : productRedisCacheService.getWeeklyProducts(productIds));
+        productMap.values().removeIf(dto -> dto.createdAt() == null);
+
+        List<Long> missedIds = productIds.stream()
+                .filter(productId -> !productMap.containsKey(productId))
+                .toList();
+
+        // 3. 캐시 미스된 것만 DB 조회 후 일괄 캐싱 (파이프라인 1회)
+        if (!missedIds.isEmpty()) {
+            List<Product> products = productFinderService.getActiveProductsWithCategory(missedIds);
+            if (useDailyCache) {
+                productRedisCacheService.cacheDailyProducts(products);
+            } else {
+                productRedisCacheService.cacheWeeklyProducts(products);
+            }
+            products.forEach(product -> productMap.put(product.getId(), ProductCacheDto.from(product)));
+        }
+
+        // 4. Redis 랭킹 순서대로 순위 부여 (삭제/비활성 상품 제외)
+        List<RankedProductResponse> snapshot = new ArrayList<>();
+        for (Long productId : productIds) {
+            ProductCacheDto dto = productMap.get(productId);
+            if (dto != null && dto.isActive()) {
+                snapshot.add(RankedProductResponse.of(snapshot.size() + 1, dto));
+            }
+        }
+        return snapshot;
+    }
+
+    private boolean tryAcquireBuildGate(RankingType type) {
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(
+                BUILD_GATE_KEY_PREFIX + type.getCode(), "1", Duration.ofMillis(refreshIntervalMillis));
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    private void saveSnapshot(RankingType type, List<RankedProductResponse> snapshot) {
+        try {
+            String json = objectMapper.writeValueAsString(snapshot);
+            redisTemplate.opsForValue().set(SNAPSHOT_KEY_PREFIX + type.getCode(), json, SNAPSHOT_TTL);
+        } catch (JsonProcessingException e) {
+            log.error("랭킹 스냅샷 저장 실패 - type: {}", type.getCode(), e);
+        }
+    }
+
+    private Optional<List<RankedProductResponse>> readSnapshot(RankingType type) {
+        String json = redisTemplate.opsForValue().get(SNAPSHOT_KEY_PREFIX + type.getCode());
+        if (json == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(List.copyOf(objectMapper.readValue(json, SNAPSHOT_TYPE)));
+        } catch (JsonProcessingException e) {
+            log.error("랭킹 스냅샷 조회 실패 - type: {}", type.getCode(), e);
+            return Optional.empty();
+        }
+    }
+}
@@ -1,28 +1,205 @@
 package io.hhplus.ECommerce.ECommerce_project.product.application.service;
 
-import lombok.RequiredArgsConstructor;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ProductException;
+import io.hhplus.ECommerce.ECommerce_project.common.redis.RedisScriptRegistry;
+import io.hhplus.ECommerce.ECommerce_project.product.application.enums.RankingType;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.time.temporal.WeekFields;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+/**
+ * Redis 인기상품 랭킹 서비스
+ *
+ * 키 구조:
+ * - ranking:daily:{yyyyMMdd}, ranking:weekly:{yyyy-Www}: 달력 기준 일별/주간 랭킹
+ * - ranking:hourly:{yyyyMMddHH}: 시간별 버킷 (최근 24시간/7일 랭킹 재료)
+ * - ranking:rolling:24h, ranking:rolling:7d: 시간별 버킷을 감쇠 가중치로 합산한 구체화 랭킹
+ *   → 자정 직후에도 비지 않고, 최근 판매/조회일수록 높은 가중치
+ *   → 조회는 구체화 키에 ZREVRANGE 1회
+ * - ranking:category:daily:{categoryId}:{yyyyMMdd}, ranking:category:weekly:{categoryId}:{yyyy-Www}: 카테고리별 일별/주간 랭킹
+ *   → 전체 랭킹과 같은 Lua Script 안에서 함께 증가 (카테고리 인기상품을 DB 정렬 없이 조회)
+ *   → 전체 랭킹(ranking:daily:*, ranking:weekly:*)과 접두사를 분리해 패턴 조회/삭제 시 섞이지 않음
+ * - ranking:product-category: 상품 ID → 카테고리 ID (HASH, 점수 반영 전에 조회해 카테고리 랭킹 키 결정)
+ * - ranking:unique-views:{yyyyMMdd}:{productId}: 상품/일별 순 조회자 HyperLogLog (트래픽과 무관하게 최대 12KB)
+ *   → 조회 점수는 요청마다가 아니라 주기적으로 순 조회자 증가분만 랭킹에 반영 (새로고침/봇 조회 중복 제거)
+ * - ranking:unique-views:folded:{yyyyMMdd}: 상품별로 랭킹에 이미 반영한 순 조회자 수 (HASH)
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class RedisRankingService {
 
-    private final RedisTemplate<String, String> redisTemplate;
-
     private static final String DAILY_RANKING_PREFIX = "ranking:daily:";
     private static final String WEEKLY_RANKING_PREFIX = "ranking:weekly:";
+    private static final String CATEGORY_DAILY_RANKING_PREFIX = "ranking:category:daily:";
+    private static final String CATEGORY_WEEKLY_RANKING_PREFIX = "ranking:category:weekly:";
+    private static final String HOURLY_RANKING_PREFIX = "ranking:hourly:";
+    private static final String ROLLING_24H_RANKING_KEY = "ranking:rolling:24h";
+    private static final String ROLLING_7D_RANKING_KEY = "ranking:rolling:7d";
+    private static final String PRODUCT_CATEGORY_KEY = "ranking:product-category";
+    private static final String UNIQUE_VIEWERS_PREFIX = "ranking:unique-views:";
+    private static final String UNIQUE_VIEWERS_FOLDED_PREFIX = "ranking:unique-views:folded:";
+    private static final DateTimeFormatter HOURLY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final int ROLLING_24H_BUCKETS = 24;
+    private static final int ROLLING_7D_BUCKETS = 24 * 7;
     private static final Double SOLD_COUNT_WEIGHT = 10000.0;
     private static final Double VIEW_COUNT_WEIGHT = 1.0;
+    private static final Duration DAILY_RANKING_TTL = Duration.ofDays(7);
+    private static final Duration WEEKLY_RANKING_TTL = Duration.ofDays(28);
+    private static final Duration HOURLY_RANKING_TTL = Duration.ofDays(8);     // 7일 윈도우 + 여유
+    private static final Duration ROLLING_RANKING_TTL = Duration.ofDays(1);    // 재구성이 멈추면 하루 뒤 자동 삭제
+    private static final Duration UNIQUE_VIEWERS_TTL = Duration.ofDays(2);     // 자정 이후 마지막 반영까지만 필요
+
+    /**
+     * Lua Script: 일별/주간/시간별 랭킹 + 카테고리별 일별/주간 랭킹 점수 일괄 증가 + TTL 설정
+     * - 기존: 상품 1개당 ZINCRBY/TTL/EXPIRE × (일별, 주간) = 최대 6회 왕복
+     * - 변경: 여러 상품을 Redis 왕복 1회로 처리 (카테고리 매핑 HMGET 1회 별도)
+     * - 카테고리 랭킹 키는 클라이언트에서 결정해 KEYS로 전달, 매핑이 없는 상품은 전체 랭킹에만 반영
+     * - TTL이 없는 키에만 설정 (이미 있으면 유지)
+     *
+     * KEYS[1]: 일별 랭킹, KEYS[2]: 주간 랭킹, KEYS[3]: 시간별 버킷,
+     * KEYS[4..]: 카테고리가 있는 상품의 카테고리 일별/주간 랭킹 키 (상품 순서대로)
+     * ARGV[1]: 일별 TTL(초), ARGV[2]: 주간 TTL(초), ARGV[3]: 시간별 TTL(초),
+     * ARGV[4..]: 상품 ID, 증가 점수, 카테고리 키 수(0 또는 2) 반복
+     *
+     * 반환값: 반영한 상품 수
+     */
+    private static final RedisScript<Long> INCREMENT_SCORES_SCRIPT = RedisScript.of(
+            """
+            local updated = 0
+            local categoryKeys = {}
+            local k = 4
+            for i = 4, #ARGV, 3 do
+                redis.call('ZINCRBY', KEYS[1], ARGV[i + 1], ARGV[i])
+                redis.call('ZINCRBY', KEYS[2], ARGV[i + 1], ARGV[i])
+                redis.call('ZINCRBY', KEYS[3], ARGV[i + 1], ARGV[i])
+
+                if ARGV[i + 2] == '2' then
+                    redis.call('ZINCRBY', KEYS[k], ARGV[i + 1], ARGV[i])
+                    redis.call('ZINCRBY', KEYS[k + 1], ARGV[i + 1], ARGV[i])
+                    categoryKeys[KEYS[k]] = ARGV[1]
+                    categoryKeys[KEYS[k + 1]] = ARGV[2]
+                    k = k + 2
+                end
+                updated = updated + 1
+            end
+
+            for t = 1, 3 do
+                if redis.call('TTL', KEYS[t]) == -1 then
+                    redis.call('EXPIRE', KEYS[t], ARGV[t])
+                end
+            end
+            for key, ttl in pairs(categoryKeys) do
+                if redis.call('TTL', key) == -1 then
+                    redis.call('EXPIRE', key, ttl)
+                end
+            end
+            return updated
+            """,
+            Long.class
+    );
+
+    /**
+     * Lua Script: 순 조회자 증가분을 랭킹에 반영 (HyperLogLog → 일별/주간/시간별 + 카테고리별 랭킹)
+     * - PFCOUNT 결과와 이미 반영한 값의 차이만큼 ZINCRBY하고 반영 값 갱신
+     * - 반영 값 갱신과 점수 증가가 같은 스크립트 안에서 실행 → 둘 중 하나만 반영되는 경우 없음
+     * - 여러 노드가 같은 상품을 동시에 처리해도 증가분이 한 번만 반영됨
+     *
+     * KEYS[1]: 반영 값 HASH, KEYS[2]: 일별 랭킹, KEYS[3]: 주간 랭킹, KEYS[4]: 시간별 버킷,
+     * KEYS[5..]: 상품별 HyperLogLog 키 (카테고리가 있으면 뒤에 카테고리 일별/주간 랭킹 키)
+     * ARGV[1]: 반영 값 TTL(초), ARGV[2]: 일별 TTL(초), ARGV[3]: 주간 TTL(초), ARGV[4]: 시간별 TTL(초),
+     * ARGV[5]: 순 조회자 1명당 점수, ARGV[6..]: 상품 ID, 카테고리 키 수(0 또는 2) 반복
+     *
+     * 반환값: 점수가 증가한 상품 수
+     */
+    private static final RedisScript<Long> FOLD_UNIQUE_VIEWERS_SCRIPT = RedisScript.of(
+            """
+            local folded = 0
+            local categoryKeys = {}
+            local k = 5
+            for i = 6, #ARGV, 2 do
+                local productId = ARGV[i]
+                local categoryKeyCount = tonumber(ARGV[i + 1])
+                local count = redis.call('PFCOUNT', KEYS[k])
+                local before = tonumber(redis.call('HGET', KEYS[1], productId) or '0')
+                if count > before then
+                    local score = (count - before) * tonumber(ARGV[5])
+                    redis.call('HSET', KEYS[1], productId, count)
+                    redis.call('ZINCRBY', KEYS[2], score, productId)
+                    redis.call('ZINCRBY', KEYS[3], score, productId)
+                    redis.call('ZINCRBY', KEYS[4], score, productId)
+                    if categoryKeyCount == 2 then
+                        redis.call('ZINCRBY', KEYS[k + 1], score, productId)
+                        redis.call('ZINCRBY', KEYS[k + 2], score, productId)
+                        categoryKeys[KEYS[k + 1]] = ARGV[2]
+                        categoryKeys[KEYS[k + 2]] = ARGV[3]
+                    end
+                    folded = folded + 1
+                end
+                k = k + 1 + categoryKeyCount
+            end
+
+            for t = 1, 4 do
+                if redis.call('TTL', KEYS[t]) == -1 then
+                    redis.call('EXPIRE', KEYS[t], ARGV[t])
+                end
+            end
+            for key, ttl in pairs(categoryKeys) do
+                if redis.call('TTL', key) == -1 then
+                    redis.call('EXPIRE', key, ttl)
+                end
+            end
+            return folded
+            """,
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScriptRegistry redisScriptRegistry;
+    private final double rolling24hHalfLifeHours;
+    private final double rolling7dHalfLifeHours;
+
+    public RedisRankingService(
+            RedisTemplate<String, String> redisTemplate,
+            RedisScriptRegistry redisScriptRegistry,
+            @Value("${ranking.rolling.half-life-24h-hours:6}") double rolling24hHalfLifeHours,
+            @Value("${ranking.rolling.half-life-7d-hours:48}") double rolling7dHalfLifeHours
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.redisScriptRegistry = redisScriptRegistry;
+        this.rolling24hHalfLifeHours = rolling24hHalfLifeHours;
+        this.rolling7dHalfLifeHours = rolling7dHalfLifeHours;
+    }
+
+    /**
+     * 랭킹 스크립트 등록 (기동 시 SCRIPT LOAD 대상)
+     */
+    @PostConstruct
+    void registerScripts() {
+        redisScriptRegistry.register("ranking:increment", INCREMENT_SCORES_SCRIPT);
+        redisScriptRegistry.register("ranking:fold-unique-viewers", FOLD_UNIQUE_VIEWERS_SCRIPT);
+    }
 
     /**
      * 일별 인기상품 Sort Set 초기화
@@ -39,7 +216,7 @@ public class RedisRankingService {
         redisTemplate.opsForZSet().add(dailyKey, productId.toString(), score);
 
         // dailyKey TTL 설정 (7일 후 자동 삭제)
-        redisTemplate.expire(dailyKey, Duration.ofDays(7));
+        redisTemplate.expire(dailyKey, DAILY_RANKING_TTL);
     }
 
     public void initializeWeeklyProductScore(Long productId, int soldCount, int viewCount) {
@@ -52,7 +229,7 @@ public class RedisRankingService {
         redisTemplate.opsForZSet().add(weeklyKey, productId.toString(), score);
 
         // weeklyKey TTL 설정 (4주 후 자동 삭제)
-        redisTemplate.expire(weeklyKey, Duration.ofDays(28));
+        redisTemplate.expire(weeklyKey, WEEKLY_RANKING_TTL);
     }
 
     /**
@@ -111,86 +288,330 @@ public class RedisRankingService {
      * 판매 발생 시 score 증가 (ZINCBY 활용)
      */
     public void incrementSoldCount(Long productId, int quantity) {
-        LocalDate today = LocalDate.now();
-        WeekFields weekFields = WeekFields.ISO;
-        String dailyKey = DAILY_RANKING_PREFIX + today.toString().replace("-", "");
-        String weeklyKey = WEEKLY_RANKING_PREFIX + today.getYear() + "-W" + today.get(weekFields.weekOfYear());
+        incrementSoldCounts(Map.of(productId, quantity));
+    }
 
+    /**
+     * 여러 상품 판매 발생 시 score 일괄 증가 (Redis 왕복 1회)
+     * - 결제 완료 이벤트 1건(또는 여러 건)의 주문 상품을 한 번에 반영
+     *
+     * @param quantities 상품 ID → 판매량
+     */
+    public void incrementSoldCounts(Map<Long, Integer> quantities) {
         // 판매량 * 10000 만큼 점수 증가
-        double incrementScore = calculateScore(quantity, 0);
-
-        // ZINCRBY는 멤버가 없으면 자동으로 추가하므로 체크 불필요
-        incrementDailyScore(dailyKey, productId, incrementScore);
-        incrementWeeklyScore(weeklyKey, productId, incrementScore);
+        incrementScores(LocalDateTime.now(), quantities, SOLD_COUNT_WEIGHT);
     }
 
     /**
      * 조회 발생 시 score 증가
      */
     public void incrementViewCount(Long productId) {
-        LocalDate today = LocalDate.now();
-        WeekFields weekFields = WeekFields.ISO;
-        String dailyKey = DAILY_RANKING_PREFIX + today.toString().replace("-", "");
-        String weeklyKey = WEEKLY_RANKING_PREFIX + today.getYear() + "-W" + today.get(weekFields.weekOfYear());
+        incrementViewCounts(Map.of(productId, 1));
+    }
 
-        // ZINCRBY는 멤버가 없으면 자동으로 추가하므로 체크 불필요
-        incrementDailyScore(dailyKey, productId, 1.0);
-        incrementWeeklyScore(weeklyKey, productId, 1.0);
+    /**
+     * 여러 상품 조회 발생 시 score 일괄 증가 (Redis 왕복 1회)
+     *
+     * @param viewCounts 상품 ID → 조회수
+     */
+    public void incrementViewCounts(Map<Long, Integer> viewCounts) {
+        incrementScores(LocalDateTime.now(), viewCounts, VIEW_COUNT_WEIGHT);
+    }
+
+    /**
+     * 순 조회자 기록 (상품별 PFADD + EXPIRE, 파이프라인 1회)
+     * - 같은 조회자의 반복 조회는 HyperLogLog에서 한 번만 집계
+     *
+     * @param viewers 상품 ID → 조회자 ID 목록 (사용자 ID 또는 클라이언트 식별자)
+     */
+    public void addUniqueViewers(LocalDate day, Map<Long, Set<String>> viewers) {
+        if (viewers.isEmpty()) {
+            return;
+        }
+
+        long ttlSeconds = UNIQUE_VIEWERS_TTL.toSeconds();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            viewers.forEach((productId, viewerIds) -> {
+                byte[] key = uniqueViewersKey(day, productId).getBytes(StandardCharsets.UTF_8);
+                byte[][] values = viewerIds.stream()
+                        .map(viewerId -> viewerId.getBytes(StandardCharsets.UTF_8))
+                        .toArray(byte[][]::new);
+                connection.hyperLogLogCommands().pfAdd(key, values);
+                connection.keyCommands().expire(key, ttlSeconds);
+            });
+            return null;
+        });
+    }
+
+    /**
+     * 순 조회자 증가분을 랭킹에 반영 (HMGET 1회 + Lua Script 1회)
+     * - 카테고리 랭킹 키는 매핑(HASH)을 먼저 조회해 결정 후 KEYS로 전달
+     * - 일별/주간 랭킹은 조회 일자 기준, 시간별 버킷은 반영 시점 기준
+     *
+     * @return 점수가 증가한 상품 수
+     */
+    public long foldUniqueViewers(LocalDate day, Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Long> categoryIds = getProductCategories(productIds);
+
+        List<String> keys = new ArrayList<>(productIds.size() * 3 + 4);
+        keys.add(UNIQUE_VIEWERS_FOLDED_PREFIX + daySuffix(day));
+        keys.add(dailyKey(day));
+        keys.add(weeklyKey(day));
+        keys.add(hourlyKey(LocalDateTime.now()));
+
+        List<String> args = new ArrayList<>(productIds.size() * 2 + 5);
+        args.add(String.valueOf(UNIQUE_VIEWERS_TTL.toSeconds()));
+        args.add(String.valueOf(DAILY_RANKING_TTL.toSeconds()));
+        args.add(String.valueOf(WEEKLY_RANKING_TTL.toSeconds()));
+        args.add(String.valueOf(HOURLY_RANKING_TTL.toSeconds()));
+        args.add(String.valueOf(VIEW_COUNT_WEIGHT));
+
+        for (Long productId : productIds) {
+            keys.add(uniqueViewersKey(day, productId));
+            args.add(productId.toString());
+            args.add(String.valueOf(addCategoryKeys(keys, categoryIds.get(productId), day)));
+        }
+
+        Long folded = redisScriptRegistry.execute(FOLD_UNIQUE_VIEWERS_SCRIPT, keys, args.toArray());
+        return folded != null ? folded : 0;
     }
 
     /**
      * 환불 발생 시 score 감소 (ZINCBY 활용 - 음수를 이용해 감소)
      */
     public void decrementSoldCount(Long productId, int quantity, LocalDateTime paidAt) {
-        LocalDate paidDay = paidAt.toLocalDate();
-        WeekFields weekFields = WeekFields.ISO;
-        String dailyKey = DAILY_RANKING_PREFIX + paidDay.toString().replace("-", "");
-        String weeklyKey = WEEKLY_RANKING_PREFIX + paidDay.getYear() + "-W" + paidDay.get(weekFields.weekOfYear());
+        // 결제 시점의 일별/주간/시간별 랭킹에서 판매량 * 10000 만큼 점수 감소
+        incrementScores(paidAt, Map.of(productId, -quantity), SOLD_COUNT_WEIGHT);
+    }
 
-        // 판매량 * 10000 만큼 점수 감소
-        double decrementScore = calculateScore(quantity, 0) * (-1);
+    /**
+     * 해당 시점의 일별/주간/시간별 + 카테고리별 랭킹 점수 일괄 증가 (HMGET 1회 + Lua Script 1회)
+     * - ZINCRBY는 멤버가 없으면 자동으로 추가하므로 체크 불필요
+     */
+    private void incrementScores(LocalDateTime at, Map<Long, Integer> counts, double weight) {
+        if (counts.isEmpty()) {
+            return;
+        }
 
-        // 일별 및 주간 점수 감소
-        incrementDailyScore(dailyKey, productId, decrementScore);
-        incrementWeeklyScore(weeklyKey, productId, decrementScore);
+        LocalDate day = at.toLocalDate();
+        Map<Long, Long> categoryIds = getProductCategories(counts.keySet());
+
+        List<String> keys = new ArrayList<>(categoryIds.size() * 2 + 3);
+        keys.add(dailyKey(day));
+        keys.add(weeklyKey(day));
+        keys.add(hourlyKey(at));
+
+        List<String> args = new ArrayList<>(counts.size() * 3 + 3);
+        args.add(String.valueOf(DAILY_RANKING_TTL.toSeconds()));
+        args.add(String.valueOf(WEEKLY_RANKING_TTL.toSeconds()));
+        args.add(String.valueOf(HOURLY_RANKING_TTL.toSeconds()));
+        counts.forEach((productId, count) -> {
+            args.add(productId.toString());
+            args.add(String.valueOf(count * weight));
+            args.add(String.valueOf(addCategoryKeys(keys, categoryIds.get(productId), day)));
+        });
+
+        redisScriptRegistry.execute(INCREMENT_SCORES_SCRIPT, keys, args.toArray());
     }
 
     /**
-     * redis Zset에 일별 점수 증가
+     * 최근 24시간/7일 랭킹 재구성 (RankingRollupScheduler에서 주기적으로 호출)
+     * - 시간별 버킷을 ZUNIONSTORE 1회로 합산, 버킷 가중치 = 0.5^(경과 시간 / 반감기)
+     * - ZUNIONSTORE는 원자적으로 대상 키를 교체하므로 조회 중에도 빈 랭킹이 보이지 않음
      */
-    public void incrementDailyScore(String dailyKey, Long productId, Double score) {
-        redisTemplate.opsForZSet().incrementScore(
-                dailyKey,
-                productId.toString(),
-                score
+    public void rebuildRollingRankings() {
+        LocalDateTime now = LocalDateTime.now();
+        rebuildRollingRanking(ROLLING_24H_RANKING_KEY, now, ROLLING_24H_BUCKETS, rolling24hHalfLifeHours);
+        rebuildRollingRanking(ROLLING_7D_RANKING_KEY, now, ROLLING_7D_BUCKETS, rolling7dHalfLifeHours);
+    }
+
+    private void rebuildRollingRanking(String destKey, LocalDateTime now, int bucketCount, double halfLifeHours) {
+        List<String> bucketKeys = new ArrayList<>(bucketCount);
+        double[] weights = new double[bucketCount];
+        for (int age = 0; age < bucketCount; age++) {
+            bucketKeys.add(hourlyKey(now.minusHours(age)));
+            weights[age] = Math.pow(0.5, age / halfLifeHours);
+        }
+
+        Long size = redisTemplate.opsForZSet().unionAndStore(
+                bucketKeys.get(0),
+                bucketKeys.subList(1, bucketKeys.size()),
+                destKey,
+                Aggregate.SUM,
+                Weights.of(weights)
         );
+        redisTemplate.expire(destKey, ROLLING_RANKING_TTL);
 
-        // TTL이 없으면 설정 (이미 있으면 유지)
-        Long ttl = redisTemplate.getExpire(dailyKey);
-        // ZINCRBY는 멤버가 없으면 자동으로 추가하지만 TTL을 따로 설정해줘야 한다.
-        // dailyKey TTL 설정 (7일 후 자동 삭제)
-        if (ttl == null || ttl == -1) { // -1은 TTL이 설정되지 않음을 의미
-            redisTemplate.expire(dailyKey, Duration.ofDays(7));
+        log.debug("감쇠 랭킹 재구성 완료 - key: {}, buckets: {}, size: {}", destKey, bucketCount, size);
+    }
+
+    /**
+     * 랭킹 타입별 인기상품 TOP N 조회 (ZREVRANGE 1회)
+     */
+    public List<Long> getTopProducts(RankingType type, int limit) {
+        return switch (type) {
+            case DAILY -> getTodayTopProducts(limit);
+            case WEEKLY -> getWeeklyTopProducts(limit);
+            case ROLLING_24H -> getTopProducts(ROLLING_24H_RANKING_KEY, limit);
+            case ROLLING_7D -> getTopProducts(ROLLING_7D_RANKING_KEY, limit);
+        };
+    }
+
+    /**
+     * 카테고리별 인기상품 TOP N 조회 (ZREVRANGE 1회)
+     * - 카테고리 랭킹은 달력 기준 일별/주간만 유지
+     *
+     * @throws ProductException 감쇠 랭킹 타입(rolling24h, rolling7d)인 경우
+     */
+    public List<Long> getTopProducts(RankingType type, Long categoryId, int limit) {
+        LocalDate today = LocalDate.now();
+        return switch (type) {
+            case DAILY -> getTopProducts(categoryDailyKey(categoryId, today), limit);
+            case WEEKLY -> getTopProducts(categoryWeeklyKey(categoryId, today), limit);
+            case ROLLING_24H, ROLLING_7D ->
+                    throw new ProductException(ErrorCode.PRODUCT_RANKING_CATEGORY_TYPE_NOT_SUPPORTED);
+        };
+    }
+
+    /**
+     * 해당 일자 일별 랭킹 상위 N개 점수 조회 (ZREVRANGE WITHSCORES 1회)
+     * RankingHistoryService.java 에서 사용 (일별 랭킹 아카이빙)
+     *
+     * @return 상품 ID → 점수 (순위 순서)
+     */
+    public Map<Long, Double> getDailyScores(LocalDate day, int limit) {
+        Set<ZSetOperations.TypedTuple<String>> result =
+                redisTemplate.opsForZSet().reverseRangeWithScores(dailyKey(day), 0, limit - 1);
+
+        Map<Long, Double> scores = new LinkedHashMap<>();
+        if (result == null) {
+            return scores;
         }
+
+        for (ZSetOperations.TypedTuple<String> tuple : result) {
+            scores.put(Long.parseLong(tuple.getValue()), tuple.getScore());
+        }
+        return scores;
+    }
+
+    private List<Long> getTopProducts(String key, int limit) {
+        Set<String> result = redisTemplate.opsForZSet().reverseRange(key, 0, limit - 1);
+
+        if (result == null) {
+            return List.of();
+        }
+
+        return result.stream()
+                .map(Long::parseLong)
+                .toList();
+    }
+
+    private String dailyKey(LocalDate day) {
+        return DAILY_RANKING_PREFIX + daySuffix(day);
+    }
+
+    private String weeklyKey(LocalDate day) {
+        return WEEKLY_RANKING_PREFIX + weekSuffix(day);
+    }
+
+    private String categoryDailyKey(Long categoryId, LocalDate day) {
+        return CATEGORY_DAILY_RANKING_PREFIX + categoryId + ":" + daySuffix(day);
+    }
+
+    private String categoryWeeklyKey(Long categoryId, LocalDate day) {
+        return CATEGORY_WEEKLY_RANKING_PREFIX + categoryId + ":" + weekSuffix(day);
     }
 
     /**
-     * redis Zset에 주간 점수 증가
+     * 상품의 카테고리 일별/주간 랭킹 키를 스크립트 KEYS에 추가
+     *
+     * @return 추가한 키 수 (카테고리 매핑이 없으면 0)
      */
-    public void incrementWeeklyScore(String weeklyKey, Long productId, Double score) {
-        redisTemplate.opsForZSet().incrementScore(
-                weeklyKey,
-                productId.toString(),
-                score
-        );
+    private int addCategoryKeys(List<String> keys, Long categoryId, LocalDate day) {
+        if (categoryId == null) {
+            return 0;
+        }
+        keys.add(categoryDailyKey(categoryId, day));
+        keys.add(categoryWeeklyKey(categoryId, day));
+        return 2;
+    }
 
-        // TTL이 없으면 설정 (이미 있으면 유지)
-        Long ttl = redisTemplate.getExpire(weeklyKey);
-        // ZINCRBY는 멤버가 없으면 자동으로 추가하지만 TTL을 따로 설정해줘야 한다.
-        // weeklyKey TTL 설정 (4주 후 자동 삭제)
-        if (ttl == null || ttl == -1) { // -1은 TTL이 설정되지 않음을 의미
-            redisTemplate.expire(weeklyKey, Duration.ofDays(28));
+    private String uniqueViewersKey(LocalDate day, Long productId) {
+        return UNIQUE_VIEWERS_PREFIX + daySuffix(day) + ":" + productId;
+    }
+
+    private String daySuffix(LocalDate day) {
+        return day.toString().replace("-", "");  // YYYYMMDD
+    }
+
+    private String weekSuffix(LocalDate day) {
+        return day.getYear() + "-W" + day.get(WeekFields.ISO.weekOfYear());
+    }
+
+    private String hourlyKey(LocalDateTime at) {
+        return HOURLY_RANKING_PREFIX + at.format(HOURLY_FORMAT);
+    }
+
+    /**
+     * 상품 카테고리 등록 (이후 판매/조회 점수가 카테고리 랭킹에도 반영)
+     * ProductCategoryEventListener.java 에서 사용 (상품 등록 커밋 후)
+     */
+    public void registerProductCategory(Long productId, Long categoryId) {
+        redisTemplate.opsForHash().put(PRODUCT_CATEGORY_KEY, productId.toString(), categoryId.toString());
+    }
+
+    /**
+     * 상품 카테고리 일괄 등록 (HSET 1회)
+     * ProductCategoryWarmer.java 에서 사용
+     *
+     * @param categoryIds 상품 ID → 카테고리 ID
+     */
+    public void registerProductCategories(Map<Long, Long> categoryIds) {
+        if (categoryIds.isEmpty()) {
+            return;
         }
+
+        Map<String, String> entries = new HashMap<>(categoryIds.size() * 2);
+        categoryIds.forEach((productId, categoryId) -> entries.put(productId.toString(), categoryId.toString()));
+        redisTemplate.opsForHash().putAll(PRODUCT_CATEGORY_KEY, entries);
+    }
+
+    /**
+     * 상품 카테고리 일괄 조회 (HMGET 1회)
+     *
+     * @return 상품 ID → 카테고리 ID (매핑이 없는 상품은 제외)
+     */
+    public Map<Long, Long> getProductCategories(Collection<Long> productIds) {
+        List<Object> fields = productIds.stream()
+                .map(productId -> (Object) productId.toString())
+                .toList();
+        List<Object> values = redisTemplate.opsForHash().multiGet(PRODUCT_CATEGORY_KEY, fields);
+
+        Map<Long, Long> categoryIds = new HashMap<>();
+        int i = 0;
+        for (Long productId : productIds) {
+            Object categoryId = values.get(i++);
+            if (categoryId != null) {
+                categoryIds.put(productId, Long.parseLong(categoryId.toString()));
+            }
+        }
+        return categoryIds;
+    }
+
+    /**
+     * 상품 카테고리 변경
+     * - 기존 카테고리의 현재 일별/주간 랭킹에서 제거 후 새 카테고리로 매핑
+     * - 새 카테고리 랭킹 점수는 이후 판매/조회부터 누적
+     */
+    public void changeProductCategory(Long productId, Long oldCategoryId, Long newCategoryId) {
+        LocalDate today = LocalDate.now();
+        redisTemplate.opsForZSet().remove(categoryDailyKey(oldCategoryId, today), productId.toString());
+        redisTemplate.opsForZSet().remove(categoryWeeklyKey(oldCategoryId, today), productId.toString());
+        registerProductCategory(productId, newCategoryId);
     }
 
     /**
@@ -218,6 +639,8 @@ public class RedisRankingService {
     /**
      * 상품을 모든 랭킹에서 제거 (상품 비활성화/삭제 시)
      * - 현재 날짜/주차의 랭킹에서만 제거
+     * - 최근 7일 시간별 버킷과 감쇠 랭킹에서도 제거 (다음 재구성 때 다시 나타나지 않도록, 파이프라인 1회)
+     * - 카테고리 매핑이 있으면 카테고리 일별/주간 랭킹에서도 제거 (매핑은 재활성화에 대비해 유지)
      * - 과거 랭킹은 TTL로 자동 삭제
      */
     public void removeFromRanking(Long productId) {
@@ -231,6 +654,24 @@ public class RedisRankingService {
         Long dailyRemoved = redisTemplate.opsForZSet().remove(dailyKey, productId.toString());
         Long weeklyRemoved = redisTemplate.opsForZSet().remove(weeklyKey, productId.toString());
 
+        Object categoryId = redisTemplate.opsForHash().get(PRODUCT_CATEGORY_KEY, productId.toString());
+        if (categoryId != null) {
+            Long category = Long.parseLong(categoryId.toString());
+            redisTemplate.opsForZSet().remove(categoryDailyKey(category, today), productId.toString());
+            redisTemplate.opsForZSet().remove(categoryWeeklyKey(category, today), productId.toString());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        byte[] member = productId.toString().getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int age = 0; age < ROLLING_7D_BUCKETS; age++) {
+                connection.zSetCommands().zRem(hourlyKey(now.minusHours(age)).getBytes(StandardCharsets.UTF_8), member);
+            }
+            connection.zSetCommands().zRem(ROLLING_24H_RANKING_KEY.getBytes(StandardCharsets.UTF_8), member);
+            connection.zSetCommands().zRem(ROLLING_7D_RANKING_KEY.getBytes(StandardCharsets.UTF_8), member);
+            return null;
+        });
+
         log.info("상품을 랭킹에서 제거 - productId: {}, daily: {}, weekly: {}",
                 productId, dailyRemoved > 0 ? "제거됨" : "없음", weeklyRemoved > 0 ? "제거됨" : "없음");
     }
@@ -0,0 +1,577 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.service;
+
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ProductException;
+import io.hhplus.ECommerce.ECommerce_project.common.redis.RedisScriptRegistry;
+import io.hhplus.ECommerce.ECommerce_project.common.stream.EventStreams;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static io.hhplus.ECommerce.ECommerce_project.product.application.service.RedisStockService.DIRTY_KEY;
+import static io.hhplus.ECommerce.ECommerce_project.product.application.service.RedisStockService.STOCK_KEY_PREFIX;
+import static io.hhplus.ECommerce.ECommerce_project.product.application.service.RedisStockService.XADD_STOCK_EVENT_FUNCTION;
+
+/**
+ * Redis 재고 홀드 서비스
+ * - 주문 생성 시 재고를 영구 차감하지 않고, 만료 시각이 있는 홀드로 확보
+ * - 결제 시 홀드 만료 시각을 연장해 두고(결제 중 스윕 방지), 결제 커밋 후 판매로 확정 (재고는 이미 차감되어 있으므로 홀드만 제거)
+ * - 결제되지 않은 홀드는 만료 즉시 스윕 스크립트가 원자적으로 재고 복구
+ *   → 주문 만료 스케줄러의 주문별 DB 보상 트랜잭션 없이 수 초 안에 재고가 판매 가능 상태로 복귀
+ *
+ * 키 구조:
+ * - stock:holds (ZSET): member = 홀드 ID, score = 만료 시각(ms)
+ * - stock:hold:{홀드 ID} (HASH): 상품 ID → 수량
+ *
+ * 홀드 ID:
+ * - pending:{UUID}: 재고 확보 직후 (주문 ID 생성 전)
+ * - order:{주문 ID}: 주문 생성 완료 후 bindToOrder()로 전환
+ *
+ * 키 전달:
+ * - 스크립트가 다루는 키는 모두 클라이언트가 만들어 KEYS로 전달 (스크립트 안에서 키를 만들지 않음)
+ * - 홀드 HASH 내용(상품 ID → 수량)은 생성 후 바뀌지 않으므로, 해제 시에는 먼저 상품 ID를 읽어 재고 키를 전달
+ * - 장바구니 확보는 여러 상품 재고를 한 번에 All-or-Nothing 처리해야 하므로 단일 Redis 인스턴스(같은 노드) 전제
+ *
+ * DB 동기화:
+ * - 재고를 바꾸는 확보/해제 스크립트가 재고 차감/증가 이벤트를 스트림에 직접 기록 (XADD)
+ * - 재고 변경과 이벤트 기록이 하나의 스크립트 → 중간에 노드가 죽어도 DB가 따라가지 못하는 재고 변경이 없음
+ */
+@Slf4j
+@Service
+public class RedisStockHoldService {
+
+    private static final String HOLDS_KEY = "stock:holds";
+    private static final String HOLD_KEY_PREFIX = "stock:hold:";
+    private static final String ADOPTED_HOLDS_KEY = "stock:hold:adopted";
+    private static final String PENDING_HOLD_PREFIX = "pending:";
+    private static final String ORDER_HOLD_PREFIX = "order:";
+
+    /**
+     * Lua Script: 여러 상품 재고 일괄 확보 (All-or-Nothing) + 홀드 생성
+     * - 모든 상품의 재고를 먼저 확인한 뒤, 전부 충분할 때만 차감
+     * - 하나라도 부족하면 아무것도 차감하지 않고 부족한 상품의 인덱스(1부터 시작) 목록 반환
+     * - 장바구니 주문 1건 = Redis 왕복 1회
+     *
+     * KEYS[1..n]: stock:product:{productId}, KEYS[n+1]: Dirty Set, KEYS[n+2]: 홀드 ZSET, KEYS[n+3]: 홀드 HASH,
+     * KEYS[n+4]: 재고 차감 스트림
+     * ARGV[1..n]: 차감할 수량, ARGV[n+1]: 홀드 유효 시간(ms), ARGV[n+2]: 홀드 ID
+     *
+     * 반환값: [부족 목록, 품절 목록]
+     * - 부족 목록이 빈 배열: 전체 확보 성공
+     * - 부족 목록 [i, j, ...]: 재고가 부족한 KEYS 인덱스 목록
+     * - 품절 목록: 재고가 0인(차감 후 0이 된) KEYS 인덱스 목록 → 품절 로컬 캐시에 표시
+     */
+    private static final RedisScript<List> RESERVE_SCRIPT = RedisScript.of(
+            XADD_STOCK_EVENT_FUNCTION + """
+            local count = #KEYS - 4
+            local shortages = {}
+            local soldOut = {}
+            for i = 1, count do
+                local current = tonumber(redis.call('GET', KEYS[i]) or '0')
+                if current < tonumber(ARGV[i]) then
+                    table.insert(shortages, i)
+                    if current <= 0 then
+                        table.insert(soldOut, i)
+                    end
+                elseif current == tonumber(ARGV[i]) then
+                    table.insert(soldOut, i)
+                end
+            end
+
+            if #shortages > 0 then
+                return {shortages, soldOut}
+            end
+
+            local time = redis.call('TIME')
+            local now = time[1] * 1000 + math.floor(time[2] / 1000)
+            for i = 1, count do
+                local productId = string.match(KEYS[i], '(%d+)$')
+                redis.call('DECRBY', KEYS[i], ARGV[i])
+                redis.call('ZADD', KEYS[count + 1], now, productId)
+                redis.call('HINCRBY', KEYS[count + 3], productId, ARGV[i])
+                xaddStockEvent(KEYS[count + 4], 'StockDecreasedEvent', productId, ARGV[i])
+            end
+            redis.call('ZADD', KEYS[count + 2], now + tonumber(ARGV[count + 1]), ARGV[count + 2])
+            return {{}, soldOut}
+            """,
+            List.class
+    );
+
+    /**
+     * Lua Script: 홀드를 주문에 연결 (pending:{UUID} → order:{주문 ID})
+     * - 만료 시각을 주문 생성 시점 기준으로 갱신
+     *
+     * KEYS[1]: 홀드 ZSET, KEYS[2]: pending 홀드 HASH, KEYS[3]: 주문 홀드 HASH
+     * ARGV[1]: pending 홀드 ID, ARGV[2]: 주문 홀드 ID, ARGV[3]: 홀드 유효 시간(ms)
+     *
+     * 반환값: 1 = 연결 성공, 0 = 이미 만료되어 해제됨
+     */
+    private static final RedisScript<Long> BIND_SCRIPT = RedisScript.of(
+            """
+            if not redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+                return 0
+            end
+
+            local time = redis.call('TIME')
+            local now = time[1] * 1000 + math.floor(time[2] / 1000)
+            redis.call('RENAME', KEYS[2], KEYS[3])
+            redis.call('ZREM', KEYS[1], ARGV[1])
+            redis.call('ZADD', KEYS[1], now + tonumber(ARGV[3]), ARGV[2])
+            return 1
+            """,
+            Long.class
+    );
+
+    /**
+     * Lua Script: 판매 확정 대기 (결제 트랜잭션 동안 만료 스윕 대상에서 제외)
+     * - 홀드가 있으면 만료 시각을 현재 + 확정 대기 시간으로 변경
+     * - 확정(홀드 제거)은 결제 커밋 후 CONFIRM_SCRIPT, 롤백되면 보상 또는 변경된 만료 시각에 스윕
+     *
+     * KEYS[1]: 홀드 ZSET
+     * ARGV[1]: 홀드 ID, ARGV[2]: 확정 대기 시간(ms)
+     *
+     * 반환값: 1 = 홀드 있음, 0 = 홀드 없음 (만료되어 해제됨)
+     */
+    private static final RedisScript<Long> PREPARE_CONFIRM_SCRIPT = RedisScript.of(
+            """
+            if not redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+                return 0
+            end
+
+            local time = redis.call('TIME')
+            local now = time[1] * 1000 + math.floor(time[2] / 1000)
+            redis.call('ZADD', KEYS[1], 'XX', now + tonumber(ARGV[2]), ARGV[1])
+            return 1
+            """,
+            Long.class
+    );
+
+    /**
+     * Lua Script: 홀드 → 판매 확정 (홀드만 제거, 재고는 그대로)
+     *
+     * KEYS[1]: 홀드 ZSET, KEYS[2]: 홀드 HASH
+     * ARGV[1]: 홀드 ID
+     *
+     * 반환값: 1 = 확정 성공, 0 = 홀드 없음 (만료되어 해제됨)
+     */
+    private static final RedisScript<Long> CONFIRM_SCRIPT = RedisScript.of(
+            """
+            if redis.call('ZREM', KEYS[1], ARGV[1]) == 0 then
+                return 0
+            end
+            redis.call('DEL', KEYS[2])
+            return 1
+            """,
+            Long.class
+    );
+
+    /**
+     * Lua Script: 홀드 해제 (재고 복구) - 주문 생성 실패/취소, 만료 스윕 공용
+     * - ZSET에 남아있는 홀드만 복구 후 ZREM → 스윕/취소가 겹쳐도 중복 복구 없음
+     * - 만료 스윕은 만료 시각이 지난 홀드만 해제 (조회 후 결제 확정 대기로 연장된 홀드는 건너뜀)
+     * - 홀드의 상품 중 재고 키가 전달되지 않은 상품이 있으면 그 홀드는 건너뜀 (다음 호출에서 다시 조회)
+     *
+     * KEYS[1]: 홀드 ZSET, KEYS[2]: Dirty Set, KEYS[3]: 재고 증가 스트림, 이어서 홀드마다 [홀드 HASH, 상품별 재고 키...]
+     * ARGV[1]: 만료된 홀드만 해제 (1/0), 이어서 홀드마다 [홀드 ID, 상품 수, 상품 ID...]
+     *
+     * 반환값: [상품 ID, 수량, 상품 ID, 수량, ...] (해제한 홀드가 없으면 빈 배열)
+     */
+    private static final RedisScript<List> RELEASE_SCRIPT = RedisScript.of(
+            XADD_STOCK_EVENT_FUNCTION + """
+            local time = redis.call('TIME')
+            local now = time[1] * 1000 + math.floor(time[2] / 1000)
+            local expiredOnly = ARGV[1] == '1'
+
+            local released = {}
+            local nextKey = 4
+            local nextArg = 2
+            while nextArg <= #ARGV do
+                local holdId = ARGV[nextArg]
+                local productCount = tonumber(ARGV[nextArg + 1])
+                local holdKey = KEYS[nextKey]
+                local stockKeys = {}
+                for p = 1, productCount do
+                    stockKeys[ARGV[nextArg + 1 + p]] = KEYS[nextKey + p]
+                end
+                nextArg = nextArg + 2 + productCount
+                nextKey = nextKey + 1 + productCount
+
+                local expiresAt = redis.call('ZSCORE', KEYS[1], holdId)
+                if expiresAt and (not expiredOnly or tonumber(expiresAt) <= now) then
+                    local items = redis.call('HGETALL', holdKey)
+                    local covered = true
+                    for i = 1, #items, 2 do
+                        if not stockKeys[items[i]] then
+                            covered = false
+                        end
+                    end
+
+                    if covered then
+                        for i = 1, #items, 2 do
+                            redis.call('INCRBY', stockKeys[items[i]], items[i + 1])
+                            redis.call('ZADD', KEYS[2], now, items[i])
+                            xaddStockEvent(KEYS[3], 'StockIncreasedEvent', items[i], items[i + 1])
+                            table.insert(released, items[i])
+                            table.insert(released, items[i + 1])
+                        end
+                        redis.call('DEL', holdKey)
+                        redis.call('ZREM', KEYS[1], holdId)
+                    end
+                end
+            end
+            return released
+            """,
+            List.class
+    );
+
+    /**
+     * Lua Script: 홀드 도입 전 주문을 주문 홀드로 등록 (재고는 그대로)
+     * - 홀드 도입 전 주문은 주문 생성 시 재고가 이미 영구 차감됨 → 재고/스트림은 건드리지 않고 홀드만 생성
+     * - 한 번 등록한 주문은 등록 이력(SET)에 남겨 재기동 시 다시 등록하지 않음 (해제된 홀드 재생성 → 중복 복구 방지)
+     *
+     * KEYS[1]: 홀드 ZSET, KEYS[2]: 주문 홀드 HASH, KEYS[3]: 등록 이력 SET
+     * ARGV[1]: 주문 홀드 ID, ARGV[2]: 만료 시각(ms), 이어서 [상품 ID, 수량] 반복
+     *
+     * 반환값: 1 = 등록, 0 = 이미 등록했거나 홀드가 있음
+     */
+    private static final RedisScript<Long> ADOPT_SCRIPT = RedisScript.of(
+            """
+            if redis.call('SADD', KEYS[3], ARGV[1]) == 0 or redis.call('EXISTS', KEYS[2]) == 1 then
+                return 0
+            end
+
+            for i = 3, #ARGV, 2 do
+                redis.call('HINCRBY', KEYS[2], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('ZADD', KEYS[1], 'NX', ARGV[2], ARGV[1])
+            return 1
+            """,
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScriptRegistry redisScriptRegistry;
+    private final SoldOutStockCache soldOutStockCache;
+    private final long holdTtlMillis;
+    private final long confirmGraceMillis;
+
+    public RedisStockHoldService(
+            RedisTemplate<String, String> redisTemplate,
+            RedisScriptRegistry redisScriptRegistry,
+            SoldOutStockCache soldOutStockCache,
+            @Value("${stock.hold.ttl-ms:900000}") long holdTtlMillis,
+            @Value("${stock.hold.confirm-grace-ms:60000}") long confirmGraceMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.redisScriptRegistry = redisScriptRegistry;
+        this.soldOutStockCache = soldOutStockCache;
+        this.holdTtlMillis = holdTtlMillis;
+        this.confirmGraceMillis = confirmGraceMillis;
+    }
+
+    /**
+     * 재고 홀드 스크립트 등록 (기동 시 SCRIPT LOAD 대상)
+     */
+    @PostConstruct
+    void registerScripts() {
+        redisScriptRegistry.register("stock:hold:reserve", RESERVE_SCRIPT);
+        redisScriptRegistry.register("stock:hold:bind", BIND_SCRIPT);
+        redisScriptRegistry.register("stock:hold:prepare-confirm", PREPARE_CONFIRM_SCRIPT);
+        redisScriptRegistry.register("stock:hold:confirm", CONFIRM_SCRIPT);
+        redisScriptRegistry.register("stock:hold:release", RELEASE_SCRIPT);
+        redisScriptRegistry.register("stock:hold:adopt", ADOPT_SCRIPT);
+    }
+
+    /**
+     * 홀드 유효 시간(ms)
+     */
+    public long getHoldTtlMillis() {
+        return holdTtlMillis;
+    }
+
+    /**
+     * 여러 상품 재고 확보 (원자적, All-or-Nothing)
+     * - 한 상품이라도 재고가 부족하면 어떤 상품도 차감되지 않음
+     *
+     * @param entries (상품 ID, 수량) 목록
+     * @return 홀드 ID (주문 생성 후 bindToOrder()로 주문에 연결)
+     * @throws ProductException 재고 부족 시 (부족한 상품 ID 목록을 메시지에 포함)
+     */
+    public String reserve(List<Map.Entry<Long, Integer>> entries) {
+        // 품절 표시된 상품이 있으면 Redis 호출 없이 즉시 실패
+        List<Long> soldOutProductIds = entries.stream()
+                .map(Map.Entry::getKey)
+                .filter(soldOutStockCache::isSoldOut)
+                .toList();
+        if (!soldOutProductIds.isEmpty()) {
+            log.debug("품절 캐시 적중: productIds={}", soldOutProductIds);
+            throw new ProductException(ErrorCode.PRODUCT_OUT_OF_STOCK,
+                    "재고가 부족한 상품: " + soldOutProductIds);
+        }
+
+        String holdId = PENDING_HOLD_PREFIX + UUID.randomUUID();
+
+        List<String> keys = new ArrayList<>(entries.size() + 4);
+        List<String> args = new ArrayList<>(entries.size() + 2);
+        for (Map.Entry<Long, Integer> entry : entries) {
+            keys.add(STOCK_KEY_PREFIX + entry.getKey());
+            args.add(entry.getValue().toString());
+        }
+        keys.add(DIRTY_KEY);
+        keys.add(HOLDS_KEY);
+        keys.add(HOLD_KEY_PREFIX + holdId);
+        keys.add(EventStreams.STOCK_DECREASED);
+        args.add(String.valueOf(holdTtlMillis));
+        args.add(holdId);
+
+        List<?> result;
+        try {
+            // Lua Script 1회 실행으로 전체 상품 검증 + 차감 + 홀드 생성 + 재고 차감 이벤트 기록
+            result = redisScriptRegistry.execute(RESERVE_SCRIPT, keys, args.toArray());
+        } catch (Exception e) {
+            log.error("Redis 재고 확보 실패: entries={}", entries, e);
+            throw new ProductException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+
+        if (result == null || result.size() != 2) {
+            log.error("Redis 재고 확보 결과 없음: entries={}", entries);
+            throw new ProductException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+
+        // 재고가 0인 상품은 품절 표시 (이후 주문은 Redis 호출 없이 실패)
+        soldOutStockCache.markSoldOut(toProductIds(entries, (List<?>) result.get(1)));
+
+        List<?> shortages = (List<?>) result.get(0);
+        if (!shortages.isEmpty()) {
+            List<Long> shortProductIds = toProductIds(entries, shortages);
+
+            log.warn("재고 부족: productIds={}, 요청={}", shortProductIds, entries);
+            throw new ProductException(ErrorCode.PRODUCT_OUT_OF_STOCK,
+                    "재고가 부족한 상품: " + shortProductIds);
+        }
+
+        log.debug("재고 확보 성공: holdId={}, entries={}", holdId, entries);
+        return holdId;
+    }
+
+    /**
+     * 홀드를 주문에 연결
+     *
+     * @param holdId reserve()가 반환한 홀드 ID
+     * @param orderId 주문 ID
+     * @return 연결 성공 여부 (false면 홀드가 이미 만료되어 재고가 복구된 상태)
+     */
+    public boolean bindToOrder(String holdId, Long orderId) {
+        String orderHoldId = ORDER_HOLD_PREFIX + orderId;
+
+        Long result = redisScriptRegistry.execute(
+                BIND_SCRIPT,
+                List.of(HOLDS_KEY, HOLD_KEY_PREFIX + holdId, HOLD_KEY_PREFIX + orderHoldId),
+                holdId,
+                orderHoldId,
+                String.valueOf(holdTtlMillis)
+        );
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 주문 홀드 판매 확정 대기 (결제 트랜잭션 시작 시)
+     * - 결제가 끝나기 전에 만료 스윕이 재고를 복구하지 않도록 만료 시각을 확정 대기 시간만큼 뒤로 미룸
+     *
+     * @param orderId 주문 ID
+     * @return 홀드 존재 여부 (false면 이미 만료되어 재고가 복구된 주문)
+     */
+    public boolean prepareConfirm(Long orderId) {
+        String orderHoldId = ORDER_HOLD_PREFIX + orderId;
+
+        Long result = redisScriptRegistry.execute(
+                PREPARE_CONFIRM_SCRIPT,
+                List.of(HOLDS_KEY),
+                orderHoldId,
+                String.valueOf(confirmGraceMillis)
+        );
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 주문 홀드 → 판매 확정 (결제 커밋 후)
+     *
+     * @param orderId 주문 ID
+     * @return 확정 성공 여부 (false면 홀드 없음)
+     */
+    public boolean confirmOrder(Long orderId) {
+        String orderHoldId = ORDER_HOLD_PREFIX + orderId;
+
+        Long result = redisScriptRegistry.execute(
+                CONFIRM_SCRIPT,
+                List.of(HOLDS_KEY, HOLD_KEY_PREFIX + orderHoldId),
+                orderHoldId
+        );
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 홀드 도입 전 주문을 주문 홀드로 등록 (재고 차감 없음)
+     * - 이후 결제/취소/만료는 다른 주문과 같은 홀드 경로로 처리
+     *
+     * @param orderId 주문 ID
+     * @param entries 주문 (상품 ID, 수량) 목록
+     * @param expiresAtMillis 홀드 만료 시각(ms)
+     * @return 등록 여부 (false면 이미 등록된 주문)
+     */
+    public boolean adoptOrder(Long orderId, List<Map.Entry<Long, Integer>> entries, long expiresAtMillis) {
+        String orderHoldId = ORDER_HOLD_PREFIX + orderId;
+
+        List<String> args = new ArrayList<>(entries.size() * 2 + 2);
+        args.add(orderHoldId);
+        args.add(String.valueOf(expiresAtMillis));
+        for (Map.Entry<Long, Integer> entry : entries) {
+            args.add(entry.getKey().toString());
+            args.add(entry.getValue().toString());
+        }
+
+        Long result = redisScriptRegistry.execute(
+                ADOPT_SCRIPT,
+                List.of(HOLDS_KEY, HOLD_KEY_PREFIX + orderHoldId, ADOPTED_HOLDS_KEY),
+                args.toArray()
+        );
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 홀드 해제 (주문 생성 실패 시)
+     *
+     * @param holdId reserve()가 반환한 홀드 ID
+     * @return 복구된 (상품 ID, 수량) 목록 (이미 해제된 경우 빈 목록)
+     */
+    public List<Map.Entry<Long, Integer>> release(String holdId) {
+        return releaseHolds(List.of(holdId), false);
+    }
+
+    /**
+     * 주문 홀드 해제 (결제 전 주문 취소/만료 시)
+     *
+     * @param orderId 주문 ID
+     * @return 복구된 (상품 ID, 수량) 목록 (이미 해제/확정된 경우 빈 목록)
+     */
+    public List<Map.Entry<Long, Integer>> releaseOrder(Long orderId) {
+        return release(ORDER_HOLD_PREFIX + orderId);
+    }
+
+    /**
+     * 만료된 홀드 일괄 해제
+     * - 만료 후보 조회(ZRANGEBYSCORE) → 홀드별 상품 ID 조회(파이프라인) → 해제 스크립트 1회
+     * - 만료 여부는 스크립트가 Redis 시각으로 다시 확인
+     *
+     * @param limit 1회 최대 해제 홀드 수
+     * @return 복구된 (상품 ID, 수량) 목록
+     */
+    public List<Map.Entry<Long, Integer>> releaseExpired(int limit) {
+        Set<String> holdIds = redisTemplate.opsForZSet()
+                .rangeByScore(HOLDS_KEY, Double.NEGATIVE_INFINITY, System.currentTimeMillis(), 0, limit);
+        if (holdIds == null || holdIds.isEmpty()) {
+            return List.of();
+        }
+        return releaseHolds(List.copyOf(holdIds), true);
+    }
+
+    /**
+     * 홀드 해제 스크립트 실행 (홀드별 상품 재고 키를 KEYS로 전달)
+     */
+    private List<Map.Entry<Long, Integer>> releaseHolds(List<String> holdIds, boolean expiredOnly) {
+        List<List<String>> holdProductIds = getHoldProductIds(holdIds);
+
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        keys.add(HOLDS_KEY);
+        keys.add(DIRTY_KEY);
+        keys.add(EventStreams.STOCK_INCREASED);
+        args.add(expiredOnly ? "1" : "0");
+        for (int i = 0; i < holdIds.size(); i++) {
+            List<String> productIds = holdProductIds.get(i);
+            keys.add(HOLD_KEY_PREFIX + holdIds.get(i));
+            args.add(holdIds.get(i));
+            args.add(String.valueOf(productIds.size()));
+            for (String productId : productIds) {
+                keys.add(STOCK_KEY_PREFIX + productId);
+                args.add(productId);
+            }
+        }
+
+        List<?> items = redisScriptRegistry.execute(RELEASE_SCRIPT, keys, args.toArray());
+        return invalidateSoldOut(toEntries(items));
+    }
+
+    /**
+     * 홀드별 상품 ID 조회 (HKEYS 파이프라인 1회, 홀드가 없으면 빈 목록)
+     */
+    private List<List<String>> getHoldProductIds(List<String> holdIds) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String holdId : holdIds) {
+                connection.hashCommands().hKeys((HOLD_KEY_PREFIX + holdId).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        List<List<String>> holdProductIds = new ArrayList<>(holdIds.size());
+        for (Object result : results) {
+            List<String> productIds = new ArrayList<>();
+            if (result instanceof Set<?> fields) {
+                fields.forEach(field -> productIds.add(String.valueOf(field)));
+            }
+            holdProductIds.add(productIds);
+        }
+        return holdProductIds;
+    }
+
+    /**
+     * 재고가 복구된 상품의 품절 표시 해제 (전체 노드)
+     */
+    private List<Map.Entry<Long, Integer>> invalidateSoldOut(List<Map.Entry<Long, Integer>> released) {
+        if (!released.isEmpty()) {
+            soldOutStockCache.invalidate(released.stream()
+                    .map(Map.Entry::getKey)
+                    .distinct()
+                    .toList());
+        }
+        return released;
+    }
+
+    /**
+     * Lua 배열 인덱스(1부터 시작) → 상품 ID
+     */
+    private List<Long> toProductIds(List<Map.Entry<Long, Integer>> entries, List<?> indexes) {
+        return indexes.stream()
+                .map(index -> entries.get(((Number) index).intValue() - 1).getKey())
+                .toList();
+    }
+
+    /**
+     * [상품 ID, 수량, 상품 ID, 수량, ...] → (상품 ID, 수량) 목록
+     */
+    private List<Map.Entry<Long, Integer>> toEntries(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            return List.of();
+        }
+
+        List<Map.Entry<Long, Integer>> entries = new ArrayList<>(items.size() / 2);
+        for (int i = 0; i + 1 < items.size(); i += 2) {
+            entries.add(Map.entry(
+                    Long.valueOf(String.valueOf(items.get(i))),
+                    Integer.valueOf(String.valueOf(items.get(i + 1)))
+            ));
+        }
+        return entries;
+    }
+}
@@ -2,18 +2,30 @@ package io.hhplus.ECommerce.ECommerce_project.product.application.service;
 
 import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
 import io.hhplus.ECommerce.ECommerce_project.common.exception.ProductException;
+import io.hhplus.ECommerce.ECommerce_project.common.redis.RedisScriptRegistry;
+import io.hhplus.ECommerce.ECommerce_project.common.stream.EventStreams;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Redis 기반 재고 관리 서비스
- * - Lua Script를 사용하여 원자적 재고 차감 보장
- * - 초당 1000건 이상 고트래픽 처리 가능
+ * - Lua Script를 사용하여 원자적 재고 증감 보장
+ * - 주문 재고 차감은 RedisStockHoldService (재고 홀드)에서 처리
+ * - 스크립트가 다루는 키는 모두 클라이언트가 만들어 KEYS로 전달 (스크립트 안에서 키를 만들지 않음)
+ * - DB 동기화 이벤트는 재고를 바꾸는 스크립트 안에서 스트림에 함께 기록 (재고 변경 후 XADD 전에 죽어도 이벤트 유실 없음)
  */
 @Slf4j
 @Service
@@ -21,67 +33,150 @@ import java.util.List;
 public class RedisStockService {
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScriptRegistry redisScriptRegistry;
+    private final SoldOutStockCache soldOutStockCache;
 
-    private static final String STOCK_KEY_PREFIX = "stock:product:";
+    static final String STOCK_KEY_PREFIX = "stock:product:";
 
     /**
-     * Lua Script: 원자적 재고 차감
-     * - Redis의 단일 명령으로 실행되어 원자성 보장
-     * - 락 없이도 동시성 안전
+     * 재고 변경 추적 (Dirty Set)
+     * - ZSET member: 상품 ID, score: 마지막 변경 시각(ms, Redis TIME 기준)
+     * - 재고를 바꾸는 Lua Script 안에서 함께 기록 → 추가 왕복 없음
+     * - StockSyncScheduler가 변경된 상품만 골라 정합성 검증
      */
-    private static final String DECREASE_STOCK_SCRIPT =
-            """
-            local key = KEYS[1]
-            local quantity = tonumber(ARGV[1])
-            local current = tonumber(redis.call('GET', key) or '0')
-
-            if current >= quantity then
-                redis.call('DECRBY', key, quantity)
-                return current - quantity
-            else
-                return -1
+    static final String DIRTY_KEY = "stock:dirty";
+
+    /**
+     * Dirty 추적 시작 표시 키
+     * - Redis 재시작/데이터 유실로 이 키가 사라지면 Dirty Set도 유실된 것으로 보고 전체 검증
+     */
+    private static final String DIRTY_TRACKING_KEY = "stock:dirty:tracking";
+
+    /**
+     * Lua 함수: 재고 변경 이벤트 스트림 기록 (XADD)
+     * - 메시지 형식은 EventStreamPublisher와 동일: { type: 이벤트 클래스명, payload: JSON }
+     * - payload는 StockDecreasedEvent / StockIncreasedEvent의 JSON 직렬화 결과와 같은 형태
+     * - 상품 ID는 cjson 숫자 변환 시 정밀도가 깨질 수 있어 문자열 그대로 이어 붙임
+     */
+    static final String XADD_STOCK_EVENT_FUNCTION = """
+            local function xaddStockEvent(stream, eventType, productId, quantity)
+                redis.call('XADD', stream, '*', 'type', eventType,
+                        'payload', '{"productId":' .. productId .. ',"quantity":' .. quantity .. '}')
             end
             """;
 
     /**
-     * 재고 차감 (원자적)
+     * Lua Script: 재고 증가
+     * - 스트림 키가 전달되면 재고 증가 이벤트를 같은 스크립트에서 기록 (보상 복구용)
      *
-     * @param productId 상품 ID
-     * @param quantity 차감할 수량
-     * @return 차감 후 남은 재고
-     * @throws ProductException 재고 부족 시
+     * KEYS[1]: stock:product:{productId}, KEYS[2]: Dirty Set, KEYS[3]: 재고 증가 스트림 (선택)
+     * ARGV[1]: 증가할 수량
      */
-    public Long decreaseStock(Long productId, Integer quantity) {
-        String key = STOCK_KEY_PREFIX + productId;
+    private static final RedisScript<Long> INCREASE_STOCK_SCRIPT = RedisScript.of(
+            XADD_STOCK_EVENT_FUNCTION + """
+            local productId = string.match(KEYS[1], '(%d+)$')
+            local stock = redis.call('INCRBY', KEYS[1], ARGV[1])
+            local time = redis.call('TIME')
+            redis.call('ZADD', KEYS[2], time[1] * 1000 + math.floor(time[2] / 1000), productId)
+            if KEYS[3] then
+                xaddStockEvent(KEYS[3], 'StockIncreasedEvent', productId, ARGV[1])
+            end
+            return stock
+            """,
+            Long.class
+    );
 
-        try {
-            // Lua Script 실행 (원자적 보장, 락 불필요!)
-            Long remaining = redisTemplate.execute(
-                    RedisScript.of(DECREASE_STOCK_SCRIPT, Long.class),
-                    List.of(key),
-                    quantity.toString()
-            );
+    /**
+     * Lua Script: 여러 상품 재고 초기 적재 (기동 시 워밍용)
+     * - 재고 키가 없는 상품만 설정 (SET NX)
+     * - 다른 노드가 이미 워밍했거나 워밍 중 주문/복구로 바뀐 재고를 조회 시점의 DB 값으로 덮어쓰지 않음
+     *
+     * KEYS[1..n]: stock:product:{productId}
+     * ARGV[1..n]: 설정할 재고
+     * 반환값: 설정한 상품 수
+     */
+    private static final RedisScript<Long> INITIALIZE_STOCKS_SCRIPT = RedisScript.of(
+            """
+            local initialized = 0
+            for i = 1, #KEYS do
+                if redis.call('SET', KEYS[i], ARGV[i], 'NX') then
+                    initialized = initialized + 1
+                end
+            end
+            return initialized
+            """,
+            Long.class
+    );
 
-            if (remaining == null || remaining == -1) {
-                log.warn("재고 부족: productId={}, 요청수량={}", productId, quantity);
-                throw new ProductException(ErrorCode.PRODUCT_OUT_OF_STOCK);
-            }
+    /**
+     * Lua Script: 여러 상품 재고 조건부 복구 (정합성 검증용)
+     * - 조회 후 재고가 그대로이고 settle-ms 안에 변경되지 않은 상품만 설정 (Compare-And-Set)
+     * - 비교 중 주문/복구로 바뀐 재고를 이전 DB 값으로 덮어쓰지 않음
+     *
+     * KEYS[1..n]: stock:product:{productId}, KEYS[n+1]: Dirty Set
+     * ARGV[1]: settle-ms, ARGV[2i], ARGV[2i+1]: 조회한 재고(없으면 -1), 설정할 재고
+     * 반환값: 상품별 설정 여부 (1/0)
+     */
+    private static final RedisScript<List> REPAIR_STOCKS_SCRIPT = RedisScript.of(
+            """
+            local count = #KEYS - 1
+            local dirtyKey = KEYS[count + 1]
+            local time = redis.call('TIME')
+            local settledBefore = time[1] * 1000 + math.floor(time[2] / 1000) - tonumber(ARGV[1])
 
-            log.debug("재고 차감 성공: productId={}, 차감수량={}, 남은재고={}",
-                    productId, quantity, remaining);
+            local results = {}
+            for i = 1, count do
+                local current = redis.call('GET', KEYS[i])
+                local stock = current and tonumber(current) or -1
+                local changedAt = tonumber(redis.call('ZSCORE', dirtyKey, string.match(KEYS[i], '(%d+)$')) or '0')
 
-            return remaining;
+                if stock == tonumber(ARGV[i * 2]) and changedAt <= settledBefore then
+                    redis.call('SET', KEYS[i], ARGV[i * 2 + 1])
+                    results[i] = 1
+                else
+                    results[i] = 0
+                end
+            end
+            return results
+            """,
+            List.class
+    );
 
-        } catch (ProductException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("Redis 재고 차감 실패: productId={}", productId, e);
-            throw new ProductException(ErrorCode.INTERNAL_SERVER_ERROR);
-        }
+    /**
+     * Lua Script: 변경 후 안정화된 Dirty 상품 꺼내기 (조회 + 삭제 원자적)
+     * - 마지막 변경 후 settle-ms가 지난 상품만 꺼냄 (Write-Behind로 DB 반영이 끝났을 시점)
+     * - 방금 변경된 상품은 다음 주기로 미룸 → 아직 반영 전인 DB 값으로 Redis를 덮어쓰지 않음
+     *
+     * KEYS[1]: Dirty Set
+     * ARGV[1]: settle-ms, ARGV[2]: 최대 개수
+     */
+    private static final RedisScript<List> TAKE_DIRTY_SCRIPT = RedisScript.of(
+            """
+            local time = redis.call('TIME')
+            local maxScore = time[1] * 1000 + math.floor(time[2] / 1000) - tonumber(ARGV[1])
+            local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', maxScore, 'LIMIT', 0, tonumber(ARGV[2]))
+            if #ids > 0 then
+                redis.call('ZREM', KEYS[1], unpack(ids))
+            end
+            return ids
+            """,
+            List.class
+    );
+
+    /**
+     * 재고 스크립트 등록 (기동 시 SCRIPT LOAD 대상)
+     */
+    @PostConstruct
+    void registerScripts() {
+        redisScriptRegistry.register("stock:increase", INCREASE_STOCK_SCRIPT);
+        redisScriptRegistry.register("stock:initialize-multi", INITIALIZE_STOCKS_SCRIPT);
+        redisScriptRegistry.register("stock:repair-multi", REPAIR_STOCKS_SCRIPT);
+        redisScriptRegistry.register("stock:take-dirty", TAKE_DIRTY_SCRIPT);
     }
 
     /**
-     * 재고 증가 (보상 트랜잭션용)
+     * 재고 증가 (DB에 이미 반영된 복구용)
+     * CancelOrderUseCase.java 에서 사용 (DB 재고를 먼저 복구했으므로 DB 동기화 이벤트 없음)
      *
      * @param productId 상품 ID
      * @param quantity 증가할 수량
@@ -89,13 +184,36 @@ public class RedisStockService {
      */
     public Long increaseStock(Long productId, Integer quantity) {
         String key = STOCK_KEY_PREFIX + productId;
+        return increase(productId, quantity, List.of(key, DIRTY_KEY));
+    }
 
+    /**
+     * 재고 복구 + DB 동기화 이벤트 기록 (Lua Script 1회, 보상 트랜잭션용)
+     * - 재고 증가와 스트림 기록(XADD)이 원자적 → 둘 중 하나만 반영되는 경우 없음
+     *
+     * @param productId 상품 ID
+     * @param quantity 증가할 수량
+     * @return 증가 후 재고
+     */
+    public Long compensateStock(Long productId, Integer quantity) {
+        String key = STOCK_KEY_PREFIX + productId;
+        return increase(productId, quantity, List.of(key, DIRTY_KEY, EventStreams.STOCK_INCREASED));
+    }
+
+    private Long increase(Long productId, Integer quantity, List<String> keys) {
         try {
-            Long newStock = redisTemplate.opsForValue().increment(key, quantity);
+            Long newStock = redisScriptRegistry.execute(
+                    INCREASE_STOCK_SCRIPT,
+                    keys,
+                    quantity.toString()
+            );
 
             log.debug("재고 증가 성공: productId={}, 증가수량={}, 현재재고={}",
                     productId, quantity, newStock);
 
+            // 재고 복구 → 전체 노드 품절 표시 해제
+            soldOutStockCache.invalidate(List.of(productId));
+
             return newStock;
 
         } catch (Exception e) {
@@ -130,18 +248,207 @@ public class RedisStockService {
      * @param stock 설정할 재고
      */
     public void setStock(Long productId, Integer stock) {
-        String key = STOCK_KEY_PREFIX + productId;
+        setStocks(Map.of(productId, stock));
+    }
+
+    /**
+     * 여러 상품 재고 일괄 조회 (MGET 1회)
+     *
+     * @param productIds 상품 ID 목록
+     * @return 상품 ID → 현재 재고 (Redis에 키가 없으면 null)
+     */
+    public Map<Long, Long> getStocks(List<Long> productIds) {
+        Map<Long, Long> stocks = new HashMap<>(productIds.size() * 2);
+        if (productIds.isEmpty()) {
+            return stocks;
+        }
+
+        List<String> keys = productIds.stream()
+                .map(productId -> STOCK_KEY_PREFIX + productId)
+                .toList();
+
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+
+            for (int i = 0; i < productIds.size(); i++) {
+                String value = values != null ? values.get(i) : null;
+                stocks.put(productIds.get(i), value != null ? Long.parseLong(value) : null);
+            }
+            return stocks;
+
+        } catch (Exception e) {
+            log.error("Redis 재고 일괄 조회 실패: size={}", productIds.size(), e);
+            throw new ProductException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 여러 상품 재고 일괄 설정 (MSET 1회, 초기화/복구용)
+     *
+     * @param stocks 상품 ID → 설정할 재고
+     */
+    public void setStocks(Map<Long, Integer> stocks) {
+        if (stocks.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> values = new HashMap<>(stocks.size() * 2);
+        stocks.forEach((productId, stock) -> values.put(STOCK_KEY_PREFIX + productId, stock.toString()));
+
+        try {
+            redisTemplate.opsForValue().multiSet(values);
+            log.debug("재고 일괄 설정 완료: size={}", stocks.size());
+
+            List<Long> restockedProductIds = stocks.entrySet().stream()
+                    .filter(entry -> entry.getValue() > 0)
+                    .map(Map.Entry::getKey)
+                    .toList();
+            soldOutStockCache.invalidate(restockedProductIds);
+
+        } catch (Exception e) {
+            log.error("Redis 재고 일괄 설정 실패: size={}", stocks.size(), e);
+            throw new ProductException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 여러 상품 재고 초기 적재 (Lua Script 1회, 기동 시 워밍용)
+     * - Redis에 재고가 없는 상품만 설정 → 롤링 배포 중 다른 노드가 운영 중인 재고를 덮어쓰지 않음
+     * - 이미 있는 재고와 DB의 차이는 정합성 검증(StockSyncScheduler)이 처리
+     *
+     * @param stocks 상품 ID → 설정할 재고
+     * @return 실제로 설정된 상품 수
+     */
+    public long initializeStocks(Map<Long, Integer> stocks) {
+        if (stocks.isEmpty()) {
+            return 0;
+        }
+
+        List<String> keys = new ArrayList<>(stocks.size());
+        List<String> values = new ArrayList<>(stocks.size());
+        stocks.forEach((productId, stock) -> {
+            keys.add(STOCK_KEY_PREFIX + productId);
+            values.add(stock.toString());
+        });
+
+        try {
+            Long initialized = redisScriptRegistry.execute(INITIALIZE_STOCKS_SCRIPT, keys, values.toArray());
+            return initialized != null ? initialized : 0;
+
+        } catch (Exception e) {
+            log.error("Redis 재고 초기 적재 실패: size={}", stocks.size(), e);
+            throw new ProductException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 여러 상품 재고 조건부 복구 (Lua Script 1회, 정합성 검증용)
+     * - 조회 시점 재고가 그대로이고 최근 settle-ms 동안 변경이 없는 상품만 설정
+     * - 조건이 맞지 않은 상품은 건너뜀 (다음 검증 주기에 다시 비교)
+     *
+     * @param repairs 복구 대상 (조회한 재고 + 설정할 재고)
+     * @param settleMillis 마지막 변경 후 대기 시간
+     * @return 실제로 설정된 상품 ID
+     */
+    public Set<Long> repairStocks(List<StockRepair> repairs, long settleMillis) {
+        if (repairs.isEmpty()) {
+            return Set.of();
+        }
+
+        List<String> keys = new ArrayList<>(repairs.size() + 1);
+        List<String> args = new ArrayList<>(repairs.size() * 2 + 1);
+        args.add(String.valueOf(settleMillis));
+        for (StockRepair repair : repairs) {
+            keys.add(STOCK_KEY_PREFIX + repair.productId());
+            args.add(repair.expectedStock() != null ? repair.expectedStock().toString() : "-1");
+            args.add(String.valueOf(repair.stock()));
+        }
+        keys.add(DIRTY_KEY);
 
         try {
-            redisTemplate.opsForValue().set(key, stock.toString());
-            log.debug("재고 설정 완료: productId={}, stock={}", productId, stock);
+            List<?> results = redisScriptRegistry.execute(REPAIR_STOCKS_SCRIPT, keys, args.toArray());
+
+            Set<Long> repaired = new HashSet<>();
+            List<Long> restockedProductIds = new ArrayList<>();
+            for (int i = 0; i < repairs.size(); i++) {
+                if (((Number) results.get(i)).longValue() == 1) {
+                    StockRepair repair = repairs.get(i);
+                    repaired.add(repair.productId());
+                    if (repair.stock() > 0) {
+                        restockedProductIds.add(repair.productId());
+                    }
+                }
+            }
+            soldOutStockCache.invalidate(restockedProductIds);
+            return repaired;
 
         } catch (Exception e) {
-            log.error("Redis 재고 설정 실패: productId={}", productId, e);
+            log.error("Redis 재고 조건부 복구 실패: size={}", repairs.size(), e);
             throw new ProductException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
     }
 
+    /**
+     * 변경 후 settle-ms가 지난 Dirty 상품 ID 꺼내기 (꺼낸 ID는 Dirty Set에서 제거됨)
+     *
+     * @param settleMillis 마지막 변경 후 대기 시간
+     * @param limit 최대 개수
+     * @return 상품 ID 목록
+     */
+    public List<Long> takeDirtyProductIds(long settleMillis, int limit) {
+        List<?> ids = redisScriptRegistry.execute(
+                TAKE_DIRTY_SCRIPT,
+                List.of(DIRTY_KEY),
+                String.valueOf(settleMillis),
+                String.valueOf(limit)
+        );
+
+        if (ids == null) {
+            return List.of();
+        }
+        return ids.stream()
+                .map(id -> Long.valueOf(String.valueOf(id)))
+                .toList();
+    }
+
+    /**
+     * Dirty 상품 재등록 (검증 실패 시 다음 주기에 재시도)
+     * - 이미 다시 변경되어 등록된 상품은 최신 변경 시각 유지 (ZADD NX)
+     *
+     * @param productIds 상품 ID 목록
+     */
+    public void markDirty(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = productIds.stream()
+                .map(productId -> ZSetOperations.TypedTuple.of(productId.toString(), 0d))
+                .collect(Collectors.toSet());
+
+        try {
+            redisTemplate.opsForZSet().addIfAbsent(DIRTY_KEY, tuples);
+        } catch (Exception e) {
+            log.error("Dirty 상품 재등록 실패: productIds={}", productIds, e);
+        }
+    }
+
+    /**
+     * Dirty 추적 활성 여부
+     * - false면 Dirty Set이 유실되었을 수 있음 (최초 기동, Redis 재시작 등) → 전체 검증 필요
+     */
+    public boolean isDirtyTrackingActive() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(DIRTY_TRACKING_KEY));
+    }
+
+    /**
+     * Dirty 추적 시작 표시
+     * - 전체 검증 직전에 호출 → 이후 변경은 Dirty Set으로, 이전 변경은 전체 검증으로 커버
+     */
+    public void activateDirtyTracking() {
+        redisTemplate.opsForValue().set(DIRTY_TRACKING_KEY, String.valueOf(System.currentTimeMillis()));
+    }
+
     /**
      * 재고 삭제 (상품 삭제 시)
      *
@@ -176,4 +483,13 @@ public class RedisStockService {
             return false;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 재고 조건부 복구 대상
+     *
+     * @param productId 상품 ID
+     * @param expectedStock 비교 시 조회한 Redis 재고 (키가 없었으면 null)
+     * @param stock 설정할 재고 (DB 기준)
+     */
+    public record StockRepair(Long productId, Long expectedStock, int stock) {}
+}
@@ -0,0 +1,113 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 품절 상품 로컬 캐시 (Near Cache)
+ * - 재고가 0이 된 상품을 JVM 메모리에 표시 → 이후 주문은 Redis 호출 없이 즉시 재고 부족 처리
+ * - 플래시 세일 품절 후 초당 수천 건의 Lua Script 호출(결과는 항상 재고 부족) 제거
+ *
+ * 무효화:
+ * - 재고 복구(증가/설정/홀드 해제) 시 Redis Pub/Sub으로 전체 노드에 품절 표시 해제 전파
+ * - 메시지 유실에 대비해 표시는 ttl-ms 후 자동 만료 (최대 오차 범위)
+ */
+@Slf4j
+@Component
+public class SoldOutStockCache implements MessageListener {
+
+    private static final String INVALIDATE_CHANNEL = "stock:sold-out:invalidate";
+    private static final String DELIMITER = ",";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Cache<Long, Boolean> soldOutProducts;
+
+    public SoldOutStockCache(
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${stock.sold-out-cache.ttl-ms:5000}") long ttlMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.soldOutProducts = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * 품절 여부 (로컬 메모리 조회)
+     */
+    public boolean isSoldOut(Long productId) {
+        return soldOutProducts.getIfPresent(productId) != null;
+    }
+
+    /**
+     * 품절 표시 (Redis 재고가 0임을 확인한 경우에만 호출)
+     */
+    public void markSoldOut(Collection<Long> productIds) {
+        productIds.forEach(productId -> soldOutProducts.put(productId, Boolean.TRUE));
+    }
+
+    /**
+     * 품절 표시 해제 (재고 복구 시) → 로컬 즉시 해제 + 전체 노드에 전파
+     * - 전파 실패해도 재고 복구 자체는 실패시키지 않음 (ttl-ms 후 자동 만료)
+     */
+    public void invalidate(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+
+        soldOutProducts.invalidateAll(productIds);
+
+        try {
+            String message = productIds.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(DELIMITER));
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, message);
+
+        } catch (Exception e) {
+            log.warn("품절 표시 해제 전파 실패: productIds={}", productIds, e);
+        }
+    }
+
+    /**
+     * 다른 노드(또는 자신)의 품절 표시 해제 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            List<Long> productIds = Arrays.stream(body.split(DELIMITER))
+                    .map(Long::valueOf)
+                    .toList();
+            soldOutProducts.invalidateAll(productIds);
+
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 품절 표시 해제 메시지: {}", body);
+        }
+    }
+}
@@ -1,84 +1,129 @@
 package io.hhplus.ECommerce.ECommerce_project.product.application.service;
 
-import io.hhplus.ECommerce.ECommerce_project.product.domain.event.StockDecreasedEvent;
-import io.hhplus.ECommerce.ECommerce_project.product.domain.event.StockIncreasedEvent;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ProductException;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.event.StockHoldConfirmedEvent;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Map;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class StockService {
 
     private final RedisStockService redisStockService;
+    private final RedisStockHoldService redisStockHoldService;
     private final ApplicationEventPublisher applicationEventPublisher;
 
     /**
-     * 재고 차감 (Redis) - 초고속 처리
+     * 재고 확보 (Redis 홀드) - 초고속 처리
      * CreateOrderFromProductUseCase.java 에서 사용
+     *
+     * @return 홀드 ID (주문 생성 후 bindHold()로 주문에 연결)
      */
-    public void reserveStock(Long productId, Integer quantity) {
-        // 1. Redis에서 즉시 재고 차감 (5-10ms)
-        Long remaining = redisStockService.decreaseStock(productId, quantity);
-
-        // 2. DB 동기화 이벤트 발행 (비동기)
-        applicationEventPublisher.publishEvent(
-                new StockDecreasedEvent(productId, quantity)
-        );
+    public String reserveStock(Long productId, Integer quantity) {
+        return reserveStocks(List.of(Map.entry(productId, quantity)));
     }
 
     /**
-     * 재고 복구 (Redis)
-     * CreateOrderFromProductUseCase.java 에서 사용
+     * 여러 상품 재고 확보 (Redis 홀드) - 초고속 처리
+     * CreateOrderFromCartUseCase.java 에서 사용
+     * - Lua Script 1회로 전체 상품 All-or-Nothing 차감 + 만료 시각이 있는 홀드 생성
+     * - 재고 부족 시 아무것도 차감되지 않으므로 보상 불필요
+     * - DB 동기화용 재고 차감 이벤트는 같은 스크립트가 스트림에 기록
+     *
+     * @return 홀드 ID (주문 생성 후 bindHold()로 주문에 연결)
      */
-    public void compensateStock(Long productId, Integer quantity) {
-        // Redis 재고 복구
-        redisStockService.increaseStock(productId, quantity);
+    public String reserveStocks(List<Map.Entry<Long, Integer>> sortedEntries) {
+        return redisStockHoldService.reserve(sortedEntries);
+    }
 
-        // DB 동기화 이벤트 발행
-        applicationEventPublisher.publishEvent(
-                new StockIncreasedEvent(productId, quantity)
-        );
+    /**
+     * 재고 홀드를 주문에 연결
+     * - 주문 생성 완료 후 호출, 이후 주문 ID로 확정/해제
+     */
+    public void bindHold(String holdId, Long orderId) {
+        if (!redisStockHoldService.bindToOrder(holdId, orderId)) {
+            // 주문 생성이 홀드 유효 시간보다 오래 걸린 경우에만 발생 (재고는 이미 복구됨)
+            log.error("재고 홀드 연결 실패 (이미 만료됨): holdId={}, orderId={}", holdId, orderId);
+        }
     }
 
     /**
-     * 여러 상품 재고 차감 (Redis) - 초고속 처리
-     * CreateOrderFromCartUseCase.java 에서 사용
+     * 재고 홀드 → 판매 확정
+     * CreatePaymentUseCase.java 에서 사용
+     * - 결제 트랜잭션 안에서는 홀드 존재 확인 + 만료 연장만 하고, 홀드 제거는 커밋 후 (StockHoldEventListener)
+     * - 결제가 롤백되면 홀드가 남아 있으므로 보상(CompensationService) 또는 만료 스윕이 재고 복구
+     *
+     * - 홀드 도입 전 주문은 기동 시 LegacyOrderStockHoldMigration이 주문 홀드로 등록해 두므로 같은 경로로 결제
+     *
+     * @param orderId 주문 ID
+     * @throws ProductException 홀드가 없는 경우 (만료되어 재고가 이미 복구됨)
      */
-    public void reserveStocks(List<Map.Entry<Long, Integer>> sortedEntries) {
-        for (Map.Entry<Long, Integer> entry : sortedEntries) {
-            Long productId = entry.getKey();
-            Integer totalQuantity = entry.getValue();
+    public void confirmHold(Long orderId) {
+        if (!redisStockHoldService.prepareConfirm(orderId)) {
+            // 홀드 없이 결제하면 재고 없이 판매됨 → 다시 주문하도록 거절
+            log.warn("재고 홀드 없는 주문 결제 시도: orderId={}", orderId);
+            throw new ProductException(ErrorCode.PRODUCT_STOCK_HOLD_EXPIRED);
+        }
 
-            // Redis에서 즉시 재고 차감 (5-10ms)
-            Long remaining = redisStockService.decreaseStock(productId, totalQuantity);
+        applicationEventPublisher.publishEvent(new StockHoldConfirmedEvent(orderId));
+    }
 
-            // DB 동기화 이벤트 발행 (비동기)
-            applicationEventPublisher.publishEvent(
-                    new StockDecreasedEvent(productId, totalQuantity)
-            );
-        }
+    /**
+     * 홀드 도입 전 주문을 주문 홀드로 등록
+     * LegacyOrderStockHoldMigration.java 에서 사용
+     * - 주문 생성 시 재고가 이미 차감된 주문 → 재고는 그대로 두고 홀드만 생성
+     * - 만료 시각은 주문 생성 시각 + 홀드 유효 시간 (이미 지났으면 다음 스윕에서 재고 복구)
+     *
+     * @return 등록 여부 (false면 이미 등록된 주문)
+     */
+    public boolean adoptLegacyOrderHold(Long orderId, List<Map.Entry<Long, Integer>> entries, LocalDateTime orderedAt) {
+        long expiresAtMillis = orderedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                + redisStockHoldService.getHoldTtlMillis();
+        return redisStockHoldService.adoptOrder(orderId, entries, expiresAtMillis);
     }
 
     /**
-     * 여러 상품 재고 복구 (Redis)
-     * CreateOrderFromCartUseCase.java 에서 사용
+     * 재고 홀드 해제 (주문 생성 실패 시 보상)
+     * CreateOrderFromProductUseCase.java, CreateOrderFromCartUseCase.java 에서 사용
      */
-    public void compensateStocks(List<Map.Entry<Long, Integer>> sortedEntries) {
-        for (Map.Entry<Long, Integer> entry : sortedEntries) {
-            Long productId = entry.getKey();
-            Integer totalQuantity = entry.getValue();
+    public void releaseHold(String holdId) {
+        redisStockHoldService.release(holdId);
+    }
 
-            // Redis 재고 복구
-            redisStockService.increaseStock(productId, totalQuantity);
+    /**
+     * 주문 재고 홀드 해제 (판매 확정 전 주문 취소/만료/결제 실패 시)
+     *
+     * @return 해제 여부 (false면 이미 만료 스윕으로 복구되었거나 판매 확정된 주문)
+     */
+    public boolean releaseOrderHold(Long orderId) {
+        return !redisStockHoldService.releaseOrder(orderId).isEmpty();
+    }
 
-            // DB 동기화 이벤트 발행
-            applicationEventPublisher.publishEvent(
-                    new StockIncreasedEvent(productId, totalQuantity)
-            );
-        }
+    /**
+     * 만료된 재고 홀드 일괄 해제
+     * StockHoldSweepScheduler.java 에서 사용
+     *
+     * @return 해제된 (상품, 수량) 항목 수
+     */
+    public int releaseExpiredHolds(int limit) {
+        return redisStockHoldService.releaseExpired(limit).size();
+    }
+
+    /**
+     * 재고 복구 (Redis)
+     * CompensationService.java 에서 사용 (판매 확정된 주문의 결제 실패 시)
+     * - 재고 증가와 DB 동기화 이벤트 기록을 Lua Script 1회로 처리
+     */
+    public void compensateStock(Long productId, Integer quantity) {
+        redisStockService.compensateStock(productId, quantity);
     }
 }
@@ -0,0 +1,265 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.service;
+
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ProductException;
+import io.hhplus.ECommerce.ECommerce_project.common.stream.StreamMessage;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductStockJdbcRepository;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductStockJdbcRepository.StockDelta;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 재고 Write-Behind 서비스 (Redis → MySQL)
+ * - 재고 이벤트마다 비관적 락 + UPDATE 하지 않고, 스트림 배치 단위로 상품별 변화량을 합산해 상대값 UPDATE로 일괄 반영
+ * - 플래시 세일 시 같은 상품 수천 건의 SELECT ... FOR UPDATE → 배치당 UPDATE 1건
+ * - 반영 전 변화량은 메모리가 아닌 스트림(Pending)에 남음 → 반영 실패/노드 장애 시에도 유실 없음
+ *
+ * 중복 반영 방지:
+ * - 재고 UPDATE와 같은 트랜잭션에서 메시지 ID를 stock_stream_applied에 기록
+ * - 이미 기록된 메시지는 합산에서 제외 → XACK 전 장애로 재전달돼도 한 번만 반영
+ * - 반환 시점에는 커밋 완료, 실패 시 예외 전파 (스트림 핸들러가 ACK하지 않도록)
+ *
+ * 재고 0 미만 방지:
+ * - DB 재고가 차감량보다 적거나 상품이 없으면 UPDATE가 적용되지 않음 → 반영된 것으로 기록하지 않고 롤백
+ * - 증가 스트림이 아직 반영되지 않아 생긴 일시적 부족은 재전달 사이에 해소
+ * - 계속 거절되는 메시지는 max-deliveries 후 Dead Letter 스트림으로 이동 (수동 확인)
+ *
+ * 메트릭:
+ * - stock.write-behind.flush.size: 반영당 UPDATE된 상품 수
+ * - stock.write-behind.flush.events: 반영당 합산된 이벤트 수
+ * - stock.write-behind.lag: 가장 오래된 이벤트가 스트림에 추가된 후 DB에 반영되기까지 걸린 시간
+ * - stock.write-behind.flush.failures: 반영 실패 횟수 (배치/상품별 트랜잭션 단위)
+ * - stock.write-behind.duplicates: 이미 반영되어 건너뛴 재전달 메시지 수
+ * - stock.write-behind.rejected: DB 재고 부족/상품 없음으로 반영하지 못한 상품 수
+ */
+@Slf4j
+@Service
+public class StockWriteBehindService {
+
+    private final ProductStockJdbcRepository productStockJdbcRepository;
+    private final ProductDetailCacheService productDetailCacheService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final DistributionSummary flushSizeSummary;
+    private final DistributionSummary flushEventsSummary;
+    private final Timer lagTimer;
+    private final Counter flushFailureCounter;
+    private final Counter duplicateCounter;
+    private final Counter rejectedCounter;
+
+    public StockWriteBehindService(
+            ProductStockJdbcRepository productStockJdbcRepository,
+            ProductDetailCacheService productDetailCacheService,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.productStockJdbcRepository = productStockJdbcRepository;
+        this.productDetailCacheService = productDetailCacheService;
+        this.transactionTemplate = transactionTemplate;
+
+        this.flushSizeSummary = DistributionSummary.builder("stock.write-behind.flush.size")
+                .register(meterRegistry);
+        this.flushEventsSummary = DistributionSummary.builder("stock.write-behind.flush.events")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("stock.write-behind.lag")
+                .register(meterRegistry);
+        this.flushFailureCounter = Counter.builder("stock.write-behind.flush.failures")
+                .register(meterRegistry);
+        this.duplicateCounter = Counter.builder("stock.write-behind.duplicates")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("stock.write-behind.rejected")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 재고 차감 변화량 (재고 감소 + 판매량 증가)
+     */
+    public static StockChange decrease(StreamMessage<?> message, Long productId, int quantity) {
+        return new StockChange(message.id(), message.timestampMillis(), productId, quantity, quantity);
+    }
+
+    /**
+     * 재고 증가 변화량 (재고 복구 + 판매량 감소)
+     */
+    public static StockChange increase(StreamMessage<?> message, Long productId, int quantity) {
+        return new StockChange(message.id(), message.timestampMillis(), productId, -quantity, -quantity);
+    }
+
+    /**
+     * 스트림 배치의 변화량을 DB에 반영 (메시지 ID 기준 멱등)
+     * - 트랜잭션: 반영 이력 조회 → 새 메시지만 상품별 합산 → 상대값 UPDATE → 반영 이력 기록
+     * - 배치 트랜잭션이 실패하면 상품별 트랜잭션으로 나눠 재시도 → 한 상품의 실패가 다른 상품 반영을 막지 않음
+     * - 실패한 상품의 메시지는 예외로 알려 ACK되지 않게 함
+     *   (컨슈머가 1건씩 재처리 → 계속 실패하면 max-deliveries 후 Dead Letter 스트림으로 이동)
+     * - 커밋 후 반영된 상품의 상세 캐시 무효화
+     *
+     * @param stream 스트림 키 (메시지 ID는 스트림 안에서만 유일)
+     * @param changes 메시지별 변화량
+     * @throws RuntimeException 반영에 실패한 상품이 있을 때 (해당 트랜잭션 롤백, 메시지는 재전달)
+     */
+    public void apply(String stream, List<StockChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        try {
+            applyOnce(stream, changes);
+            return;
+        } catch (RuntimeException batchFailure) {
+            flushFailureCounter.increment();
+
+            Map<Long, List<StockChange>> byProduct = changes.stream()
+                    .collect(Collectors.groupingBy(StockChange::productId, LinkedHashMap::new, Collectors.toList()));
+            if (byProduct.size() == 1) {
+                throw batchFailure;
+            }
+            log.warn("재고 Write-Behind 배치 반영 실패, 상품별 재시도: stream={}, 상품={}, 이벤트={}",
+                    stream, byProduct.size(), changes.size(), batchFailure);
+
+            applyPerProduct(stream, byProduct);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 반영 이력 삭제 (StockWriteBehindScheduler)
+     *
+     * @return 삭제된 행 수
+     */
+    public int purgeAppliedBefore(LocalDateTime threshold, int batchSize) {
+        int total = 0;
+        int deleted;
+        do {
+            deleted = productStockJdbcRepository.deleteAppliedBefore(threshold, batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+        return total;
+    }
+
+    /**
+     * 상품별 트랜잭션으로 반영 → 실패한 상품만 모아 예외
+     */
+    private void applyPerProduct(String stream, Map<Long, List<StockChange>> byProduct) {
+        List<Long> failedProductIds = new ArrayList<>();
+        RuntimeException lastFailure = null;
+
+        for (Map.Entry<Long, List<StockChange>> entry : byProduct.entrySet()) {
+            try {
+                applyOnce(stream, entry.getValue());
+            } catch (RuntimeException e) {
+                flushFailureCounter.increment();
+                failedProductIds.add(entry.getKey());
+                lastFailure = e;
+                log.error("재고 Write-Behind 상품 반영 실패: stream={}, productId={}, messageIds={}",
+                        stream, entry.getKey(),
+                        entry.getValue().stream().map(StockChange::messageId).toList(), e);
+            }
+        }
+
+        if (lastFailure != null) {
+            throw new IllegalStateException("재고 Write-Behind 반영 실패 상품: " + failedProductIds, lastFailure);
+        }
+    }
+
+    /**
+     * 트랜잭션 1회로 반영 후 커밋되면 상세 캐시 무효화
+     */
+    private void applyOnce(String stream, List<StockChange> changes) {
+        List<StockDelta> deltas = transactionTemplate.execute(status -> applyInTransaction(stream, changes));
+        if (deltas == null || deltas.isEmpty()) {
+            return;
+        }
+
+        // 반영된 상품의 상세 캐시 무효화 (배치당 상품별 1회 → 상세 재적재도 배치당 1회)
+        productDetailCacheService.evict(deltas.stream().map(StockDelta::productId).toList());
+    }
+
+    private List<StockDelta> applyInTransaction(String stream, List<StockChange> changes) {
+        List<String> messageIds = changes.stream().map(StockChange::messageId).toList();
+        Set<String> applied = productStockJdbcRepository.findAppliedMessageIds(stream, messageIds);
+
+        Map<Long, int[]> merged = new LinkedHashMap<>();
+        List<String> newMessageIds = new ArrayList<>(changes.size());
+        long oldestTimestamp = Long.MAX_VALUE;
+
+        for (StockChange change : changes) {
+            if (applied.contains(change.messageId())) {
+                continue;
+            }
+
+            newMessageIds.add(change.messageId());
+            oldestTimestamp = Math.min(oldestTimestamp, change.enqueuedAtMillis());
+
+            int[] delta = merged.computeIfAbsent(change.productId(), id -> new int[2]);
+            delta[0] += change.stockDecrease();
+            delta[1] += change.soldIncrease();
+        }
+
+        if (!applied.isEmpty()) {
+            duplicateCounter.increment(applied.size());
+            log.info("재고 스트림 중복 메시지 건너뜀: stream={}, count={}", stream, applied.size());
+        }
+        if (newMessageIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 차감과 복구가 상쇄된 경우 UPDATE 불필요
+        List<StockDelta> deltas = new ArrayList<>(merged.size());
+        merged.forEach((productId, delta) -> {
+            if (delta[0] != 0 || delta[1] != 0) {
+                deltas.add(new StockDelta(productId, delta[0], delta[1]));
+            }
+        });
+
+        if (!deltas.isEmpty()) {
+            List<Long> rejectedProductIds = productStockJdbcRepository.applyStockDeltas(deltas);
+            if (!rejectedProductIds.isEmpty()) {
+                // 롤백 → 상품별/메시지별로 재시도, 계속 거절되면 Dead Letter
+                rejectedCounter.increment(rejectedProductIds.size());
+                log.warn("재고 Write-Behind 반영 거절 (DB 재고 부족 또는 상품 없음): stream={}, productIds={}",
+                        stream, rejectedProductIds);
+                throw new ProductException(ErrorCode.PRODUCT_OUT_OF_STOCK,
+                        "DB 재고 부족 또는 상품 없음: " + rejectedProductIds);
+            }
+        }
+        productStockJdbcRepository.insertAppliedMessageIds(stream, newMessageIds);
+
+        flushSizeSummary.record(deltas.size());
+        flushEventsSummary.record(newMessageIds.size());
+        lagTimer.record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - oldestTimestamp)));
+
+        log.debug("재고 Write-Behind 반영 완료: stream={}, 상품={}, 이벤트={}",
+                stream, deltas.size(), newMessageIds.size());
+        return deltas;
+    }
+
+    /**
+     * 스트림 메시지 1건의 재고 변화량
+     *
+     * @param messageId 스트림 메시지 ID (멱등 키)
+     * @param enqueuedAtMillis 스트림에 추가된 시각 (반영 지연 측정용)
+     * @param productId 상품 ID
+     * @param stockDecrease 차감할 재고 (음수면 증가)
+     * @param soldIncrease 증가할 판매량 (음수면 감소)
+     */
+    public record StockChange(
+            String messageId,
+            long enqueuedAtMillis,
+            Long productId,
+            int stockDecrease,
+            int soldIncrease
+    ) {}
+}
@@ -0,0 +1,114 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.warmer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ToLongFunction;
+
+/**
+ * 기동 시 DB → Redis 워머 공통 흐름
+ * - ApplicationRunner로 기동 직후 1회 실행, 실패하면 하위 클래스의 @Scheduled 메서드가 retryIfNotWarmedUp()으로 재시도
+ * - 실행 중 중복 실행 방지 (ApplicationRunner와 재시도 스케줄러가 겹치지 않도록)
+ * - 원본은 Keyset 페이징으로 청크 단위 조회 (forEachChunk)
+ */
+@Slf4j
+public abstract class BaseCacheWarmer implements ApplicationRunner {
+
+    protected final int chunkSize;
+
+    private final AtomicBoolean warmedUp = new AtomicBoolean(false);
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    protected BaseCacheWarmer(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        warmUpOnce();
+    }
+
+    /**
+     * 워밍 완료 여부
+     */
+    public boolean isWarmedUp() {
+        return warmedUp.get();
+    }
+
+    /**
+     * 워밍 실패 시 재시도 (성공 후에는 아무것도 하지 않음)
+     */
+    protected void retryIfNotWarmedUp() {
+        if (!warmedUp.get()) {
+            warmUpOnce();
+        }
+    }
+
+    /**
+     * 워밍 1회 실행
+     *
+     * @return 전체 적재 성공 여부 (false면 재시도 대상)
+     */
+    protected abstract boolean warmUp() throws Exception;
+
+    /**
+     * 원본을 Keyset 페이징으로 끝까지 읽으며 청크마다 처리
+     *
+     * @param reader 마지막 ID 이후 청크 조회
+     * @param idOf 청크 항목의 ID (다음 청크 조회 기준)
+     * @return 읽은 전체 항목 수
+     */
+    protected <T> int forEachChunk(ChunkReader<T> reader, ToLongFunction<T> idOf, ChunkHandler<T> handler)
+            throws InterruptedException {
+        int total = 0;
+        long lastId = 0L;
+
+        while (true) {
+            List<T> chunk = reader.read(lastId, chunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            lastId = idOf.applyAsLong(chunk.get(chunk.size() - 1));
+
+            handler.handle(chunk);
+            total += chunk.size();
+
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private void warmUpOnce() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            if (warmUp()) {
+                warmedUp.set(true);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("{} 워밍 중단", getClass().getSimpleName(), e);
+        } catch (Exception e) {
+            log.error("{} 워밍 실패, 재시도 예정", getClass().getSimpleName(), e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @FunctionalInterface
+    protected interface ChunkReader<T> {
+        List<T> read(long lastId, int chunkSize);
+    }
+
+    @FunctionalInterface
+    protected interface ChunkHandler<T> {
+        void handle(List<T> chunk) throws InterruptedException;
+    }
+}
@@ -0,0 +1,63 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.warmer;
+
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductCategorySnapshot;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductFinderService;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.RedisRankingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 상품-카테고리 매핑 워머
+ * - 애플리케이션 시작 시 DB → Redis 상품-카테고리 매핑(HASH) 적재
+ * - 랭킹 반영 시 이 매핑으로 카테고리별 랭킹 키를 결정하므로, 매핑이 없는 상품은 전체 랭킹에만 반영됨
+ *
+ * 처리 방식:
+ * - (ID, 카테고리 ID) 프로젝션을 Keyset 페이징으로 청크 단위 조회, 청크당 HSET 1회
+ * - 신규/카테고리 변경 상품은 커밋 후 ProductCategoryEventListener에서 등록
+ * - 실패 시 ranking.category.warm-up.retry-interval-ms마다 재시도 (HSET이라 중복 적재해도 무해, BaseCacheWarmer)
+ */
+@Slf4j
+@Component
+public class ProductCategoryWarmer extends BaseCacheWarmer {
+
+    private final ProductFinderService productFinderService;
+    private final RedisRankingService redisRankingService;
+
+    public ProductCategoryWarmer(
+            ProductFinderService productFinderService,
+            RedisRankingService redisRankingService,
+            @Value("${ranking.category.warm-up.chunk-size:1000}") int chunkSize
+    ) {
+        super(chunkSize);
+        this.productFinderService = productFinderService;
+        this.redisRankingService = redisRankingService;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${ranking.category.warm-up.retry-interval-ms:10000}")
+    public void retryIfNotWarmedUp() {
+        super.retryIfNotWarmedUp();
+    }
+
+    @Override
+    protected boolean warmUp() throws InterruptedException {
+        long start = System.currentTimeMillis();
+
+        int total = forEachChunk(productFinderService::getCategorySnapshots, ProductCategorySnapshot::productId, chunk -> {
+            Map<Long, Long> categoryIds = new HashMap<>(chunk.size() * 2);
+            for (ProductCategorySnapshot snapshot : chunk) {
+                categoryIds.put(snapshot.productId(), snapshot.categoryId());
+            }
+            redisRankingService.registerProductCategories(categoryIds);
+        });
+
+        log.info("=== 상품-카테고리 매핑 워밍 완료 === 전체: {}, 소요: {}ms",
+                total, System.currentTimeMillis() - start);
+        return true;
+    }
+}
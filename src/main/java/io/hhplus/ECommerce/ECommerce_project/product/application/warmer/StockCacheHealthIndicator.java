@@ -0,0 +1,28 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.warmer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 캐시 Readiness 지표
+ * - 재고 캐시 워밍 전에는 DOWN → readiness 그룹(/actuator/health/readiness)이 트래픽 유입 차단
+ * - application.yml의 management.endpoint.health.group.readiness에 포함
+ */
+@Component("stockCache")
+@RequiredArgsConstructor
+public class StockCacheHealthIndicator implements HealthIndicator {
+
+    private final StockCacheWarmer stockCacheWarmer;
+
+    @Override
+    public Health health() {
+        if (stockCacheWarmer.isWarmedUp()) {
+            return Health.up().build();
+        }
+        return Health.down()
+                .withDetail("reason", "재고 캐시 워밍 중")
+                .build();
+    }
+}
@@ -1,62 +1,135 @@
 package io.hhplus.ECommerce.ECommerce_project.product.application.warmer;
 
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductStockSnapshot;
 import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductFinderService;
 import io.hhplus.ECommerce.ECommerce_project.product.application.service.RedisStockService;
-import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.ApplicationArguments;
-import org.springframework.boot.ApplicationRunner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 재고 캐시 워머
  * - 애플리케이션 시작 시 DB → Redis 재고 동기화
  * - 초기 캐시 워밍으로 일관성 보장
+ *
+ * 처리 방식:
+ * - (ID, 재고) 프로젝션을 Keyset 페이징으로 청크 단위 조회
+ * - 청크당 Lua Script 1회, 여러 워커가 병렬로 적재 (상품 1개당 SET 1회 X)
+ * - Redis에 재고가 없는 상품만 설정 (SET NX)
+ *   → 롤링 배포로 노드가 기동할 때 운영 중인 재고(주문으로 차감된 값)를 DB 스냅샷으로 덮어쓰지 않음
+ *   → 이미 있는 재고와 DB의 차이는 정합성 검증(StockSyncScheduler)이 처리
+ * - 진행 중인 청크 수를 제한하여 대용량 카탈로그에서도 메모리 사용량 일정
+ *
+ * Readiness:
+ * - 워밍이 끝날 때까지 StockCacheHealthIndicator가 DOWN → readiness 그룹에 포함되어 트래픽 유입 차단
+ * - 재고 키가 없으면 0으로 읽혀 재고 부족으로 처리되므로, 워밍 전 주문 유입 방지
+ * - 일부 청크 실패 시 warm-up.retry-interval-ms마다 재시도 (BaseCacheWarmer)
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
-public class StockCacheWarmer implements ApplicationRunner {
+public class StockCacheWarmer extends BaseCacheWarmer {
 
     private final ProductFinderService productFinderService;
     private final RedisStockService redisStockService;
+    private final int parallelism;
+
+    public StockCacheWarmer(
+            ProductFinderService productFinderService,
+            RedisStockService redisStockService,
+            @Value("${stock.warm-up.chunk-size:1000}") int chunkSize,
+            @Value("${stock.warm-up.parallelism:4}") int parallelism
+    ) {
+        super(chunkSize);
+        this.productFinderService = productFinderService;
+        this.redisStockService = redisStockService;
+        this.parallelism = parallelism;
+    }
 
     @Override
-    public void run(ApplicationArguments args) {
-        log.info("=== 재고 캐시 워밍 시작 ===");
+    @Scheduled(fixedDelayString = "${stock.warm-up.retry-interval-ms:10000}")
+    public void retryIfNotWarmedUp() {
+        super.retryIfNotWarmedUp();
+    }
+
+    @Override
+    protected boolean warmUp() throws InterruptedException {
+        log.info("=== 재고 캐시 워밍 시작 === chunkSize={}, parallelism={}", chunkSize, parallelism);
+
+        long start = System.nanoTime();
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicLong initializedCount = new AtomicLong();
+        AtomicInteger failCount = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread thread = new Thread(r, "stock-warm-up");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 조회는 앞서 나가되, 적재 대기 중인 청크는 워커 수의 2배까지만 보관
+        Semaphore inFlight = new Semaphore(parallelism * 2);
 
         try {
-            // DB → Redis 재고 동기화
-            List<Product> products = productFinderService.getAllProduct();
-
-            int successCount = 0;
-            int failCount = 0;
-
-            for (Product product : products) {
-                try {
-                    // Redis에 재고 설정
-                    redisStockService.setStock(product.getId(), product.getStock());
-                    successCount++;
-
-                    log.debug("재고 캐시 설정 완료: productId={}, productName={}, stock={}",
-                            product.getId(), product.getName(), product.getStock());
-
-                } catch (Exception e) {
-                    failCount++;
-                    log.error("재고 캐시 설정 실패: productId={}, productName={}",
-                            product.getId(), product.getName(), e);
-                }
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+            forEachChunk(productFinderService::getStockSnapshots, ProductStockSnapshot::productId, chunk -> {
+                inFlight.acquire();
+                futures.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        initializedCount.addAndGet(loadChunk(chunk));
+                        successCount.addAndGet(chunk.size());
+                    } catch (Exception e) {
+                        failCount.addAndGet(chunk.size());
+                        log.error("재고 캐시 청크 설정 실패: 첫 productId={}, size={}",
+                                chunk.get(0).productId(), chunk.size(), e);
+                    } finally {
+                        inFlight.release();
+                    }
+                }, workers));
+            });
+
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+            long elapsedNanos = System.nanoTime() - start;
+            int total = successCount.get() + failCount.get();
+            long rowsPerSecond = elapsedNanos > 0 ? total * 1_000_000_000L / elapsedNanos : total;
+
+            log.info("=== 재고 캐시 워밍 완료 === 성공: {}(신규 적재: {}), 실패: {}, 전체: {}, 소요: {}ms, 처리량: {}건/s",
+                    successCount.get(), initializedCount.get(), failCount.get(), total,
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rowsPerSecond);
+
+            if (failCount.get() > 0) {
+                log.warn("재고 캐시 워밍 일부 실패, 재시도 예정 (Readiness DOWN 유지)");
+                return false;
             }
+            return true;
 
-            log.info("=== 재고 캐시 워밍 완료 === 성공: {}, 실패: {}, 전체: {}",
-                    successCount, failCount, products.size());
+        } finally {
+            workers.shutdown();
+        }
+    }
 
-        } catch (Exception e) {
-            log.error("재고 캐시 워밍 실패", e);
-            // 실패해도 애플리케이션은 계속 실행 (DB 비관적 락으로 폴백 가능)
+    /**
+     * 청크 1개 적재 (Lua Script 1회, Redis에 재고가 없는 상품만)
+     *
+     * @return 새로 적재한 상품 수
+     */
+    private long loadChunk(List<ProductStockSnapshot> chunk) {
+        Map<Long, Integer> stocks = new HashMap<>(chunk.size() * 2);
+        for (ProductStockSnapshot snapshot : chunk) {
+            stocks.put(snapshot.productId(), snapshot.stock());
         }
+        return redisStockService.initializeStocks(stocks);
     }
 }
@@ -0,0 +1,36 @@
+package io.hhplus.ECommerce.ECommerce_project.product.domain.event;
+
+import java.util.List;
+
+/**
+ * 상품 캐시 무효화 이벤트
+ * - 상품 변경 트랜잭션 안에서 발행, 커밋 후 상세/목록 캐시 무효화 (ProductCacheEventListener)
+ * - 커밋 전에 무효화하면 그 사이 조회가 이전 값을 다시 캐시에 올림
+ */
+public record ProductCacheEvictEvent(
+        Long productId,
+        List<Long> categoryIds,     // 목록 캐시를 카테고리 단위로 무효화 (비어 있으면 상품이 들어있는 페이지만)
+        boolean evictRankingCache   // 인기상품 캐시도 무효화 (상품 정보 변경/비활성화/삭제)
+) {
+
+    /**
+     * 재고 변경 (정렬 순서에 영향 없음 → 상세 + 상품이 들어있는 목록 페이지)
+     */
+    public static ProductCacheEvictEvent stockChanged(Long productId) {
+        return new ProductCacheEvictEvent(productId, List.of(), false);
+    }
+
+    /**
+     * 가격/활성 상태 변경 (정렬/노출에 영향 → 상세 + 카테고리 목록)
+     */
+    public static ProductCacheEvictEvent listChanged(Long productId, Long categoryId) {
+        return new ProductCacheEvictEvent(productId, List.of(categoryId), false);
+    }
+
+    /**
+     * 상품 정보 변경/비활성화/삭제 (상세 + 인기상품 + 카테고리 목록)
+     */
+    public static ProductCacheEvictEvent productChanged(Long productId, List<Long> categoryIds) {
+        return new ProductCacheEvictEvent(productId, categoryIds, true);
+    }
+}
@@ -0,0 +1,27 @@
+package io.hhplus.ECommerce.ECommerce_project.product.domain.event;
+
+/**
+ * 상품 카테고리 등록/변경 이벤트
+ * - 상품 등록/수정 트랜잭션 안에서 발행, 커밋 후 랭킹용 상품-카테고리 매핑 반영 (ProductCategoryEventListener)
+ * - 트랜잭션 안에서 Redis에 쓰면 롤백돼도 매핑이 남아 카테고리 랭킹에 잘못 반영됨
+ */
+public record ProductCategoryChangedEvent(
+        Long productId,
+        Long oldCategoryId,     // 신규 등록이면 null
+        Long newCategoryId
+) {
+
+    /**
+     * 상품 등록
+     */
+    public static ProductCategoryChangedEvent registered(Long productId, Long categoryId) {
+        return new ProductCategoryChangedEvent(productId, null, categoryId);
+    }
+
+    /**
+     * 상품 카테고리 변경
+     */
+    public static ProductCategoryChangedEvent changed(Long productId, Long oldCategoryId, Long newCategoryId) {
+        return new ProductCategoryChangedEvent(productId, oldCategoryId, newCategoryId);
+    }
+}
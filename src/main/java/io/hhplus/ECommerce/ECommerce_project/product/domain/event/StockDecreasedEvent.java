@@ -2,7 +2,7 @@ package io.hhplus.ECommerce.ECommerce_project.product.domain.event;
 
 /**
  * 재고 차감 이벤트
- * - Redis에서 재고 차감 후 발행
+ * - Redis 재고 확보 스크립트가 재고 차감과 함께 스트림에 기록 (XADD)
  * - DB 동기화를 위한 비동기 이벤트
  */
 public record StockDecreasedEvent(
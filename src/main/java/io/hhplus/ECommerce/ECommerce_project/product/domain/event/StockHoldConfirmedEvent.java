@@ -0,0 +1,11 @@
+package io.hhplus.ECommerce.ECommerce_project.product.domain.event;
+
+/**
+ * 재고 홀드 판매 확정 이벤트
+ * - 결제 트랜잭션 안에서 발행, 커밋 후 Redis 홀드 제거
+ * - 롤백되면 홀드가 그대로 남아 보상/만료 스윕이 재고 복구
+ */
+public record StockHoldConfirmedEvent(
+        Long orderId
+) {
+}
@@ -2,7 +2,7 @@ package io.hhplus.ECommerce.ECommerce_project.product.domain.event;
 
 /**
  * 재고 증가 이벤트
- * - 재고 복구(보상 트랜잭션) 시 발행
+ * - 재고 홀드 해제 및 보상 복구 스크립트가 재고 증가와 함께 스트림에 기록 (XADD)
  * - DB 동기화를 위한 비동기 이벤트
  */
 public record StockIncreasedEvent(
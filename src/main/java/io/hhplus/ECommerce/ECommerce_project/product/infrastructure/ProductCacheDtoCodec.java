@@ -0,0 +1,98 @@
+package io.hhplus.ECommerce.ECommerce_project.product.infrastructure;
+
+import io.hhplus.ECommerce.ECommerce_project.common.cache.codec.CacheValueCodec;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductRedisCacheService.ProductCacheDto;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import static io.hhplus.ECommerce.ECommerce_project.common.cache.codec.CompactIO.*;
+
+/**
+ * 인기상품 캐시(ProductCacheDto) 바이너리 코덱
+ * - 가격은 문자열 대신 scale + unscaled 값으로 기록
+ *
+ * 스키마 v1:
+ * id, categoryId, categoryName, name, description, price, stock, isActive, viewCount, soldCount,
+ * minOrderQuantity, maxOrderQuantity
+ *
+ * 스키마 v2: v1 + createdAt, updatedAt
+ * - v1 값은 생성/수정 시각 null로 읽음 (RankingSnapshotService가 캐시 미스로 보고 재적재)
+ */
+@Component
+public class ProductCacheDtoCodec implements CacheValueCodec<ProductCacheDto> {
+
+    private static final int CODEC_ID = 2;
+    private static final int SCHEMA_VERSION = 2;
+    private static final int SCHEMA_V1 = 1;
+
+    @Override
+    public int codecId() {
+        return CODEC_ID;
+    }
+
+    @Override
+    public int schemaVersion() {
+        return SCHEMA_VERSION;
+    }
+
+    @Override
+    public Class<ProductCacheDto> type() {
+        return ProductCacheDto.class;
+    }
+
+    @Override
+    public void write(ProductCacheDto value, DataOutput out) throws IOException {
+        writeVarLong(out, value.id());
+        writeNullableLong(out, value.categoryId());
+        writeString(out, value.categoryName());
+        writeString(out, value.name());
+        writeString(out, value.description());
+        writeDecimal(out, value.price() != null ? new BigDecimal(value.price()) : null);
+        writeVarInt(out, value.stock());
+        out.writeBoolean(value.isActive());
+        writeVarInt(out, value.viewCount());
+        writeVarInt(out, value.soldCount());
+        writeNullableInt(out, value.minOrderQuantity());
+        writeNullableInt(out, value.maxOrderQuantity());
+        writeDateTime(out, value.createdAt());
+        writeDateTime(out, value.updatedAt());
+    }
+
+    @Override
+    public ProductCacheDto read(DataInput in, int schemaVersion) throws IOException {
+        long id = readVarLong(in);
+        Long categoryId = readNullableLong(in);
+        String categoryName = readString(in);
+        String name = readString(in);
+        String description = readString(in);
+        BigDecimal price = readDecimal(in);
+        int stock = readVarInt(in);
+        boolean isActive = in.readBoolean();
+        int viewCount = readVarInt(in);
+        int soldCount = readVarInt(in);
+        Integer minOrderQuantity = readNullableInt(in);
+        Integer maxOrderQuantity = readNullableInt(in);
+        boolean hasTimestamps = schemaVersion > SCHEMA_V1;
+
+        return new ProductCacheDto(
+                id,
+                categoryId,
+                categoryName,
+                name,
+                description,
+                price != null ? price.toString() : null,
+                stock,
+                isActive,
+                viewCount,
+                soldCount,
+                minOrderQuantity,
+                maxOrderQuantity,
+                hasTimestamps ? readDateTime(in) : null,
+                hasTimestamps ? readDateTime(in) : null
+        );
+    }
+}
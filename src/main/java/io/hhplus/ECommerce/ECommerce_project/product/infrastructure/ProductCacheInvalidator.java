@@ -1,8 +1,9 @@
 package io.hhplus.ECommerce.ECommerce_project.product.infrastructure;
 
-import io.hhplus.ECommerce.ECommerce_project.product.application.enums.ProductSortType;
-import lombok.RequiredArgsConstructor;
+import io.hhplus.ECommerce.ECommerce_project.common.cache.TwoLevelCache;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductDetailCacheService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -10,41 +11,84 @@ import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.time.temporal.WeekFields;
-import java.util.Set;
+import java.util.List;
 
+/**
+ * 상품 캐시 무효화
+ * - 상품 목록 캐시는 2단계 캐시(twoLevelCacheManager) → L2 삭제 + 모든 노드의 L1 삭제가 Pub/Sub으로 전파됨
+ * - 상품 목록은 태그(category:{id}, product:{id}) 단위로 삭제 → 정렬/페이지/크기와 상관없이 모든 항목 무효화
+ * - 상품 상세 캐시도 같은 방식 (ProductDetailCacheService)
+ * - 상품 변경 유스케이스는 직접 호출하지 않고 ProductCacheEvictEvent 발행 → 커밋 후 ProductCacheEventListener가 호출
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class ProductCacheInvalidator {
 
-    private static final int FIRST_PAGE = 0;
-    private static final int DEFAULT_PAGE_SIZE = 20;
     private static final String DAILY_CACHE_PREFIX = "ranking:product:cache:daily:";
     private static final String WEEKLY_CACHE_PREFIX = "ranking:product:cache:weekly:";
 
-    private final CacheManager redisCacheManager;
+    private final CacheManager twoLevelCacheManager;
     private final RedisTemplate<String, String> redisTemplate;
+    private final ProductDetailCacheService productDetailCacheService;
+
+    public ProductCacheInvalidator(
+            @Qualifier("twoLevelCacheManager") CacheManager twoLevelCacheManager,
+            RedisTemplate<String, String> redisTemplate,
+            ProductDetailCacheService productDetailCacheService
+    ) {
+        this.twoLevelCacheManager = twoLevelCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.productDetailCacheService = productDetailCacheService;
+    }
 
     /**
-     * 상품 목록 캐시 무효화 (특정 카테고리)
+     * 상품 목록 캐시 무효화 (특정 카테고리 + 전체 목록의 모든 정렬/페이지/크기)
      */
     public void evictProductListCache(Long categoryId) {
-        Cache cache = redisCacheManager.getCache("productList");
-        if (cache != null) {
-            // 5가지 정렬 × 첫페이지 캐시 삭제
-            for (ProductSortType sortType : ProductSortType.values()) {
-                String key = categoryId + "_" + sortType + "_" + FIRST_PAGE + "_" + DEFAULT_PAGE_SIZE;
-                cache.evict(key);
-            }
-            log.debug("상품 목록 캐시 무효화 완료 - categoryId: {}", categoryId);
+        evictProductListTags(ProductListCacheTagResolver.categoryTags(categoryId));
+        log.debug("상품 목록 캐시 무효화 완료 - categoryId: {}", categoryId);
+    }
+
+    /**
+     * 상품이 들어있는 상품 목록 캐시만 무효화 (재고처럼 정렬 순서에 영향 없는 변경)
+     */
+    public void evictProductListCacheByProduct(Long productId) {
+        evictProductListTags(List.of(ProductListCacheTagResolver.productTag(productId)));
+        log.debug("상품 포함 목록 캐시 무효화 완료 - productId: {}", productId);
+    }
+
+    /**
+     * 태그 단위 삭제 (조회 1회 + 삭제 1회 파이프라인)
+     * - 무효화 실패해도 상품 변경 자체는 실패시키지 않음 (TTL 후 자동 만료)
+     */
+    private void evictProductListTags(List<String> tags) {
+        Cache cache = twoLevelCacheManager.getCache(ProductListCacheTagResolver.CACHE_NAME);
+        if (!(cache instanceof TwoLevelCache twoLevelCache)) {
+            return;
+        }
+
+        try {
+            twoLevelCache.evictTagged(tags);
+        } catch (Exception e) {
+            log.error("상품 목록 캐시 무효화 실패 - tags: {}", tags, e);
         }
     }
 
     /**
-     * 상품 캐시 무효화 (일별/주간 인기상품 캐시)
+     * 상품 상세 캐시 무효화 (가격 변경, 활성화 등 목록/상세에만 노출되는 변경)
+     */
+    public void evictProductDetailCache(Long productId) {
+        productDetailCacheService.evict(productId);
+        log.debug("상품 상세 캐시 무효화 완료 - productId: {}", productId);
+    }
+
+    /**
+     * 상품 캐시 무효화 (상품 상세 캐시 + 일별/주간 인기상품 캐시)
      * - 현재 날짜/주차의 캐시만 삭제 (과거 데이터는 TTL로 자동 삭제)
      */
     public void evictProductCache(Long productId) {
+        evictProductDetailCache(productId);
+
         try {
             LocalDate today = LocalDate.now();
             WeekFields weekFields = WeekFields.ISO;
@@ -64,21 +108,11 @@ public class ProductCacheInvalidator {
         }
     }
 
-    /**
-     * 상품 관련 모든 캐시 무효화 (상품 삭제 시)
-     * - 상품 목록 캐시 + 인기상품 캐시
-     */
-    public void clearProductCaches(Long productId, Long categoryId) {
-        evictProductCache(productId);
-        evictProductListCache(categoryId);
-        log.info("상품 전체 캐시 무효화 완료 - productId: {}, categoryId: {}", productId, categoryId);
-    }
-
     /**
      * 상품 목록 캐시 전체 무효화 (모든 카테고리)
      */
     public void evictAllProductListCache() {
-        Cache cache = redisCacheManager.getCache("productList");
+        Cache cache = twoLevelCacheManager.getCache(ProductListCacheTagResolver.CACHE_NAME);
         if (cache != null) {
             cache.clear();
             log.info("상품 목록 캐시 전체 무효화 완료");
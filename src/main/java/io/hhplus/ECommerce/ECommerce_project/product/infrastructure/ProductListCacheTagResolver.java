@@ -0,0 +1,67 @@
+package io.hhplus.ECommerce.ECommerce_project.product.infrastructure;
+
+import io.hhplus.ECommerce.ECommerce_project.common.cache.CacheTagResolver;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductPageResult;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductSummary;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 상품 목록 캐시(productList) 태그
+ * - category:{categoryId}: 카테고리의 모든 정렬/페이지/크기 항목
+ * - category:all: 카테고리 필터 없는 전체 목록 항목 (키의 categoryId 자리가 null)
+ * - product:{productId}: 해당 상품이 들어있는 페이지
+ *
+ * 캐시 키 형식: {categoryId}_{sortType}_{page}_{size} (GetProductListUseCase)
+ * 카테고리 단위 무효화는 categoryTags()로 해당 카테고리 + 전체 목록을 함께 삭제
+ * (어느 카테고리 상품이 바뀌어도 전체 목록의 정렬/노출이 바뀔 수 있음)
+ */
+@Component
+public class ProductListCacheTagResolver implements CacheTagResolver {
+
+    public static final String CACHE_NAME = "productList";
+    private static final String CATEGORY_TAG_PREFIX = "category:";
+    private static final String ALL_CATEGORIES_TAG = CATEGORY_TAG_PREFIX + "all";
+    private static final String UNFILTERED_KEY_CATEGORY = "null";
+    private static final String PRODUCT_TAG_PREFIX = "product:";
+
+    @Override
+    public String cacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public Set<String> tags(Object key, Object value) {
+        Set<String> tags = new HashSet<>();
+
+        String cacheKey = String.valueOf(key);
+        int delimiterIndex = cacheKey.indexOf('_');
+        if (delimiterIndex > 0) {
+            String keyCategory = cacheKey.substring(0, delimiterIndex);
+            tags.add(UNFILTERED_KEY_CATEGORY.equals(keyCategory)
+                    ? ALL_CATEGORIES_TAG
+                    : CATEGORY_TAG_PREFIX + keyCategory);
+        }
+
+        if (value instanceof ProductPageResult result) {
+            for (ProductSummary product : result.getProducts()) {
+                tags.add(productTag(product.id()));
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * 카테고리 상품 변경 시 무효화할 태그 (해당 카테고리 목록 + 전체 목록)
+     */
+    public static List<String> categoryTags(Long categoryId) {
+        return List.of(CATEGORY_TAG_PREFIX + categoryId, ALL_CATEGORIES_TAG);
+    }
+
+    public static String productTag(Long productId) {
+        return PRODUCT_TAG_PREFIX + productId;
+    }
+}
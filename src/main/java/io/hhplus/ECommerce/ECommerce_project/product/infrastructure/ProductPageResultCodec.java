@@ -0,0 +1,113 @@
+package io.hhplus.ECommerce.ECommerce_project.product.infrastructure;
+
+import io.hhplus.ECommerce.ECommerce_project.common.cache.codec.CacheValueCodec;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductPageResult;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductSummary;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.hhplus.ECommerce.ECommerce_project.common.cache.codec.CompactIO.*;
+
+/**
+ * 상품 목록 캐시(productList) 바이너리 코덱
+ * - 응답에 필요한 필드만 기록 (클래스 이름/필드 이름 없음)
+ * - 읽을 때도 엔티티가 아닌 ProductSummary로 복원
+ *
+ * 스키마 v1:
+ * page, size, totalElements, totalPages, isFirst, isLast, 상품 수,
+ * 상품별 id, categoryId, name, description, price, stock, isActive, viewCount, soldCount,
+ * minOrderQuantity, maxOrderQuantity, createdAt, updatedAt
+ */
+@Component
+public class ProductPageResultCodec implements CacheValueCodec<ProductPageResult> {
+
+    private static final int CODEC_ID = 1;
+    private static final int SCHEMA_VERSION = 1;
+
+    @Override
+    public int codecId() {
+        return CODEC_ID;
+    }
+
+    @Override
+    public int schemaVersion() {
+        return SCHEMA_VERSION;
+    }
+
+    @Override
+    public Class<ProductPageResult> type() {
+        return ProductPageResult.class;
+    }
+
+    @Override
+    public void write(ProductPageResult value, DataOutput out) throws IOException {
+        writeVarInt(out, value.getPage());
+        writeVarInt(out, value.getSize());
+        writeVarLong(out, value.getTotalElements());
+        writeVarInt(out, value.getTotalPages());
+        out.writeBoolean(value.isFirst());
+        out.writeBoolean(value.isLast());
+
+        writeVarInt(out, value.getProducts().size());
+        for (ProductSummary product : value.getProducts()) {
+            writeProduct(product, out);
+        }
+    }
+
+    @Override
+    public ProductPageResult read(DataInput in, int schemaVersion) throws IOException {
+        int page = readVarInt(in);
+        int size = readVarInt(in);
+        long totalElements = readVarLong(in);
+        int totalPages = readVarInt(in);
+        boolean isFirst = in.readBoolean();
+        boolean isLast = in.readBoolean();
+
+        int count = readVarInt(in);
+        List<ProductSummary> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            products.add(readProduct(in));
+        }
+
+        return new ProductPageResult(products, page, size, totalElements, totalPages, isFirst, isLast);
+    }
+
+    private void writeProduct(ProductSummary product, DataOutput out) throws IOException {
+        writeVarLong(out, product.id());
+        writeNullableLong(out, product.categoryId());
+        writeString(out, product.name());
+        writeString(out, product.description());
+        writeDecimal(out, product.price());
+        writeVarInt(out, product.stock());
+        out.writeBoolean(product.isActive());
+        writeVarInt(out, product.viewCount());
+        writeVarInt(out, product.soldCount());
+        writeNullableInt(out, product.minOrderQuantity());
+        writeNullableInt(out, product.maxOrderQuantity());
+        writeDateTime(out, product.createdAt());
+        writeDateTime(out, product.updatedAt());
+    }
+
+    private ProductSummary readProduct(DataInput in) throws IOException {
+        return new ProductSummary(
+                readVarLong(in),        // id
+                readNullableLong(in),   // categoryId
+                readString(in),         // name
+                readString(in),         // description
+                readDecimal(in),        // price
+                readVarInt(in),         // stock
+                in.readBoolean(),       // isActive
+                readVarInt(in),         // viewCount
+                readVarInt(in),         // soldCount
+                readNullableInt(in),    // minOrderQuantity
+                readNullableInt(in),    // maxOrderQuantity
+                readDateTime(in),       // createdAt
+                readDateTime(in)        // updatedAt
+        );
+    }
+}
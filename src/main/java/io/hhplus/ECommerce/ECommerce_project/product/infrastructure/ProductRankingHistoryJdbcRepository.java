@@ -0,0 +1,124 @@
+package io.hhplus.ECommerce.ECommerce_project.product.infrastructure;
+
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.RankingHistorySummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인기상품 랭킹 이력 JDBC 리포지토리
+ * - 일별 랭킹 스냅샷을 batchUpdate로 일괄 저장 (엔티티 저장 시 행마다 INSERT 발생 방지)
+ * - 기간 조회는 (ranking_date, product_id) PK 범위 스캔 후 합산 → order_items 스캔 불필요
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductRankingHistoryJdbcRepository {
+
+    // 일자 단위 교체: 재아카이빙 시 상위 N개에서 밀려난 상품의 이전 행 제거
+    private static final String DELETE_DAY_SQL =
+            "DELETE FROM product_ranking_history WHERE ranking_date = ?";
+
+    // 재실행해도 같은 결과가 되도록 덮어쓰기 (스케줄러 재시도/다중 노드 실행 대비)
+    private static final String UPSERT_SQL = """
+            INSERT INTO product_ranking_history (ranking_date, product_id, category_id, ranking, score)
+            VALUES (?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE category_id = VALUES(category_id), ranking = VALUES(ranking), score = VALUES(score)
+            """;
+
+    private static final int[] ROW_TYPES = {Types.DATE, Types.BIGINT, Types.BIGINT, Types.INTEGER, Types.DOUBLE};
+
+    private static final String LAST_ARCHIVED_DATE_SQL =
+            "SELECT MAX(ranking_date) FROM product_ranking_history";
+
+    // 이력 테이블에서 먼저 상위 N개를 집계한 뒤 상품명만 PK 조인
+    // 전체/카테고리별 쿼리를 분리 ((? IS NULL OR ...) 조건은 옵티마이저가 인덱스를 고르지 못함)
+    private static final String SUMMARIZE_SQL = """
+            SELECT h.product_id, p.name, h.total_score, h.ranked_days, h.best_ranking
+            FROM (
+                SELECT product_id, SUM(score) AS total_score, COUNT(*) AS ranked_days, MIN(ranking) AS best_ranking
+                FROM product_ranking_history
+                WHERE ranking_date BETWEEN ? AND ?
+                GROUP BY product_id
+                ORDER BY total_score DESC
+                LIMIT ?
+            ) h
+            JOIN products p ON p.id = h.product_id
+            ORDER BY h.total_score DESC
+            """;
+
+    private static final String SUMMARIZE_BY_CATEGORY_SQL = """
+            SELECT h.product_id, p.name, h.total_score, h.ranked_days, h.best_ranking
+            FROM (
+                SELECT product_id, SUM(score) AS total_score, COUNT(*) AS ranked_days, MIN(ranking) AS best_ranking
+                FROM product_ranking_history
+                WHERE ranking_date BETWEEN ? AND ? AND category_id = ?
+                GROUP BY product_id
+                ORDER BY total_score DESC
+                LIMIT ?
+            ) h
+            JOIN products p ON p.id = h.product_id
+            ORDER BY h.total_score DESC
+            """;
+
+    private static final RowMapper<RankingHistorySummary> SUMMARY_ROW_MAPPER = (rs, rowNum) ->
+            new RankingHistorySummary(
+                    rs.getLong("product_id"),
+                    rs.getString("name"),
+                    rs.getDouble("total_score"),
+                    rs.getInt("ranked_days"),
+                    rs.getInt("best_ranking")
+            );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 일별 랭킹 스냅샷 일괄 저장 (해당 일자 기존 행은 교체)
+     *
+     * @param rankingDate 랭킹 일자
+     * @param scores 상품 ID → 점수 (순위 순서)
+     * @param categoryIds 상품 ID → 카테고리 ID (없으면 NULL 저장)
+     */
+    @Transactional
+    public void saveDailyRanking(LocalDate rankingDate, Map<Long, Double> scores, Map<Long, Long> categoryIds) {
+        Date date = Date.valueOf(rankingDate);
+        List<Object[]> rows = new ArrayList<>(scores.size());
+        int ranking = 0;
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            rows.add(new Object[]{date, entry.getKey(), categoryIds.get(entry.getKey()), ++ranking, entry.getValue()});
+        }
+
+        jdbcTemplate.update(DELETE_DAY_SQL, date);
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, ROW_TYPES);
+    }
+
+    /**
+     * 마지막으로 아카이빙된 랭킹 일자 (이력이 없으면 null)
+     */
+    public LocalDate findLastArchivedDate() {
+        Date date = jdbcTemplate.queryForObject(LAST_ARCHIVED_DATE_SQL, Date.class);
+        return date != null ? date.toLocalDate() : null;
+    }
+
+    /**
+     * 기간별 인기상품 집계 (일별 점수 합계 순)
+     *
+     * @param categoryId 카테고리 ID (null이면 전체)
+     */
+    public List<RankingHistorySummary> summarize(LocalDate from, LocalDate to, Long categoryId, int limit) {
+        if (categoryId == null) {
+            return jdbcTemplate.query(SUMMARIZE_SQL, SUMMARY_ROW_MAPPER,
+                    Date.valueOf(from), Date.valueOf(to), limit);
+        }
+        return jdbcTemplate.query(SUMMARIZE_BY_CATEGORY_SQL, SUMMARY_ROW_MAPPER,
+                Date.valueOf(from), Date.valueOf(to), categoryId, limit);
+    }
+}
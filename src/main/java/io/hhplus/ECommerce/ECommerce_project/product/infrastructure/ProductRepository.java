@@ -1,5 +1,7 @@
 package io.hhplus.ECommerce.ECommerce_project.product.infrastructure;
 
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductCategorySnapshot;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductStockSnapshot;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
@@ -9,6 +11,8 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,6 +38,63 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p WHERE (:categoryId IS NULL OR p.category.id = :categoryId) AND p.isActive = true AND p.deletedAt IS NULL")
     Page<Product> findProducts(@Param("categoryId") Long categoryId, Pageable pageable);
 
+    // ===== 커서(Keyset) 페이징: (정렬 컬럼, id) 이후 행만 인덱스 탐색, OFFSET/COUNT 없음 =====
+
+    // 최신순 (created_at DESC, id DESC)
+    @Query("""
+            SELECT p
+            FROM Product p
+            WHERE (:categoryId IS NULL OR p.category.id = :categoryId) AND p.isActive = true AND p.deletedAt IS NULL
+              AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :lastId))
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<Product> findLatestAfter(@Param("categoryId") Long categoryId, @Param("createdAt") LocalDateTime createdAt,
+            @Param("lastId") Long lastId, Pageable pageable);
+
+    // 판매량 높은순 (sold_count DESC, id DESC)
+    @Query("""
+            SELECT p
+            FROM Product p
+            WHERE (:categoryId IS NULL OR p.category.id = :categoryId) AND p.isActive = true AND p.deletedAt IS NULL
+              AND (p.soldCount < :soldCount OR (p.soldCount = :soldCount AND p.id < :lastId))
+            ORDER BY p.soldCount DESC, p.id DESC
+            """)
+    List<Product> findPopularAfter(@Param("categoryId") Long categoryId, @Param("soldCount") int soldCount,
+            @Param("lastId") Long lastId, Pageable pageable);
+
+    // 조회수 높은순 (view_count DESC, id DESC)
+    @Query("""
+            SELECT p
+            FROM Product p
+            WHERE (:categoryId IS NULL OR p.category.id = :categoryId) AND p.isActive = true AND p.deletedAt IS NULL
+              AND (p.viewCount < :viewCount OR (p.viewCount = :viewCount AND p.id < :lastId))
+            ORDER BY p.viewCount DESC, p.id DESC
+            """)
+    List<Product> findMostViewedAfter(@Param("categoryId") Long categoryId, @Param("viewCount") int viewCount,
+            @Param("lastId") Long lastId, Pageable pageable);
+
+    // 가격 낮은순 (price ASC, id ASC)
+    @Query("""
+            SELECT p
+            FROM Product p
+            WHERE (:categoryId IS NULL OR p.category.id = :categoryId) AND p.isActive = true AND p.deletedAt IS NULL
+              AND (p.price > :price OR (p.price = :price AND p.id > :lastId))
+            ORDER BY p.price ASC, p.id ASC
+            """)
+    List<Product> findCheapestAfter(@Param("categoryId") Long categoryId, @Param("price") BigDecimal price,
+            @Param("lastId") Long lastId, Pageable pageable);
+
+    // 가격 높은순 (price DESC, id DESC)
+    @Query("""
+            SELECT p
+            FROM Product p
+            WHERE (:categoryId IS NULL OR p.category.id = :categoryId) AND p.isActive = true AND p.deletedAt IS NULL
+              AND (p.price < :price OR (p.price = :price AND p.id < :lastId))
+            ORDER BY p.price DESC, p.id DESC
+            """)
+    List<Product> findMostExpensiveAfter(@Param("categoryId") Long categoryId, @Param("price") BigDecimal price,
+            @Param("lastId") Long lastId, Pageable pageable);
+
     // 인기상품 TOP 20 조회 (판매량 > 조회수 > 생성일 순)
     @Query("""
             SELECT p
@@ -42,4 +103,39 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
             ORDER BY p.soldCount DESC, p.viewCount DESC, p.createdAt ASC, p.id ASC
             """)
     List<Product> findTop20Products(Pageable pageable);
+
+    // 재고 스냅샷 청크 조회 (Keyset 페이징: id > lastId, OFFSET 없이 PK 인덱스 탐색)
+    @Query("""
+            SELECT new io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductStockSnapshot(p.id, p.stock)
+            FROM Product p
+            WHERE p.id > :lastId
+            ORDER BY p.id ASC
+            """)
+    List<ProductStockSnapshot> findStockSnapshots(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 상품 카테고리 스냅샷 청크 조회 (Keyset 페이징, 카테고리별 랭킹 매핑 워밍용)
+    @Query("""
+            SELECT new io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductCategorySnapshot(p.id, p.category.id)
+            FROM Product p
+            WHERE p.id > :lastId AND p.deletedAt IS NULL
+            ORDER BY p.id ASC
+            """)
+    List<ProductCategorySnapshot> findCategorySnapshots(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 지정 상품 재고 스냅샷 조회 (Dirty 상품 정합성 검증용)
+    @Query("""
+            SELECT new io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductStockSnapshot(p.id, p.stock)
+            FROM Product p
+            WHERE p.id IN :productIds
+            """)
+    List<ProductStockSnapshot> findStockSnapshotsByIds(@Param("productIds") List<Long> productIds);
+
+    // 지정 상품 조회 (카테고리 함께 조회, 랭킹 스냅샷용)
+    @Query("""
+            SELECT p
+            FROM Product p
+            JOIN FETCH p.category
+            WHERE p.id IN :productIds AND p.isActive = true AND p.deletedAt IS NULL
+            """)
+    List<Product> findActiveWithCategoryByIds(@Param("productIds") List<Long> productIds);
 }
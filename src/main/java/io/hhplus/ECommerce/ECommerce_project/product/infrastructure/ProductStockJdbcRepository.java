@@ -0,0 +1,119 @@
+package io.hhplus.ECommerce.ECommerce_project.product.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 상품 재고 JDBC 리포지토리
+ * - 재고 스트림 배치에서 합산한 재고/판매량 변화량을 상대값 UPDATE로 일괄 반영
+ * - 엔티티 조회/비관적 락 없이 batchUpdate 1회로 처리
+ * - 상대값 UPDATE는 멱등하지 않으므로 반영한 스트림 메시지 ID를 같은 트랜잭션에서 기록 (stock_stream_applied)
+ * - 재고가 0 미만이 되는 UPDATE는 적용하지 않고(stock >= 차감량 조건) 호출자에게 알림
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductStockJdbcRepository {
+
+    private static final String APPLY_STOCK_DELTA_SQL =
+            "UPDATE products SET stock = stock - ?, sold_count = sold_count + ? WHERE id = ? AND stock >= ?";
+
+    private static final String FIND_APPLIED_SQL =
+            "SELECT message_id FROM stock_stream_applied WHERE stream = :stream AND message_id IN (:messageIds)";
+
+    // 동시에 같은 메시지를 반영하면 PK 중복으로 한쪽 트랜잭션이 롤백됨 (중복 반영 대신 실패 → 재처리 시 건너뜀)
+    private static final String INSERT_APPLIED_SQL =
+            "INSERT INTO stock_stream_applied (stream, message_id, applied_at) VALUES (?, ?, ?)";
+
+    private static final String DELETE_APPLIED_BEFORE_SQL =
+            "DELETE FROM stock_stream_applied WHERE applied_at < ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 재고/판매량 변화량 일괄 반영
+     * - 하나의 트랜잭션으로 처리하여 실패 시 전체 롤백 (호출 트랜잭션이 있으면 참여)
+     * - 차감 후 재고가 0 미만이 되거나 상품이 없으면 해당 행은 갱신되지 않음 (갱신 행 수 0)
+     *
+     * @param deltas 상품별 변화량 목록
+     * @return 반영되지 않은 상품 ID (DB 재고 부족 또는 상품 없음)
+     */
+    @Transactional
+    public List<Long> applyStockDeltas(List<StockDelta> deltas) {
+        int[][] updateCounts = jdbcTemplate.batchUpdate(APPLY_STOCK_DELTA_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setInt(1, delta.stockDecrease());
+            ps.setInt(2, delta.soldIncrease());
+            ps.setLong(3, delta.productId());
+            ps.setInt(4, delta.stockDecrease());
+        });
+
+        // 드라이버가 행 수를 알려주지 않는 경우(SUCCESS_NO_INFO = -2)는 반영된 것으로 봄
+        List<Long> rejectedProductIds = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : updateCounts) {
+            for (int updateCount : batch) {
+                if (updateCount == 0) {
+                    rejectedProductIds.add(deltas.get(index).productId());
+                }
+                index++;
+            }
+        }
+        return rejectedProductIds;
+    }
+
+    /**
+     * 이미 반영된 스트림 메시지 ID 조회
+     */
+    public Set<String> findAppliedMessageIds(String stream, Collection<String> messageIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("stream", stream)
+                .addValue("messageIds", messageIds);
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(FIND_APPLIED_SQL, params, String.class));
+    }
+
+    /**
+     * 스트림 메시지 반영 기록 (재고 UPDATE와 같은 트랜잭션에서 호출)
+     */
+    public void insertAppliedMessageIds(String stream, Collection<String> messageIds) {
+        Timestamp appliedAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_APPLIED_SQL, messageIds, messageIds.size(), (ps, messageId) -> {
+            ps.setString(1, stream);
+            ps.setString(2, messageId);
+            ps.setTimestamp(3, appliedAt);
+        });
+    }
+
+    /**
+     * 보관 기간이 지난 반영 기록 삭제 (재전달될 수 없는 오래된 메시지)
+     *
+     * @return 삭제된 행 수
+     */
+    public int deleteAppliedBefore(LocalDateTime threshold, int limit) {
+        return jdbcTemplate.update(DELETE_APPLIED_BEFORE_SQL, Timestamp.valueOf(threshold), limit);
+    }
+
+    /**
+     * 상품별 재고 변화량
+     *
+     * @param productId 상품 ID
+     * @param stockDecrease 차감할 재고 (음수면 증가)
+     * @param soldIncrease 증가할 판매량 (음수면 감소)
+     */
+    public record StockDelta(
+            Long productId,
+            int stockDecrease,
+            int soldIncrease
+    ) {}
+}
@@ -0,0 +1,39 @@
+package io.hhplus.ECommerce.ECommerce_project.product.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+/**
+ * 상품 조회수 JDBC 리포지토리
+ * - 메모리에 합산된 조회수 증가분을 상대값 UPDATE로 일괄 반영
+ * - 조회마다 엔티티 dirty checking UPDATE 하지 않고 주기당 batchUpdate 1회로 처리
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductViewCountJdbcRepository {
+
+    private static final String INCREASE_VIEW_COUNT_SQL =
+            "UPDATE products SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 조회수 증가분 일괄 반영
+     * - 하나의 트랜잭션으로 처리하여 실패 시 전체 롤백 (버퍼 재적재 후 재시도 가능)
+     *
+     * @param viewCounts 상품 ID → 증가할 조회수
+     */
+    @Transactional
+    public void increaseViewCounts(Map<Long, Integer> viewCounts) {
+        jdbcTemplate.batchUpdate(INCREASE_VIEW_COUNT_SQL, new ArrayList<>(viewCounts.entrySet()), viewCounts.size(),
+                (ps, entry) -> {
+                    ps.setInt(1, entry.getValue());
+                    ps.setLong(2, entry.getKey());
+                });
+    }
+}
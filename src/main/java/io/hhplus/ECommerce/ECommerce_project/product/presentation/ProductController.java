@@ -1,21 +1,28 @@
 package io.hhplus.ECommerce.ECommerce_project.product.presentation;
 
-import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
-import io.hhplus.ECommerce.ECommerce_project.common.exception.ProductException;
 import io.hhplus.ECommerce.ECommerce_project.product.application.*;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductCursorPageResult;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.RankingHistorySummary;
 import io.hhplus.ECommerce.ECommerce_project.product.application.enums.ProductSortType;
-import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import io.hhplus.ECommerce.ECommerce_project.product.application.enums.RankingType;
 import io.hhplus.ECommerce.ECommerce_project.product.presentation.request.*;
+import io.hhplus.ECommerce.ECommerce_project.product.presentation.response.CursorPageResponse;
 import io.hhplus.ECommerce.ECommerce_project.product.presentation.response.PageResponse;
 import io.hhplus.ECommerce.ECommerce_project.product.presentation.response.ProductResponse;
 import io.hhplus.ECommerce.ECommerce_project.product.presentation.response.RankedProductResponse;
+import io.hhplus.ECommerce.ECommerce_project.product.presentation.response.RankingHistoryResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.IntStream;
 
@@ -26,6 +33,7 @@ public class ProductController {
 
     private final CreateProductUseCase createProductUseCase;
     private final GetProductListUseCase getProductListUseCase;
+    private final GetProductListByCursorUseCase getProductListByCursorUseCase;
     private final GetProductUseCase getProductUseCase;
     private final UpdateProductUseCase updateProductUseCase;
     private final UpdatePriceUseCase updatePriceUseCase;
@@ -35,6 +43,8 @@ public class ProductController {
     private final DeactivateProductUseCase deactivateProductUseCase;
     private final DeleteProductUseCase deleteProductUseCase;
     private final GetTopRankedProductsUseCase getTopRankedProductsUseCase;
+    private final GetRankingHistoryUseCase getRankingHistoryUseCase;
+    private final ViewerIdResolver viewerIdResolver;
 
     /**
      * 상품 등록
@@ -47,18 +57,21 @@ public class ProductController {
 
     /**
      * 상품 목록 조회(전체, 카테고리별, 정렬, 페이징)
+     * - 페이지/크기 조합마다 캐시 항목이 생기므로 범위 제한 (더 깊은 페이지는 커서 페이징 사용)
      */
     @GetMapping
     public ResponseEntity<PageResponse<ProductResponse>> getProductList(
             @RequestParam(required = false) Long categoryId,
             @RequestParam(defaultValue = "LATEST") ProductSortType sortType,
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "0") @Min(0) @Max(1000) int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size
     ) {
         var result = getProductListUseCase.execute(categoryId, sortType, page, size);
 
-        // Product -> ProductResponse 변환
-        List<ProductResponse> content = ProductResponse.from(result.getProducts());
+        // ProductSummary -> ProductResponse 변환
+        List<ProductResponse> content = result.getProducts().stream()
+                .map(ProductResponse::from)
+                .toList();
 
         // 페이징 응답 생성 (ProductPageResult의 계산된 값 활용)
         PageResponse<ProductResponse> pageResponse = new PageResponse<>(
@@ -74,13 +87,42 @@ public class ProductController {
         return ResponseEntity.ok(pageResponse);
     }
 
+    /**
+     * 상품 목록 조회 (커서 페이징)
+     * - 응답의 nextCursor를 다음 요청의 cursor로 전달
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponse<ProductResponse>> getProductListByCursor(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "LATEST") ProductSortType sortType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size
+    ) {
+        ProductCursorPageResult result = getProductListByCursorUseCase.execute(categoryId, sortType, cursor, size);
+
+        return ResponseEntity.ok(new CursorPageResponse<>(
+                ProductResponse.from(result.products()),
+                result.nextCursor(),
+                result.hasNext()
+        ));
+    }
+
     /**
      * 상품 단건 조회
+     * - 캐시된 JSON 바이트를 그대로 응답 (ProductResponse 형식)
+     * - 순 조회자는 인증 정보/조회자 쿠키/신뢰 프록시 기준 IP로 식별 (ViewerIdResolver)
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ProductResponse> getProduct(@PathVariable Long id) {
-        var product = getProductUseCase.execute(id);
-        return ResponseEntity.ok(ProductResponse.from(product));
+    public ResponseEntity<byte[]> getProduct(
+            @PathVariable Long id,
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse
+    ) {
+        String viewerId = viewerIdResolver.resolve(httpRequest, httpResponse);
+        byte[] body = getProductUseCase.execute(id, viewerId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 
     /**
@@ -88,25 +130,35 @@ public class ProductController {
      */
     @GetMapping("/top-rank")
     public ResponseEntity<List<RankedProductResponse>> getTopRankedProducts(
-            @RequestParam(defaultValue = "daily") String type,  // daily or weekly
+            @RequestParam(defaultValue = "daily") String type,  // daily, weekly, rolling24h, rolling7d
+            @RequestParam(value = "category", required = false) Long categoryId,  // 카테고리별 랭킹 (daily, weekly만)
             @RequestParam(defaultValue = "10") @Min(1) @Max(100) int limit
     ) {
 
-        if (!"daily".equals(type) && !"weekly".equals(type)) {
-            throw new ProductException(ErrorCode.PRODUCT_RANKED_PRODUCT_TYPE_INVALID);
-        }
+        // 지원하지 않는 타입이면 PRODUCT_RANKED_PRODUCT_TYPE_INVALID
+        RankingType rankingType = RankingType.from(type);
+
+        return ResponseEntity.ok(getTopRankedProductsUseCase.execute(rankingType, categoryId, limit));
+    }
 
-        List<Product> products = getTopRankedProductsUseCase.execute(type, limit);
+    /**
+     * 기간별 인기상품 조회 (일별 랭킹 이력 합산)
+     */
+    @GetMapping("/top-rank/history")
+    public ResponseEntity<List<RankingHistoryResponse>> getRankingHistory(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "category", required = false) Long categoryId,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int limit
+    ) {
+        List<RankingHistorySummary> summaries = getRankingHistoryUseCase.execute(from, to, categoryId, limit);
 
-        // 랭킹 추가 (1~20)
-        List<RankedProductResponse> rankedProducts = IntStream.range(0, products.size())
-                .mapToObj(i -> new RankedProductResponse(
-                        i + 1, // rank
-                        ProductResponse.from(products.get(i))
-                ))
+        // 랭킹 추가 (1~limit)
+        List<RankingHistoryResponse> response = IntStream.range(0, summaries.size())
+                .mapToObj(i -> RankingHistoryResponse.of(i + 1, summaries.get(i)))
                 .toList();
 
-        return ResponseEntity.ok(rankedProducts);
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -0,0 +1,192 @@
+package io.hhplus.ECommerce.ECommerce_project.product.presentation;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.Principal;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 상품 조회자 식별 (순 조회자 집계용)
+ * - 클라이언트가 보낸 값(요청 파라미터 등)은 쓰지 않음 → 임의의 ID로 순 조회자를 부풀릴 수 없음
+ *
+ * 식별 순서:
+ * 1. 인증된 사용자: user:{principal}
+ * 2. 서명이 맞는 조회자 쿠키가 있으면: session:{UUID}
+ * 3. 조회자 쿠키가 없으면: 새로 발급한 쿠키의 session:{UUID} (첫 조회와 이후 조회가 같은 조회자로 집계)
+ * 4. 쿠키 서명 검증 실패(위조/변조, 다른 비밀 키로 발급): ip:{클라이언트 IP} + 쿠키 재발급
+ *
+ * 조회자 쿠키:
+ * - 값은 {UUID}.{HMAC-SHA256(UUID) Base64URL} → 서버 비밀 키(cookie-secret) 없이는 유효한 값을 만들 수 없음
+ * - 비밀 키가 비어 있으면 기동 시 임의 생성 (노드마다 달라지므로 운영에서는 모든 노드에 같은 값 설정)
+ *
+ * 클라이언트 IP:
+ * - X-Forwarded-For는 직전 홉이 신뢰 프록시(trusted-proxies)일 때만 사용
+ * - 헤더의 오른쪽부터 신뢰 프록시가 아닌 첫 주소 (클라이언트가 앞에 끼워 넣은 값은 무시)
+ */
+@Slf4j
+@Component
+public class ViewerIdResolver {
+
+    static final String VIEWER_COOKIE_NAME = "viewer_id";
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+    private static final int VIEWER_COOKIE_MAX_AGE_SECONDS = (int) Duration.ofDays(365).toSeconds();
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final char SIGNATURE_DELIMITER = '.';
+
+    private final Set<String> trustedProxies;
+    private final SecretKeySpec cookieKey;
+
+    public ViewerIdResolver(
+            @Value("${product.view.trusted-proxies:}") List<String> trustedProxies,
+            @Value("${product.view.cookie-secret:}") String cookieSecret
+    ) {
+        this.trustedProxies = Set.copyOf(trustedProxies.stream()
+                .map(String::trim)
+                .filter(proxy -> !proxy.isEmpty())
+                .toList());
+        this.cookieKey = new SecretKeySpec(secretBytes(cookieSecret), HMAC_ALGORITHM);
+    }
+
+    /**
+     * 조회자 ID 결정 (유효한 조회자 쿠키가 없으면 응답에 발급)
+     */
+    public String resolve(HttpServletRequest request, HttpServletResponse response) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null) {
+            return "user:" + principal.getName();
+        }
+
+        String viewerCookie = viewerCookie(request);
+        if (viewerCookie == null) {
+            return "session:" + issueViewerCookie(response);
+        }
+
+        String viewerId = verify(viewerCookie);
+        if (viewerId != null) {
+            return "session:" + viewerId;
+        }
+
+        // 서명이 맞지 않는 쿠키 → 임의 값으로 순 조회자를 부풀리지 못하도록 IP로 식별
+        issueViewerCookie(response);
+        return "ip:" + clientIp(request);
+    }
+
+    /**
+     * 조회자 쿠키 값 생성 ({UUID}.{서명})
+     */
+    String sign(String viewerId) {
+        return viewerId + SIGNATURE_DELIMITER + signature(viewerId);
+    }
+
+    private String viewerCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+
+        for (Cookie cookie : cookies) {
+            if (VIEWER_COOKIE_NAME.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 쿠키 서명 검증
+     *
+     * @return 조회자 UUID (형식 또는 서명이 맞지 않으면 null)
+     */
+    private String verify(String cookieValue) {
+        int delimiterIndex = cookieValue.lastIndexOf(SIGNATURE_DELIMITER);
+        if (delimiterIndex <= 0) {
+            return null;
+        }
+
+        String viewerId = cookieValue.substring(0, delimiterIndex);
+        byte[] expected = signature(viewerId).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = cookieValue.substring(delimiterIndex + 1).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, actual) || !isUuid(viewerId)) {
+            return null;
+        }
+        return viewerId;
+    }
+
+    private boolean isUuid(String value) {
+        try {
+            return UUID.fromString(value).toString().equals(value);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private String signature(String viewerId) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(cookieKey);
+            byte[] digest = mac.doFinal(viewerId.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("조회자 쿠키 서명 실패", e);
+        }
+    }
+
+    /**
+     * 조회자 쿠키 발급
+     *
+     * @return 발급한 조회자 UUID
+     */
+    private String issueViewerCookie(HttpServletResponse response) {
+        String viewerId = UUID.randomUUID().toString();
+
+        Cookie cookie = new Cookie(VIEWER_COOKIE_NAME, sign(viewerId));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge(VIEWER_COOKIE_MAX_AGE_SECONDS);
+        response.addCookie(cookie);
+        return viewerId;
+    }
+
+    private static byte[] secretBytes(String cookieSecret) {
+        if (cookieSecret != null && !cookieSecret.isBlank()) {
+            return cookieSecret.getBytes(StandardCharsets.UTF_8);
+        }
+
+        log.warn("조회자 쿠키 비밀 키 미설정 (product.view.cookie-secret), 임의 키 사용 → 재시작/다른 노드에서 쿠키 재발급");
+        byte[] generated = new byte[32];
+        new SecureRandom().nextBytes(generated);
+        return generated;
+    }
+
+    private String clientIp(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        String forwardedFor = request.getHeader(FORWARDED_FOR_HEADER);
+        if (forwardedFor == null || !trustedProxies.contains(remoteAddr)) {
+            return remoteAddr;
+        }
+
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!hop.isEmpty() && !trustedProxies.contains(hop)) {
+                return hop;
+            }
+        }
+        return remoteAddr;
+    }
+}
@@ -0,0 +1,10 @@
+package io.hhplus.ECommerce.ECommerce_project.product.presentation.response;
+
+import java.util.List;
+
+public record CursorPageResponse<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+) {
+}
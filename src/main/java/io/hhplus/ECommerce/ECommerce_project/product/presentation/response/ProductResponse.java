@@ -1,5 +1,7 @@
 package io.hhplus.ECommerce.ECommerce_project.product.presentation.response;
 
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductSummary;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductRedisCacheService.ProductCacheDto;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
 
 import java.math.BigDecimal;
@@ -39,6 +41,48 @@ public record ProductResponse(
         );
     }
 
+    /**
+     * 상품 목록 항목 → 응답 변환
+     */
+    public static ProductResponse from(ProductSummary product) {
+        return new ProductResponse(
+                product.id(),
+                product.categoryId(),
+                product.name(),
+                product.description(),
+                product.price(),
+                product.stock(),
+                product.soldCount(),
+                product.viewCount(),
+                product.isActive(),
+                product.minOrderQuantity(),
+                product.maxOrderQuantity(),
+                product.createdAt(),
+                product.updatedAt()
+        );
+    }
+
+    /**
+     * 캐시 DTO → 응답 변환
+     */
+    public static ProductResponse from(ProductCacheDto dto) {
+        return new ProductResponse(
+                dto.id(),
+                dto.categoryId(),
+                dto.name(),
+                dto.description(),
+                new BigDecimal(dto.price()),
+                dto.stock(),
+                dto.soldCount(),
+                dto.viewCount(),
+                dto.isActive(),
+                dto.minOrderQuantity(),
+                dto.maxOrderQuantity(),
+                dto.createdAt(),
+                dto.updatedAt()
+        );
+    }
+
     public static List<ProductResponse> from(List<Product> productList) {
         return productList.stream()
                 .map(product -> ProductResponse.from(product))
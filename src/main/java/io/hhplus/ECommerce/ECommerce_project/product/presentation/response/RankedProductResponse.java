@@ -1,7 +1,13 @@
 package io.hhplus.ECommerce.ECommerce_project.product.presentation.response;
 
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductRedisCacheService.ProductCacheDto;
+
 public record RankedProductResponse(
         Integer rank,
-        ProductResponse product
+        ProductResponse product,
+        String categoryName
 ) {
+    public static RankedProductResponse of(int rank, ProductCacheDto dto) {
+        return new RankedProductResponse(rank, ProductResponse.from(dto), dto.categoryName());
+    }
 }
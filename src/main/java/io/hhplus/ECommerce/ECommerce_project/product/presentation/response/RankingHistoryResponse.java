@@ -0,0 +1,23 @@
+package io.hhplus.ECommerce.ECommerce_project.product.presentation.response;
+
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.RankingHistorySummary;
+
+public record RankingHistoryResponse(
+        Integer rank,
+        Long productId,
+        String productName,
+        double score,
+        int rankedDays,
+        int bestRanking
+) {
+    public static RankingHistoryResponse of(int rank, RankingHistorySummary summary) {
+        return new RankingHistoryResponse(
+                rank,
+                summary.productId(),
+                summary.productName(),
+                summary.score(),
+                summary.rankedDays(),
+                summary.bestRanking()
+        );
+    }
+}
@@ -0,0 +1,13 @@
+-- 인기상품 랭킹 이력 테이블 (일별 랭킹 ZSET 스냅샷, 야간 아카이빙)
+-- 일 단위 1행/상품만 저장하고 주간/월간/분기 랭킹은 기간 합산으로 계산
+CREATE TABLE product_ranking_history (
+    ranking_date DATE NOT NULL COMMENT '랭킹 일자',
+    product_id BIGINT NOT NULL,
+    category_id BIGINT NULL COMMENT '아카이빙 시점의 카테고리 (카테고리별 이력 조회용)',
+    ranking INT NOT NULL COMMENT '해당 일자 순위',
+    score DOUBLE NOT NULL COMMENT '랭킹 점수 (판매량 * 10000 + 조회수)',
+
+    -- 기간 조회가 PK(클러스터드 인덱스) 범위 스캔이 되도록 일자 우선
+    PRIMARY KEY (ranking_date, product_id),
+    INDEX idx_ranking_history_category_date (category_id, ranking_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
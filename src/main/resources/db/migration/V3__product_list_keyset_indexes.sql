@@ -0,0 +1,15 @@
+-- 상품 목록 커서(Keyset) 페이징용 복합 인덱스
+-- (정렬 컬럼, id) 순서로 정렬된 인덱스를 커서 위치부터 탐색 → OFFSET 스캔/filesort 없음
+-- 가격 낮은순/높은순은 같은 인덱스를 정방향/역방향으로 사용
+
+-- 카테고리별 목록
+CREATE INDEX idx_products_category_created ON products (category_id, created_at, id);
+CREATE INDEX idx_products_category_sold ON products (category_id, sold_count, id);
+CREATE INDEX idx_products_category_viewed ON products (category_id, view_count, id);
+CREATE INDEX idx_products_category_price ON products (category_id, price, id);
+
+-- 전체 목록
+CREATE INDEX idx_products_created ON products (created_at, id);
+CREATE INDEX idx_products_sold ON products (sold_count, id);
+CREATE INDEX idx_products_viewed ON products (view_count, id);
+CREATE INDEX idx_products_price ON products (price, id);
@@ -0,0 +1,10 @@
+-- 재고 스트림 메시지 반영 이력 (재전달 시 상대값 UPDATE 중복 방지)
+-- 재고 UPDATE와 같은 트랜잭션에서 기록하므로 커밋된 메시지만 남음
+CREATE TABLE stock_stream_applied (
+    stream VARCHAR(64) NOT NULL COMMENT '스트림 키',
+    message_id VARCHAR(32) NOT NULL COMMENT '스트림 메시지 ID',
+    applied_at DATETIME(6) NOT NULL COMMENT '반영 시각',
+
+    PRIMARY KEY (stream, message_id),
+    INDEX idx_stock_stream_applied_applied_at (applied_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,218 @@
+package io.hhplus.ECommerce.ECommerce_project.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheTest {
+
+    private static final String CACHE_NAME = "productList";
+
+    @Mock
+    private TwoLevelCacheManager cacheManager;
+
+    private ConcurrentMapCache remoteCache;
+    private com.github.benmanes.caffeine.cache.Cache<String, TwoLevelCache.LocalEntry> localCache;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        remoteCache = new ConcurrentMapCache(CACHE_NAME);
+        localCache = Caffeine.newBuilder().build();
+        cache = new TwoLevelCache(CACHE_NAME, localCache, remoteCache, cacheManager, new CacheTagResolver() {
+            @Override
+            public String cacheName() {
+                return CACHE_NAME;
+            }
+
+            @Override
+            public Set<String> tags(Object key, Object value) {
+                return Set.of("category:1");
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("원본 조회 중 태그 무효화가 일어나면 방금 저장한 항목을 삭제한다")
+    void get_tagEvictedDuringLoad_evictsStoredEntry() {
+        // Given
+        given(cacheManager.tryAcquireLease(eq(CACHE_NAME), anyString())).willReturn(true);
+        given(cacheManager.addTags(eq(CACHE_NAME), eq("1_LATEST_0_20"), any(), any())).willReturn(true);
+        given(cacheManager.tagGeneration(CACHE_NAME)).willReturn(3L, 4L);
+
+        // When
+        String value = cache.get("1_LATEST_0_20", () -> "이전 값");
+
+        // Then
+        assertThat(value).isEqualTo("이전 값");
+        assertThat(remoteCache.get("1_LATEST_0_20")).isNull();
+        assertThat(localCache.getIfPresent("1_LATEST_0_20")).isNull();
+        verify(cacheManager).publishEvict(CACHE_NAME, "1_LATEST_0_20");
+    }
+
+    @Test
+    @DisplayName("원본 조회 중 태그 무효화가 없으면 L2와 L1에 저장한다")
+    void get_noTagEviction_storesEntry() {
+        // Given
+        given(cacheManager.tryAcquireLease(eq(CACHE_NAME), anyString())).willReturn(true);
+        given(cacheManager.addTags(eq(CACHE_NAME), eq("1_LATEST_0_20"), any(), any())).willReturn(true);
+        given(cacheManager.tagGeneration(CACHE_NAME)).willReturn(3L);
+
+        // When
+        cache.get("1_LATEST_0_20", () -> "값");
+
+        // Then
+        assertThat(remoteCache.get("1_LATEST_0_20").get()).isEqualTo("값");
+        assertThat(localCache.getIfPresent("1_LATEST_0_20")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("태그 등록에 실패하면 저장하지 않는다")
+    void get_addTagsFails_skipsStore() {
+        // Given
+        given(cacheManager.tryAcquireLease(eq(CACHE_NAME), anyString())).willReturn(true);
+        given(cacheManager.addTags(eq(CACHE_NAME), eq("1_LATEST_0_20"), any(), any())).willReturn(false);
+
+        // When
+        String value = cache.get("1_LATEST_0_20", () -> "값");
+
+        // Then
+        assertThat(value).isEqualTo("값");
+        assertThat(remoteCache.get("1_LATEST_0_20")).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 키를 동시에 조회하면 원본 조회는 한 번만 실행하고 결과를 공유한다")
+    void get_concurrentMiss_loadsOnce() throws Exception {
+        // Given
+        given(cacheManager.tryAcquireLease(eq(CACHE_NAME), anyString())).willReturn(true);
+        given(cacheManager.addTags(eq(CACHE_NAME), eq("1_LATEST_0_20"), any(), any())).willReturn(true);
+        given(cacheManager.tagGeneration(CACHE_NAME)).willReturn(3L);
+
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // When
+            Future<String> first = executor.submit(() -> cache.get("1_LATEST_0_20", () -> {
+                loadCount.incrementAndGet();
+                loading.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return "값";
+            }));
+            loading.await(5, TimeUnit.SECONDS);
+            Future<String> second = executor.submit(() -> cache.get("1_LATEST_0_20", () -> {
+                loadCount.incrementAndGet();
+                return "두 번째 적재";
+            }));
+            TimeUnit.MILLISECONDS.sleep(100);
+            release.countDown();
+
+            // Then
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("값");
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("값");
+            assertThat(loadCount).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("조기 갱신 중 원본 조회가 실패하면 기존 값을 반환한다")
+    void get_earlyRefreshFails_returnsCurrentValue() {
+        // Given
+        localCache.put("1_LATEST_0_20", new TwoLevelCache.LocalEntry("기존 값", new LoadInfo(100, 1)));
+        given(cacheManager.earlyRefreshBeta()).willReturn(1.0);
+        given(cacheManager.tryAcquireLease(eq(CACHE_NAME), anyString())).willReturn(true);
+        given(cacheManager.tagGeneration(CACHE_NAME)).willReturn(3L);
+
+        // When
+        String value = cache.get("1_LATEST_0_20", () -> {
+            throw new IllegalStateException("DB 장애");
+        });
+
+        // Then
+        assertThat(value).isEqualTo("기존 값");
+        verify(cacheManager).releaseLease(CACHE_NAME, "1_LATEST_0_20");
+    }
+
+    @Test
+    @DisplayName("캐시 미스에서 원본 조회가 실패하면 예외를 전파한다")
+    void get_coldMissFails_throws() {
+        // Given
+        given(cacheManager.tryAcquireLease(eq(CACHE_NAME), anyString())).willReturn(true);
+        given(cacheManager.tagGeneration(CACHE_NAME)).willReturn(3L);
+
+        // When & Then
+        assertThatThrownBy(() -> cache.get("1_LATEST_0_20", () -> {
+            throw new IllegalStateException("DB 장애");
+        })).isInstanceOf(Cache.ValueRetrievalException.class);
+    }
+
+    @Test
+    @DisplayName("원본 조회 중 같은 키가 삭제되면 적재한 값을 캐시에 남기지 않는다")
+    void get_evictedDuringLoad_discardsLoadedValue() {
+        // Given
+        given(cacheManager.tryAcquireLease(eq(CACHE_NAME), anyString())).willReturn(true);
+        given(cacheManager.addTags(eq(CACHE_NAME), eq("1_LATEST_0_20"), any(), any())).willReturn(true);
+        given(cacheManager.tagGeneration(CACHE_NAME)).willReturn(3L);
+
+        // When
+        String value = cache.get("1_LATEST_0_20", () -> {
+            cache.evict("1_LATEST_0_20");
+            return "이전 값";
+        });
+
+        // Then
+        assertThat(value).isEqualTo("이전 값");
+        assertThat(remoteCache.get("1_LATEST_0_20")).isNull();
+        assertThat(localCache.getIfPresent("1_LATEST_0_20")).isNull();
+    }
+
+    @Test
+    @DisplayName("L2에 없던 키를 저장하면 다른 노드에 무효화를 전파하지 않고, 덮어쓰면 전파한다")
+    void put_publishesEvictOnlyOnOverwrite() {
+        // Given
+        given(cacheManager.addTags(eq(CACHE_NAME), eq("1_LATEST_0_20"), any(), any())).willReturn(true);
+        given(cacheManager.tagGeneration(CACHE_NAME)).willReturn(3L);
+
+        // When
+        cache.put("1_LATEST_0_20", "값");
+
+        // Then
+        verify(cacheManager, never()).publishEvict(CACHE_NAME, "1_LATEST_0_20");
+
+        // When
+        cache.put("1_LATEST_0_20", "새 값");
+
+        // Then
+        assertThat(remoteCache.get("1_LATEST_0_20").get()).isEqualTo("새 값");
+        verify(cacheManager).publishEvict(CACHE_NAME, "1_LATEST_0_20");
+    }
+}
@@ -0,0 +1,102 @@
+package io.hhplus.ECommerce.ECommerce_project.common.cache.codec;
+
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductRedisCacheService.ProductCacheDto;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductCacheDtoCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactCacheSerializerTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 12, 1, 10, 30, 15, 123_000_000);
+
+    @Test
+    @DisplayName("코덱이 등록된 값은 바이너리로 저장했다가 같은 값으로 복원한다")
+    void serialize_thenDeserialize_roundTrip() {
+        // Given
+        CompactCacheSerializer<ProductCacheDto> serializer = serializer(0);
+        ProductCacheDto value = product("상품 설명");
+
+        // When
+        byte[] bytes = serializer.serialize(value);
+
+        // Then
+        assertThat(bytes[0]).isEqualTo((byte) 0xC7);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("압축 임계값 이상인 값은 LZ4로 압축해 저장하고 같은 값으로 복원한다")
+    void serialize_overThreshold_compressesAndRoundTrips() {
+        // Given
+        CompactCacheSerializer<ProductCacheDto> serializer = serializer(64);
+        ProductCacheDto value = product("소재와 사이즈, 배송 안내를 포함한 상세 설명입니다. ".repeat(20));
+
+        // When
+        byte[] bytes = serializer.serialize(value);
+
+        // Then
+        assertThat(bytes[3] & 0x01).isEqualTo(1);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("더 높은 스키마 버전으로 기록된 값은 캐시 미스(null)로 처리한다")
+    void deserialize_higherSchemaVersion_returnsNull() {
+        // Given
+        CompactCacheSerializer<ProductCacheDto> serializer = serializer(0);
+        byte[] bytes = serializer.serialize(product("상품 설명"));
+        bytes[2] = (byte) (new ProductCacheDtoCodec().schemaVersion() + 1);
+
+        // When
+        ProductCacheDto result = serializer.deserialize(bytes);
+
+        // Then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 코덱 ID로 기록된 값은 캐시 미스(null)로 처리한다")
+    void deserialize_unknownCodecId_returnsNull() {
+        // Given
+        CompactCacheSerializer<ProductCacheDto> serializer = serializer(0);
+        byte[] bytes = serializer.serialize(product("상품 설명"));
+        bytes[1] = (byte) 200;
+
+        // When
+        ProductCacheDto result = serializer.deserialize(bytes);
+
+        // Then
+        assertThat(result).isNull();
+    }
+
+    private CompactCacheSerializer<ProductCacheDto> serializer(int compressionThresholdBytes) {
+        return new CompactCacheSerializer<>(
+                new CacheCodecRegistry(List.of(new ProductCacheDtoCodec()), compressionThresholdBytes),
+                new Jackson2JsonRedisSerializer<>(ProductCacheDto.class));
+    }
+
+    private ProductCacheDto product(String description) {
+        return new ProductCacheDto(
+                1_000_000_000_001L,
+                10L,
+                "의류",
+                "상품 1",
+                description,
+                "19900.00",
+                100,
+                true,
+                37,
+                11,
+                1,
+                null,
+                CREATED_AT,
+                CREATED_AT.plusDays(1)
+        );
+    }
+}
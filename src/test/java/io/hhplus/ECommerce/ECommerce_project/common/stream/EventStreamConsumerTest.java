@@ -0,0 +1,189 @@
+package io.hhplus.ECommerce.ECommerce_project.common.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class EventStreamConsumerTest {
+
+    private static final String STREAM = "stream:test";
+    private static final String GROUP = "test-group";
+    private static final RecordId RECORD_ID = RecordId.of("1700000000000-0");
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    private TestHandler handler;
+    private EventStreamConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        handler = spy(new TestHandler());
+        consumer = new EventStreamConsumer(
+                redisTemplate, new ObjectMapper(), List.of(handler), 100, 30_000, 5, 100_000);
+        given(redisTemplate.<Object, Object>opsForStream()).willReturn(streamOperations);
+    }
+
+    @Test
+    @DisplayName("핸들러가 정상 반환한 뒤에 메시지를 ACK한다")
+    void poll_handlerSucceeds_acknowledgesAfterHandle() {
+        // Given
+        startWithPending(List.of());
+        given(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .willReturn(List.of(record()));
+
+        // When
+        consumer.poll();
+
+        // Then
+        InOrder inOrder = inOrder(handler, streamOperations);
+        inOrder.verify(handler).handle(anyList());
+        inOrder.verify(streamOperations).acknowledge(STREAM, GROUP, RECORD_ID.getValue());
+        assertThat(handler.received).containsExactly(new TestEvent(10L, 2));
+    }
+
+    @Test
+    @DisplayName("핸들러가 실패하면 ACK하지 않고 Pending으로 남긴다")
+    void poll_handlerFails_doesNotAcknowledge() {
+        // Given
+        startWithPending(List.of());
+        handler.failing = true;
+        given(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .willReturn(List.of(record()));
+
+        // When
+        consumer.poll();
+
+        // Then
+        verify(streamOperations, never()).acknowledge(anyString(), anyString(), any(String[].class));
+    }
+
+    @Test
+    @DisplayName("오래된 Pending 메시지는 XCLAIM으로 가져와 다시 처리한 뒤 ACK한다")
+    void initialize_stalePending_claimsAndRedelivers() {
+        // Given
+        given(streamOperations.claim(eq(STREAM), eq(GROUP), anyString(), any(Duration.class), eq(RECORD_ID)))
+                .willReturn(List.of(record()));
+
+        // When
+        startWithPending(List.of(pending(Duration.ofMinutes(1), 2)));
+
+        // Then
+        assertThat(handler.received).containsExactly(new TestEvent(10L, 2));
+        verify(streamOperations).acknowledge(STREAM, GROUP, RECORD_ID.getValue());
+        verify(streamOperations, never()).add(any(MapRecord.class));
+    }
+
+    @Test
+    @DisplayName("최대 전달 횟수를 넘긴 Pending 메시지는 처리하지 않고 Dead Letter 스트림으로 옮긴다")
+    void initialize_exhaustedPending_movesToDeadLetter() {
+        // Given
+        given(streamOperations.claim(eq(STREAM), eq(GROUP), anyString(), any(Duration.class), eq(RECORD_ID)))
+                .willReturn(List.of(record()));
+
+        // When
+        startWithPending(List.of(pending(Duration.ofMinutes(1), 5)));
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<MapRecord<String, String, String>> deadLetter = ArgumentCaptor.forClass(MapRecord.class);
+        verify(streamOperations).add(deadLetter.capture());
+        assertThat(deadLetter.getValue().getStream()).isEqualTo(EventStreams.DEAD_LETTER);
+        assertThat(deadLetter.getValue().getValue())
+                .containsEntry("sourceStream", STREAM)
+                .containsEntry("sourceGroup", GROUP)
+                .containsEntry("sourceId", RECORD_ID.getValue());
+
+        verify(streamOperations).acknowledge(STREAM, GROUP, RECORD_ID);
+        verify(handler, never()).handle(anyList());
+    }
+
+    private void startWithPending(List<PendingMessage> pending) {
+        given(streamOperations.pending(eq(STREAM), eq(GROUP), any(Range.class), anyLong()))
+                .willReturn(new PendingMessages(GROUP, pending));
+        consumer.initialize();
+    }
+
+    private MapRecord<String, Object, Object> record() {
+        return StreamRecords.newRecord()
+                .in(STREAM)
+                .withId(RECORD_ID)
+                .ofMap(Map.<Object, Object>of(
+                        EventStreams.FIELD_TYPE, "TestEvent",
+                        EventStreams.FIELD_PAYLOAD, "{\"productId\":10,\"quantity\":2}"
+                ));
+    }
+
+    private PendingMessage pending(Duration idle, long deliveries) {
+        return new PendingMessage(RECORD_ID, Consumer.from(GROUP, "other-node"), idle, deliveries);
+    }
+
+    record TestEvent(Long productId, Integer quantity) {}
+
+    static class TestHandler implements EventStreamHandler<TestEvent> {
+
+        final List<TestEvent> received = new ArrayList<>();
+        boolean failing;
+
+        @Override
+        public String stream() {
+            return STREAM;
+        }
+
+        @Override
+        public String group() {
+            return GROUP;
+        }
+
+        @Override
+        public Class<TestEvent> eventType() {
+            return TestEvent.class;
+        }
+
+        @Override
+        public void handle(List<StreamMessage<TestEvent>> messages) {
+            if (failing) {
+                throw new IllegalStateException("DB 반영 실패");
+            }
+            messages.forEach(message -> received.add(message.event()));
+        }
+    }
+}
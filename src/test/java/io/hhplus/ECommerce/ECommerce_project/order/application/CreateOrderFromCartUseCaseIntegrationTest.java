@@ -35,7 +35,10 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -366,6 +369,41 @@ class CreateOrderFromCartUseCaseIntegrationTest {
         assertThat(unchangedProduct.getStock()).isEqualTo(1);
     }
 
+    @Test
+    @DisplayName("일부 상품의 Redis 재고가 부족하면 어떤 상품의 재고도 차감되지 않는다")
+    void createOrder_fail_partialOutOfStock_noPartialDecrease() {
+        // Given
+        Cart cart1 = Cart.createCart(testUser, testProduct1, 2);
+        cart1 = cartRepository.save(cart1);
+
+        Cart cart2 = Cart.createCart(testUser, testProduct2, 3);
+        cart2 = cartRepository.save(cart2);
+
+        // 상품2의 Redis 재고만 부족하게 설정 (DB 검증은 통과)
+        redisStockService.setStock(testProduct2.getId(), 1);
+
+        CreateOrderFromCartCommand command = new CreateOrderFromCartCommand(
+                testUser.getId(),
+                List.of(cart1.getId(), cart2.getId()),
+                null,
+                null
+        );
+
+        int initialStock1 = testProduct1.getStock();
+
+        // When
+        ProductException exception = assertThrows(ProductException.class,
+                () -> createOrderFromCartUseCase.execute(command));
+
+        // Then
+        // 부족한 상품 ID만 메시지에 포함 (부분 문자열이 아닌 ID 목록 단위로 비교)
+        assertThat(shortProductIds(exception)).containsExactly(testProduct2.getId());
+
+        // 상품1 재고는 차감되지 않아야 함 (보상 없이도 원상태 유지)
+        assertThat(redisStockService.getStock(testProduct1.getId())).isEqualTo(initialStock1);
+        assertThat(redisStockService.getStock(testProduct2.getId())).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("포인트가 부족하면 주문 생성이 실패한다")
     void createOrder_fail_insufficientPoint() {
@@ -445,4 +483,16 @@ class CreateOrderFromCartUseCaseIntegrationTest {
         Long redisStock = redisStockService.getStock(testProduct1.getId());
         assertThat(redisStock).isEqualTo(initialStock - 5);
     }
+
+    /**
+     * 재고 부족 예외 메시지("재고가 부족한 상품: [1, 2]")에서 상품 ID 목록 추출
+     */
+    private List<Long> shortProductIds(ProductException exception) {
+        Matcher matcher = Pattern.compile("재고가 부족한 상품: \\[([\\d,\\s]*)]").matcher(exception.getMessage());
+        assertThat(matcher.find()).isTrue();
+        return Arrays.stream(matcher.group(1).split(","))
+                .map(String::trim)
+                .map(Long::valueOf)
+                .toList();
+    }
 }
\ No newline at end of file
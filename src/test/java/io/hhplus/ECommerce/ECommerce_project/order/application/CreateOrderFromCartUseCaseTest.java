@@ -0,0 +1,165 @@
+package io.hhplus.ECommerce.ECommerce_project.order.application;
+
+import io.hhplus.ECommerce.ECommerce_project.cart.application.service.CartFinderService;
+import io.hhplus.ECommerce.ECommerce_project.cart.domain.entity.Cart;
+import io.hhplus.ECommerce.ECommerce_project.cart.domain.service.CartDomainService;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.OrderException;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.service.CouponFinderService;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.service.UserCouponFinderService;
+import io.hhplus.ECommerce.ECommerce_project.coupon.domain.service.CouponDomainService;
+import io.hhplus.ECommerce.ECommerce_project.order.application.command.CreateOrderFromCartCommand;
+import io.hhplus.ECommerce.ECommerce_project.order.application.dto.WaitingRoomAdmission;
+import io.hhplus.ECommerce.ECommerce_project.order.application.service.OrderCompletionService;
+import io.hhplus.ECommerce.ECommerce_project.order.application.service.OrderWaitingRoomService;
+import io.hhplus.ECommerce.ECommerce_project.point.application.service.PointFinderService;
+import io.hhplus.ECommerce.ECommerce_project.point.domain.service.PointDomainService;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductFinderService;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.StockService;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.service.ProductDomainService;
+import io.hhplus.ECommerce.ECommerce_project.user.application.service.UserFinderService;
+import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
+import io.hhplus.ECommerce.ECommerce_project.user.domain.service.UserDomainService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CreateOrderFromCartUseCaseTest {
+
+    @Mock private StockService stockService;
+    @Mock private UserDomainService userDomainService;
+    @Mock private UserFinderService userFinderService;
+    @Mock private CartDomainService cartDomainService;
+    @Mock private CartFinderService cartFinderService;
+    @Mock private ProductDomainService productDomainService;
+    @Mock private ProductFinderService productFinderService;
+    @Mock private CouponDomainService couponDomainService;
+    @Mock private CouponFinderService couponFinderService;
+    @Mock private UserCouponFinderService userCouponFinderService;
+    @Mock private PointDomainService pointDomainService;
+    @Mock private PointFinderService pointFinderService;
+    @Mock private OrderCompletionService orderCompletionService;
+    @Mock private OrderWaitingRoomService orderWaitingRoomService;
+
+    @InjectMocks
+    private CreateOrderFromCartUseCase createOrderFromCartUseCase;
+
+    @Test
+    @DisplayName("장바구니에 대기열 입장 전 상품이 있으면 상품 조회/재고 확보 없이 거부한다")
+    void execute_notAdmitted_rejectsBeforeProductLookup() {
+        // Given
+        givenCart(1L, 10L, 2);
+        Map<Long, String> queueTokens = Map.of(10L, "token");
+        CreateOrderFromCartCommand command = new CreateOrderFromCartCommand(1L, List.of(1L), null, null, queueTokens);
+        willThrow(new OrderException(ErrorCode.ORDER_WAITING_ROOM_NOT_ADMITTED))
+                .given(orderWaitingRoomService).verify(1L, Set.of(10L), queueTokens);
+
+        // When & Then
+        assertThatThrownBy(() -> createOrderFromCartUseCase.execute(command))
+                .isInstanceOf(OrderException.class);
+
+        verify(productFinderService, never()).getProduct(anyLong());
+        verify(orderWaitingRoomService, never()).enter(anyLong(), any(), any());
+        verify(stockService, never()).reserveStocks(any());
+    }
+
+    @Test
+    @DisplayName("검증에 실패하면 입장 토큰을 사용하지 않는다")
+    void execute_validationFails_keepsToken() {
+        // Given
+        givenCart(1L, 10L, 2);
+        Product product = mock(Product.class);
+        given(productFinderService.getProduct(10L)).willReturn(product);
+        willThrow(new IllegalStateException("비활성 상품")).given(product).validateOrder(2);
+        CreateOrderFromCartCommand command =
+                new CreateOrderFromCartCommand(1L, List.of(1L), null, null, Map.of(10L, "token"));
+
+        // When & Then
+        assertThatThrownBy(() -> createOrderFromCartUseCase.execute(command))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(orderWaitingRoomService).verify(eq(1L), eq(Set.of(10L)), any());
+        verify(orderWaitingRoomService, never()).enter(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("토큰 사용 후 주문 생성이 실패하면 재고 홀드를 해제하고 입장 토큰을 반환한다")
+    void execute_completionFails_restoresToken() {
+        // Given
+        givenCart(1L, 10L, 2);
+        Product product = mock(Product.class);
+        given(product.getPrice()).willReturn(BigDecimal.valueOf(10_000));
+        given(productFinderService.getProduct(10L)).willReturn(product);
+
+        Map<Long, String> queueTokens = Map.of(10L, "token");
+        CreateOrderFromCartCommand command = new CreateOrderFromCartCommand(1L, List.of(1L), null, null, queueTokens);
+        List<WaitingRoomAdmission> admissions = List.of(new WaitingRoomAdmission(10L, 1L, "token", 1_000L));
+        given(orderWaitingRoomService.enter(1L, List.of(10L), queueTokens)).willReturn(admissions);
+        given(stockService.reserveStocks(any())).willReturn("hold-1");
+        given(orderCompletionService.completeOrderFromCart(eq(command), any()))
+                .willThrow(new IllegalStateException("주문 저장 실패"));
+
+        // When & Then
+        assertThatThrownBy(() -> createOrderFromCartUseCase.execute(command))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(stockService).releaseHold("hold-1");
+        verify(orderWaitingRoomService).restore(admissions);
+    }
+
+    @Test
+    @DisplayName("재고 확보에 실패하면 입장 토큰을 반환한다")
+    void execute_reserveFails_restoresToken() {
+        // Given
+        givenCart(1L, 10L, 2);
+        Product product = mock(Product.class);
+        given(product.getPrice()).willReturn(BigDecimal.valueOf(10_000));
+        given(productFinderService.getProduct(10L)).willReturn(product);
+
+        Map<Long, String> queueTokens = Map.of(10L, "token");
+        CreateOrderFromCartCommand command = new CreateOrderFromCartCommand(1L, List.of(1L), null, null, queueTokens);
+        List<WaitingRoomAdmission> admissions = List.of(new WaitingRoomAdmission(10L, 1L, "token", 1_000L));
+        given(orderWaitingRoomService.enter(1L, List.of(10L), queueTokens)).willReturn(admissions);
+        given(stockService.reserveStocks(any())).willThrow(new IllegalStateException("재고 부족"));
+
+        // When & Then
+        assertThatThrownBy(() -> createOrderFromCartUseCase.execute(command))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(orderWaitingRoomService).restore(admissions);
+        verify(orderCompletionService, never()).completeOrderFromCart(any(), any());
+    }
+
+    private void givenCart(Long cartId, Long productId, int quantity) {
+        User user = mock(User.class);
+        given(userFinderService.getUser(1L)).willReturn(user);
+
+        Product cartProduct = mock(Product.class);
+        given(cartProduct.getId()).willReturn(productId);
+
+        Cart cart = mock(Cart.class);
+        given(cart.getProduct()).willReturn(cartProduct);
+        given(cart.getQuantity()).willReturn(quantity);
+        given(cartFinderService.getCart(cartId)).willReturn(cart);
+    }
+}
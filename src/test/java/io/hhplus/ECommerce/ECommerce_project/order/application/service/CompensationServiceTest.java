@@ -0,0 +1,105 @@
+package io.hhplus.ECommerce.ECommerce_project.order.application.service;
+
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.service.CouponCompensationService;
+import io.hhplus.ECommerce.ECommerce_project.order.domain.entity.OrderItem;
+import io.hhplus.ECommerce.ECommerce_project.order.domain.entity.Orders;
+import io.hhplus.ECommerce.ECommerce_project.point.application.service.PointCompensationService;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.StockService;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CompensationServiceTest {
+
+    @Mock
+    private OrderItemFinderService orderItemFinderService;
+
+    @Mock
+    private StockService stockService;
+
+    @Mock
+    private CouponCompensationService couponCompensationService;
+
+    @Mock
+    private PointCompensationService pointCompensationService;
+
+    @InjectMocks
+    private CompensationService compensationService;
+
+    @Test
+    @DisplayName("결제 대기 주문은 홀드를 해제하고, 홀드가 없어도 주문 아이템 기준으로 복구하지 않는다")
+    void compensate_pendingOrder_releasesHoldOnly() {
+        // Given
+        Orders order = order(1L);
+        given(order.isPending()).willReturn(true);
+        given(stockService.releaseOrderHold(1L)).willReturn(false);
+
+        // When
+        compensationService.compensate(order);
+
+        // Then
+        verify(stockService).releaseOrderHold(1L);
+        verify(stockService, never()).compensateStock(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("결제 실패 주문은 커밋 전이라 홀드가 남아 있으므로 홀드를 해제한다")
+    void compensate_paymentFailedOrder_releasesHold() {
+        // Given
+        Orders order = order(1L);
+        given(order.isPaymentFailed()).willReturn(true);
+        given(stockService.releaseOrderHold(1L)).willReturn(true);
+
+        // When
+        compensationService.compensate(order);
+
+        // Then
+        verify(stockService).releaseOrderHold(1L);
+        verify(stockService, never()).compensateStock(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("판매 확정된 주문은 주문 아이템 기준으로 재고를 복구한다")
+    void compensate_confirmedOrder_restoresOrderItems() {
+        // Given
+        Orders order = order(1L);
+        Product product = mock(Product.class);
+        given(product.getId()).willReturn(10L);
+        OrderItem orderItem = mock(OrderItem.class);
+        given(orderItem.getProduct()).willReturn(product);
+        given(orderItem.getQuantity()).willReturn(3);
+        given(orderItemFinderService.getOrderItems(1L)).willReturn(List.of(orderItem));
+
+        // When
+        compensationService.compensate(order);
+
+        // Then
+        verify(stockService, never()).releaseOrderHold(anyLong());
+        verify(stockService).compensateStock(10L, 3);
+    }
+
+    private Orders order(Long orderId) {
+        User user = mock(User.class);
+        given(user.getId()).willReturn(100L);
+
+        Orders order = mock(Orders.class);
+        given(order.getId()).willReturn(orderId);
+        given(order.getUser()).willReturn(user);
+        return order;
+    }
+}
@@ -0,0 +1,83 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.service;
+
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ProductException;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.event.StockHoldConfirmedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class StockServiceHoldTest {
+
+    @Mock
+    private RedisStockService redisStockService;
+
+    @Mock
+    private RedisStockHoldService redisStockHoldService;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @InjectMocks
+    private StockService stockService;
+
+    @Test
+    @DisplayName("결제 중에는 홀드를 제거하지 않고, 커밋 후 확정 이벤트만 발행한다")
+    void confirmHold_defersRemovalUntilCommit() {
+        // Given
+        given(redisStockHoldService.prepareConfirm(1L)).willReturn(true);
+
+        // When
+        stockService.confirmHold(1L);
+
+        // Then
+        verify(redisStockHoldService, never()).confirmOrder(anyLong());
+        verify(applicationEventPublisher).publishEvent(new StockHoldConfirmedEvent(1L));
+    }
+
+    @Test
+    @DisplayName("홀드가 없는 주문은 결제할 수 없다")
+    void confirmHold_withoutHold_throws() {
+        // Given
+        given(redisStockHoldService.prepareConfirm(1L)).willReturn(false);
+
+        // When & Then
+        assertThrows(ProductException.class, () -> stockService.confirmHold(1L));
+        verify(applicationEventPublisher, never()).publishEvent(any(StockHoldConfirmedEvent.class));
+    }
+
+    @Test
+    @DisplayName("홀드 도입 전 주문은 주문 생성 시각 + 홀드 유효 시간에 만료되는 주문 홀드로 등록한다")
+    void adoptLegacyOrderHold_expiresFromOrderCreation() {
+        // Given
+        LocalDateTime orderedAt = LocalDateTime.of(2025, 12, 1, 10, 0);
+        List<Map.Entry<Long, Integer>> entries = List.of(Map.entry(10L, 2));
+        long expiresAtMillis = orderedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() + 900_000L;
+        given(redisStockHoldService.getHoldTtlMillis()).willReturn(900_000L);
+        given(redisStockHoldService.adoptOrder(1L, entries, expiresAtMillis)).willReturn(true);
+
+        // When
+        boolean adopted = stockService.adoptLegacyOrderHold(1L, entries, orderedAt);
+
+        // Then
+        assertThat(adopted).isTrue();
+        verify(redisStockService, never()).compensateStock(anyLong(), any());
+    }
+}
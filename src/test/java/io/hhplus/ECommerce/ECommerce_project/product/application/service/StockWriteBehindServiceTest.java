@@ -0,0 +1,173 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.service;
+
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ProductException;
+import io.hhplus.ECommerce.ECommerce_project.common.stream.StreamMessage;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.StockWriteBehindService.StockChange;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductStockJdbcRepository;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductStockJdbcRepository.StockDelta;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class StockWriteBehindServiceTest {
+
+    private static final String STREAM = "stream:stock:decreased";
+
+    @Mock
+    private ProductStockJdbcRepository productStockJdbcRepository;
+
+    @Mock
+    private ProductDetailCacheService productDetailCacheService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private StockWriteBehindService stockWriteBehindService;
+
+    @BeforeEach
+    void setUp() {
+        // 트랜잭션 없이 콜백만 실행 (롤백은 예외 전파로 확인)
+        willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+                .given(transactionTemplate).execute(any());
+
+        stockWriteBehindService = new StockWriteBehindService(
+                productStockJdbcRepository, productDetailCacheService, transactionTemplate, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("배치의 변화량을 상품별로 합산해 반영하고 메시지 ID를 기록한다")
+    void apply_mergesPerProduct() {
+        // Given
+        List<StockChange> changes = List.of(
+                decrease("1000-0", 1L, 2),
+                decrease("1000-1", 1L, 3),
+                decrease("1000-2", 2L, 1)
+        );
+        given(productStockJdbcRepository.findAppliedMessageIds(eq(STREAM), anyCollection())).willReturn(Set.of());
+
+        // When
+        stockWriteBehindService.apply(STREAM, changes);
+
+        // Then
+        verify(productStockJdbcRepository).applyStockDeltas(List.of(
+                new StockDelta(1L, 5, 5),
+                new StockDelta(2L, 1, 1)
+        ));
+        verify(productStockJdbcRepository).insertAppliedMessageIds(STREAM, List.of("1000-0", "1000-1", "1000-2"));
+        verify(productDetailCacheService).evict(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("재전달된 메시지 중 이미 반영된 메시지는 다시 반영하지 않는다")
+    void apply_redelivery_skipsAppliedMessages() {
+        // Given - 1000-0은 이전 전달에서 커밋됐지만 ACK 전에 노드가 죽어 재전달됨
+        List<StockChange> changes = List.of(
+                decrease("1000-0", 1L, 2),
+                decrease("1000-1", 1L, 3)
+        );
+        given(productStockJdbcRepository.findAppliedMessageIds(eq(STREAM), anyCollection()))
+                .willReturn(Set.of("1000-0"));
+
+        // When
+        stockWriteBehindService.apply(STREAM, changes);
+
+        // Then
+        verify(productStockJdbcRepository).applyStockDeltas(List.of(new StockDelta(1L, 3, 3)));
+        verify(productStockJdbcRepository).insertAppliedMessageIds(STREAM, List.of("1000-1"));
+    }
+
+    @Test
+    @DisplayName("모두 반영된 메시지면 UPDATE하지 않는다")
+    void apply_allApplied_noUpdate() {
+        // Given
+        given(productStockJdbcRepository.findAppliedMessageIds(eq(STREAM), anyCollection()))
+                .willReturn(Set.of("1000-0"));
+
+        // When
+        stockWriteBehindService.apply(STREAM, List.of(decrease("1000-0", 1L, 2)));
+
+        // Then
+        verify(productStockJdbcRepository, never()).applyStockDeltas(any());
+        verify(productStockJdbcRepository, never()).insertAppliedMessageIds(anyString(), anyCollection());
+        verify(productDetailCacheService, never()).evict(anyCollection());
+    }
+
+    @Test
+    @DisplayName("DB 반영이 실패하면 예외를 전파한다 (스트림 메시지가 ACK되지 않음)")
+    void apply_failure_propagates() {
+        // Given
+        given(productStockJdbcRepository.findAppliedMessageIds(eq(STREAM), anyCollection())).willReturn(Set.of());
+        willThrow(new DataIntegrityViolationException("db down"))
+                .given(productStockJdbcRepository).applyStockDeltas(any());
+
+        // When & Then
+        assertThrows(RuntimeException.class,
+                () -> stockWriteBehindService.apply(STREAM, List.of(decrease("1000-0", 1L, 2))));
+        verify(productDetailCacheService, never()).evict(anyCollection());
+    }
+
+    @Test
+    @DisplayName("배치 반영이 실패하면 상품별로 재시도해 정상 상품은 반영하고 실패한 상품만 예외로 알린다")
+    void apply_poisonProduct_isolated() {
+        // Given - 상품 2의 UPDATE는 항상 실패
+        given(productStockJdbcRepository.findAppliedMessageIds(eq(STREAM), anyCollection())).willReturn(Set.of());
+        willAnswer(invocation -> {
+            List<StockDelta> deltas = invocation.getArgument(0);
+            if (deltas.stream().anyMatch(delta -> delta.productId().equals(2L))) {
+                throw new DataIntegrityViolationException("constraint violation");
+            }
+            return List.of();
+        }).given(productStockJdbcRepository).applyStockDeltas(any());
+
+        List<StockChange> changes = List.of(
+                decrease("1000-0", 1L, 2),
+                decrease("1000-1", 2L, 1)
+        );
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> stockWriteBehindService.apply(STREAM, changes));
+        verify(productStockJdbcRepository).applyStockDeltas(List.of(new StockDelta(1L, 2, 2)));
+        verify(productStockJdbcRepository).insertAppliedMessageIds(STREAM, List.of("1000-0"));
+        verify(productDetailCacheService).evict(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("DB 재고가 부족해 UPDATE가 적용되지 않은 상품은 반영 기록 없이 예외로 알린다 (재전달 후 Dead Letter)")
+    void apply_insufficientDbStock_notRecordedAsApplied() {
+        // Given
+        given(productStockJdbcRepository.findAppliedMessageIds(eq(STREAM), anyCollection())).willReturn(Set.of());
+        given(productStockJdbcRepository.applyStockDeltas(List.of(new StockDelta(1L, 5, 5)))).willReturn(List.of(1L));
+
+        // When & Then
+        assertThrows(ProductException.class,
+                () -> stockWriteBehindService.apply(STREAM, List.of(decrease("1000-0", 1L, 5))));
+        verify(productStockJdbcRepository, never()).insertAppliedMessageIds(anyString(), anyCollection());
+        verify(productDetailCacheService, never()).evict(anyCollection());
+    }
+
+    private StockChange decrease(String messageId, Long productId, int quantity) {
+        return StockWriteBehindService.decrease(new StreamMessage<>(messageId, null), productId, quantity);
+    }
+}
@@ -0,0 +1,101 @@
+package io.hhplus.ECommerce.ECommerce_project.product.presentation;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ViewerIdResolverTest {
+
+    private final ViewerIdResolver viewerIdResolver = new ViewerIdResolver(List.of("10.0.0.1"), "test-secret");
+
+    @Test
+    @DisplayName("서명이 맞는 조회자 쿠키가 있으면 쿠키의 조회자 ID로 식별한다")
+    void resolve_withSignedCookie_usesCookie() {
+        // Given
+        String viewerId = UUID.randomUUID().toString();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ViewerIdResolver.VIEWER_COOKIE_NAME, viewerIdResolver.sign(viewerId)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        String result = viewerIdResolver.resolve(request, response);
+
+        // Then
+        assertThat(result).isEqualTo("session:" + viewerId);
+        assertThat(response.getCookie(ViewerIdResolver.VIEWER_COOKIE_NAME)).isNull();
+    }
+
+    @Test
+    @DisplayName("쿠키가 없으면 조회자 쿠키를 발급하고 발급한 조회자 ID로 식별한다")
+    void resolve_withoutCookie_issuesCookieAndUsesIssuedId() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("203.0.113.7");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        String result = viewerIdResolver.resolve(request, response);
+
+        // Then
+        Cookie issued = response.getCookie(ViewerIdResolver.VIEWER_COOKIE_NAME);
+        assertThat(issued).isNotNull();
+
+        String viewerId = result.substring("session:".length());
+        assertThat(issued.getValue()).isEqualTo(viewerIdResolver.sign(viewerId));
+
+        // 발급받은 쿠키로 다시 조회해도 같은 조회자
+        MockHttpServletRequest next = new MockHttpServletRequest();
+        next.setCookies(issued);
+        assertThat(viewerIdResolver.resolve(next, new MockHttpServletResponse())).isEqualTo(result);
+    }
+
+    @Test
+    @DisplayName("서명이 없거나 다른 키로 서명된 쿠키는 IP로 식별하고 조회자 쿠키를 다시 발급한다")
+    void resolve_unverifiedCookie_fallsBackToIp() {
+        // Given
+        String viewerId = UUID.randomUUID().toString();
+        ViewerIdResolver otherNode = new ViewerIdResolver(List.of(), "other-secret");
+
+        MockHttpServletRequest unsigned = new MockHttpServletRequest();
+        unsigned.setRemoteAddr("203.0.113.7");
+        unsigned.setCookies(new Cookie(ViewerIdResolver.VIEWER_COOKIE_NAME, viewerId));
+
+        MockHttpServletRequest foreign = new MockHttpServletRequest();
+        foreign.setRemoteAddr("203.0.113.7");
+        foreign.setCookies(new Cookie(ViewerIdResolver.VIEWER_COOKIE_NAME, otherNode.sign(viewerId)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When & Then
+        assertThat(viewerIdResolver.resolve(unsigned, new MockHttpServletResponse())).isEqualTo("ip:203.0.113.7");
+        assertThat(viewerIdResolver.resolve(foreign, response)).isEqualTo("ip:203.0.113.7");
+        assertThat(response.getCookie(ViewerIdResolver.VIEWER_COOKIE_NAME)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("신뢰 프록시를 거친 요청만 X-Forwarded-For의 클라이언트 IP를 사용한다")
+    void resolve_forwardedFor_trustedProxyOnly() {
+        // Given
+        Cookie forged = new Cookie(ViewerIdResolver.VIEWER_COOKIE_NAME, "임의의 값");
+
+        MockHttpServletRequest proxied = new MockHttpServletRequest();
+        proxied.setRemoteAddr("10.0.0.1");
+        proxied.addHeader("X-Forwarded-For", "1.1.1.1, 198.51.100.2");
+        proxied.setCookies(forged);
+
+        MockHttpServletRequest direct = new MockHttpServletRequest();
+        direct.setRemoteAddr("203.0.113.7");
+        direct.addHeader("X-Forwarded-For", "1.1.1.1");
+        direct.setCookies(forged);
+
+        // When & Then
+        assertThat(viewerIdResolver.resolve(proxied, new MockHttpServletResponse())).isEqualTo("ip:198.51.100.2");
+        assertThat(viewerIdResolver.resolve(direct, new MockHttpServletResponse())).isEqualTo("ip:203.0.113.7");
+    }
+}